@@ -172,6 +172,11 @@ public abstract class YangLeaf extends DefaultLocationInfo
      */
     private boolean defaultDenyAll;
 
+    /**
+     * Schema identifier shared by the data nodes of this schema node.
+     */
+    private transient volatile SchemaId schemaId;
+
     /**
      * Creates a YANG leaf.
      */
@@ -655,9 +660,15 @@ public abstract class YangLeaf extends DefaultLocationInfo
 
     @Override
     public SchemaId getSchemaId() {
-        SchemaId schemaId = new SchemaId(getName(), getNameSpace()
-                .getModuleNamespace());
-        return schemaId;
+        String name = getName();
+        String nameSpace = getNameSpace().getModuleNamespace();
+        SchemaId id = schemaId;
+        // Same name and namespace instances mean the identity is unchanged.
+        if (id == null || id.name() != name || id.namespace() != nameSpace) {
+            id = new SchemaId(name, nameSpace);
+            schemaId = id;
+        }
+        return id;
     }
 
 
@@ -188,6 +188,11 @@ public abstract class YangLeafList extends DefaultLocationInfo
      */
     private boolean defaultDenyAll;
 
+    /**
+     * Schema identifier shared by the data nodes of this schema node.
+     */
+    private transient volatile SchemaId schemaId;
+
     /**
      * Creates a YANG leaf-list.
      */
@@ -631,9 +636,15 @@ public abstract class YangLeafList extends DefaultLocationInfo
 
     @Override
     public SchemaId getSchemaId() {
-        SchemaId schemaId = new SchemaId(
-                this.getName(), this.getNameSpace().getModuleNamespace());
-        return schemaId;
+        String name = getName();
+        String nameSpace = getNameSpace().getModuleNamespace();
+        SchemaId id = schemaId;
+        // Same name and namespace instances mean the identity is unchanged.
+        if (id == null || id.name() != name || id.namespace() != nameSpace) {
+            id = new SchemaId(name, nameSpace);
+            schemaId = id;
+        }
+        return id;
     }
 
     @Override
@@ -1076,6 +1076,16 @@ public abstract class YangNode
         fileName = name;
     }
 
+    /**
+     * Returns true if the schema identifier of the node is set, which is
+     * the case for data nodes once their parent context is set.
+     *
+     * @return true if schema identifier is set; false otherwise
+     */
+    public boolean hasSchemaId() {
+        return schemaId != null;
+    }
+
     @Override
     public SchemaId getSchemaId() throws IllegalArgumentException {
         if (schemaId == null) {
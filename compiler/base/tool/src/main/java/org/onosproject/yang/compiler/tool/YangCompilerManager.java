@@ -41,6 +41,8 @@ import org.slf4j.Logger;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -70,8 +72,10 @@ import static org.onosproject.yang.compiler.datamodel.ResolvableType.YANG_IDENTI
 import static org.onosproject.yang.compiler.datamodel.utils.DataModelUtils.getDateInStringFormat;
 import static org.onosproject.yang.compiler.linker.impl.YangLinkerUtils.resolveGroupingInDefinationScope;
 import static org.onosproject.yang.compiler.translator.tojava.JavaCodeGeneratorUtil.generateJavaCode;
+import static org.onosproject.yang.compiler.translator.tojava.JavaCodeGeneratorUtil.translate;
 import static org.onosproject.yang.compiler.translator.tojava.JavaCodeGeneratorUtil.translatorErrorHandler;
 import static org.onosproject.yang.compiler.utils.UtilConstants.NEW_LINE;
+import static org.onosproject.yang.compiler.utils.UtilConstants.YANG_LINKED_META_DATA;
 import static org.onosproject.yang.compiler.utils.UtilConstants.YANG_META_DATA;
 import static org.onosproject.yang.compiler.utils.UtilConstants.YANG_RESOURCES;
 import static org.onosproject.yang.compiler.utils.io.impl.YangFileScanner.getJavaFiles;
@@ -179,6 +183,9 @@ public class YangCompilerManager implements YangCompilerService {
                     throw e;
                 }
 
+                // Serialize linked data model.
+                processLinkedSerialization(resourceGenDir);
+
                 // Perform translation to JAVA.
                 translateToJava(config);
 
@@ -389,6 +396,60 @@ public class YangCompilerManager implements YangCompilerService {
         }
     }
 
+    /**
+     * Process serialization of linked datamodel, along with the java info
+     * which runtime adds for its schema, so that runtime can register it
+     * without linking it again. Java info is added to a copy of the linked
+     * datamodel, as code generation later updates the schema in place. It
+     * is not emitted when the model depends on schema from other jars, as
+     * those are linked at runtime with the registered dependent schema.
+     *
+     * @param path path of resource directory
+     */
+    public void processLinkedSerialization(String path) {
+        for (YangFileInfo i : yangFileInfoSet) {
+            if (i.isInterJar()) {
+                return;
+            }
+        }
+        File serFile = new File(path + YANG_LINKED_META_DATA);
+        try {
+            YangModel linked = copyModel(model);
+            for (YangNode node : getYangNodes(linked)) {
+                if (!((YangDeviationHolder) node).isModuleForDeviation()) {
+                    translate(node, new YangPluginConfig(), false);
+                }
+            }
+            try (FileOutputStream out = new FileOutputStream(serFile);
+                 ObjectOutputStream objectOutputStream = new ObjectOutputStream(new BufferedOutputStream(out))) {
+                objectOutputStream.writeObject(linked);
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            log.info("Error while serializing linked YANG model", e);
+            serFile.delete();
+        }
+    }
+
+    /**
+     * Returns a deep copy of the given YANG model.
+     *
+     * @param model YANG model
+     * @return copy of YANG model
+     * @throws IOException            when fails to do IO operations
+     * @throws ClassNotFoundException when fails to load a copied class
+     */
+    private static YangModel copyModel(YangModel model)
+            throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(model);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (YangModel) in.readObject();
+        }
+    }
+
     private void setNodeInfo(Set<YangFileInfo> yangFileInfoSet,
                              List<YangNodeInfo> infos) {
         for (YangFileInfo i : yangFileInfoSet) {
@@ -451,6 +512,22 @@ public class YangCompilerManager implements YangCompilerService {
      */
     public static YangModel processYangModel(
             String path, List<YangNodeInfo> info, String modelId, boolean fromUt) {
+        return processYangModel(path, info, modelId, fromUt, false);
+    }
+
+    /**
+     * Returns YANG model for application.
+     *
+     * @param path    path for metadata file
+     * @param info    list of YANG node info
+     * @param modelId model id
+     * @param fromUt  if method is called from unit test
+     * @param linked  if YANG nodes are already linked and carry java info
+     * @return YANG model
+     */
+    public static YangModel processYangModel(
+            String path, List<YangNodeInfo> info, String modelId,
+            boolean fromUt, boolean linked) {
         YangModel.Builder b = DefaultYangModel.builder();
         YangModuleId id;
         for (YangNodeInfo i : info) {
@@ -464,6 +541,7 @@ public class YangCompilerManager implements YangCompilerService {
             YangModuleExtendedInfo module = new YangModuleExtendedInfo(
                     id, new File(path + fileName), new File(serFile), i.isInterJar());
             module.setSchema(i.getNode());
+            module.setLinked(linked);
             b.addModule(id, module);
         }
         return b.addModelId(modelId).build();
@@ -617,9 +695,30 @@ public class YangCompilerManager implements YangCompilerService {
      */
     public static YangModel parseJarFile(String jarFile, String directory)
             throws IOException {
+        File metaData = extractJarFile(jarFile, directory);
+        if (metaData == null) {
+            return null;
+        }
+        YangModel model = deSerializeDataModel(metaData.toString());
+        log.trace(" found {} at {}", model.getYangModelId(),
+                  metaData.getName());
+        return model;
+    }
+
+    /**
+     * Extracts .yang files, YangMetaData and YangLinkedMetaData from jar
+     * file to target directory, without deserializing any of them.
+     *
+     * @param jarFile   jar file to be parsed
+     * @param directory directory where to extract files to
+     * @return extracted YangMetaData file, null if the jar has none
+     * @throws IOException when fails to do IO operations
+     */
+    public static File extractJarFile(String jarFile, String directory)
+            throws IOException {
 
         log.trace("Searching YangModel in {}", jarFile);
-        YangModel model = null;
+        File metaData = null;
         try (JarFile jar = new JarFile(jarFile)) {
             Enumeration<?> enumEntries = jar.entries();
 
@@ -631,6 +730,7 @@ public class YangCompilerManager implements YangCompilerService {
             while (enumEntries.hasMoreElements()) {
                 JarEntry file = (JarEntry) enumEntries.nextElement();
                 if (file.getName().endsWith(YANG_META_DATA) ||
+                        file.getName().endsWith(YANG_LINKED_META_DATA) ||
                         file.getName().endsWith(".yang")) {
                     String name = getFileName(file.getName());
                     File serializedFile = new File(directory + SLASH +
@@ -646,17 +746,14 @@ public class YangCompilerManager implements YangCompilerService {
                         IOUtils.copy(inputStream, fileOutputStream);
                         fileOutputStream.close();
                         // FIXME hack to return first model found
-                        if (model == null &&
+                        if (metaData == null &&
                             serializedFile.getName().endsWith(YANG_META_DATA)) {
-                            model = deSerializeDataModel(serializedFile.toString());
-                            log.trace(" found {} at {}",
-                                      model.getYangModelId(),
-                                      serializedFile.getName());
+                            metaData = serializedFile;
                         }
                     }
                 }
             }
         }
-        return model;
+        return metaData;
     }
 }
@@ -29,6 +29,7 @@ import java.io.Serializable;
 public class YangModuleExtendedInfo extends DefaultYangModule implements Serializable {
 
     private YangNode schema;
+    private transient boolean linked;
 
     /**
      * Creates an instance of YANG module extended information.
@@ -71,4 +72,24 @@ public class YangModuleExtendedInfo extends DefaultYangModule implements Seriali
     public void setSchema(YangNode schema) {
         this.schema = schema;
     }
+
+    /**
+     * Returns true if schema info is already linked and carries the java
+     * info, false otherwise.
+     *
+     * @return true if schema info is linked
+     */
+    public boolean isLinked() {
+        return linked;
+    }
+
+    /**
+     * Sets the flag indicating if schema info is already linked and carries
+     * the java info.
+     *
+     * @param linked true if schema info is linked
+     */
+    public void setLinked(boolean linked) {
+        this.linked = linked;
+    }
 }
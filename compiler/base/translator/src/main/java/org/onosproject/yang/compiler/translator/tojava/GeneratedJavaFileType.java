@@ -113,6 +113,11 @@ public final class GeneratedJavaFileType {
      */
     public static final int GENERATE_RPC_EXTENDED_COMMAND_CLASS = 65536;
 
+    /**
+     * Model object codec class.
+     */
+    public static final int GENERATE_CODEC_CLASS = 131072;
+
     /**
      * Java classes for RPC.
      */
@@ -74,6 +74,7 @@ import static org.onosproject.yang.compiler.translator.tojava.YangJavaModelUtils
 import static org.onosproject.yang.compiler.translator.tojava.javamodel.AttributesJavaDataType.updateJavaFileInfo;
 import static org.onosproject.yang.compiler.translator.tojava.utils.JavaCodeSnippetGen.generateEnumAttributeString;
 import static org.onosproject.yang.compiler.translator.tojava.utils.JavaCodeSnippetGen.getJavaAttributeDefinition;
+import static org.onosproject.yang.compiler.translator.tojava.utils.JavaFileGenerator.generateCodecClassFile;
 import static org.onosproject.yang.compiler.translator.tojava.utils.JavaFileGenerator.generateDefaultClassFile;
 import static org.onosproject.yang.compiler.translator.tojava.utils.JavaFileGenerator.generateInterfaceFile;
 import static org.onosproject.yang.compiler.translator.tojava.utils.JavaFileGenerator.generateKeyClassFile;
@@ -91,6 +92,8 @@ import static org.onosproject.yang.compiler.translator.tojava.utils.MethodsGener
 import static org.onosproject.yang.compiler.translator.tojava.utils.MethodsGenerator.getSetterForClass;
 import static org.onosproject.yang.compiler.translator.tojava.utils.MethodsGenerator.getSetterString;
 import static org.onosproject.yang.compiler.translator.tojava.utils.MethodsGenerator.getToStringMethod;
+import static org.onosproject.yang.compiler.translator.tojava.utils.ModelObjectCodecGenerator.CODEC;
+import static org.onosproject.yang.compiler.translator.tojava.utils.ModelObjectCodecGenerator.isCodecSupported;
 import static org.onosproject.yang.compiler.translator.tojava.utils.StringGenerator.getImportString;
 import static org.onosproject.yang.compiler.translator.tojava.utils.StringGenerator.getOverRideString;
 import static org.onosproject.yang.compiler.translator.tojava.utils.TranslatorErrorType.INVALID_LEAF_HOLDER;
@@ -1682,6 +1685,12 @@ public class TempJavaFragmentFiles {
                             KEY_CLASS_FILE_NAME_SUFFIX));
             generateKeyClassFile(keyClassJavaFileHandle, curNode);
         }
+
+        if ((fileType & DEFAULT_CLASS_MASK) != 0 &&
+                isCodecSupported(curNode)) {
+            generateCodecClassFile(getJavaFileHandle(getJavaClassName(CODEC)),
+                                   curNode);
+        }
         //Close all the file handles.
         freeTemporaryResources(false);
     }
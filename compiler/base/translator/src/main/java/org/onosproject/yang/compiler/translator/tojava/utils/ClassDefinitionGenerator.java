@@ -28,6 +28,7 @@ import org.onosproject.yang.compiler.translator.tojava.JavaQualifiedTypeInfoTran
 import org.onosproject.yang.compiler.translator.tojava.TempJavaCodeFragmentFilesContainer;
 
 import static org.onosproject.yang.compiler.translator.tojava.GeneratedJavaFileType.DEFAULT_CLASS_MASK;
+import static org.onosproject.yang.compiler.translator.tojava.GeneratedJavaFileType.GENERATE_CODEC_CLASS;
 import static org.onosproject.yang.compiler.translator.tojava.GeneratedJavaFileType.GENERATE_ENUM_CLASS;
 import static org.onosproject.yang.compiler.translator.tojava.GeneratedJavaFileType.GENERATE_EVENT_CLASS;
 import static org.onosproject.yang.compiler.translator.tojava.GeneratedJavaFileType.GENERATE_EVENT_LISTENER_INTERFACE;
@@ -43,6 +44,7 @@ import static org.onosproject.yang.compiler.translator.tojava.GeneratedJavaFileT
 import static org.onosproject.yang.compiler.translator.tojava.GeneratedJavaFileType.GENERATE_UNION_CLASS;
 import static org.onosproject.yang.compiler.translator.tojava.GeneratedJavaFileType.INTERFACE_MASK;
 import static org.onosproject.yang.compiler.translator.tojava.utils.BracketType.OPEN_CLOSE_DIAMOND_WITH_VALUE;
+import static org.onosproject.yang.compiler.translator.tojava.utils.ModelObjectCodecGenerator.MODEL_OBJECT_CODEC;
 import static org.onosproject.yang.compiler.translator.tojava.utils.StringGenerator.brackets;
 import static org.onosproject.yang.compiler.translator.tojava.utils.StringGenerator.getAbstractClassDefinitionWithExtends;
 import static org.onosproject.yang.compiler.translator.tojava.utils.StringGenerator.getDefaultDefinition;
@@ -160,6 +162,8 @@ final class ClassDefinitionGenerator {
                 return getEventListenerDefinition(yangName);
             case GENERATE_KEY_CLASS:
                 return getKeyClassDefinition(yangName, curNode);
+            case GENERATE_CODEC_CLASS:
+                return getCodecClassDefinition(yangName, curNode);
             case GENERATE_EVENT_SUBJECT_CLASS:
                 return getClassDefinition(yangName);
             case GENERATE_IDENTITY_CLASS:
@@ -231,6 +235,23 @@ final class ClassDefinitionGenerator {
         return getDefaultDefinition(CLASS, yangName, PUBLIC);
     }
 
+    /**
+     * Returns model object codec class definition.
+     *
+     * @param yangName file name
+     * @param node     YANG container or list node
+     * @return definition
+     */
+    private static String getCodecClassDefinition(String yangName,
+                                                  YangNode node) {
+        String codec = MODEL_OBJECT_CODEC +
+                brackets(OPEN_CLOSE_DIAMOND_WITH_VALUE,
+                         DEFAULT_CAPS + getCapitalCase(getCamelCase(
+                                 node.getJavaClassNameOrBuiltInType(), null)),
+                         null);
+        return getDefinitionWithImplements(CLASS, yangName, PUBLIC, codec);
+    }
+
     /**
      * Returns impl file class definition.
      *
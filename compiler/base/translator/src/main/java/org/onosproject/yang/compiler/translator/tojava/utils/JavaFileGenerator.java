@@ -46,6 +46,7 @@ import java.util.List;
 import static java.util.Collections.sort;
 import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes.IDENTITYREF;
 import static org.onosproject.yang.compiler.translator.tojava.GeneratedJavaFileType.DEFAULT_CLASS_MASK;
+import static org.onosproject.yang.compiler.translator.tojava.GeneratedJavaFileType.GENERATE_CODEC_CLASS;
 import static org.onosproject.yang.compiler.translator.tojava.GeneratedJavaFileType.GENERATE_ENUM_CLASS;
 import static org.onosproject.yang.compiler.translator.tojava.GeneratedJavaFileType.GENERATE_EVENT_CLASS;
 import static org.onosproject.yang.compiler.translator.tojava.GeneratedJavaFileType.GENERATE_EVENT_LISTENER_INTERFACE;
@@ -125,6 +126,9 @@ import static org.onosproject.yang.compiler.translator.tojava.utils.MethodsGener
 import static org.onosproject.yang.compiler.translator.tojava.utils.MethodsGenerator.getUnionToStringMethod;
 import static org.onosproject.yang.compiler.translator.tojava.utils.JavaFileGeneratorUtils.getYangDataStructure;
 import static org.onosproject.yang.compiler.translator.tojava.utils.MethodsGenerator.isLeafValueSetInterface;
+import static org.onosproject.yang.compiler.translator.tojava.utils.ModelObjectCodecGenerator.CODEC;
+import static org.onosproject.yang.compiler.translator.tojava.utils.ModelObjectCodecGenerator.getCodecContents;
+import static org.onosproject.yang.compiler.translator.tojava.utils.ModelObjectCodecGenerator.getCodecImports;
 import static org.onosproject.yang.compiler.translator.tojava.utils.StringGenerator.getImportString;
 import static org.onosproject.yang.compiler.translator.tojava.utils.StringGenerator.getInterfaceLeafIdEnumMethods;
 import static org.onosproject.yang.compiler.translator.tojava.utils.StringGenerator.getIsValueLeafSet;
@@ -271,6 +275,31 @@ public final class JavaFileGenerator {
         return file;
     }
 
+    /**
+     * Returns generated model object codec class file for current container
+     * or list node.
+     *
+     * @param file    file
+     * @param curNode current YANG node
+     * @return model object codec class file
+     * @throws IOException when fails to write in file
+     */
+    public static File generateCodecClassFile(File file, YangNode curNode)
+            throws IOException {
+        String className = getCapitalCase(((JavaFileInfoContainer) curNode)
+                                                  .getJavaFileInfo()
+                                                  .getJavaName()) + CODEC;
+        initiateJavaFileGeneration(file, GENERATE_CODEC_CLASS,
+                                   getCodecImports(curNode), curNode,
+                                   className);
+
+        insertDataIntoJavaFile(file, getCodecContents(curNode));
+
+        insertDataIntoJavaFile(file, CLOSE_CURLY_BRACKET + NEW_LINE);
+
+        return formatFile(file);
+    }
+
     /**
      * Returns generated key class file for current list node.
      *
@@ -0,0 +1,488 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.compiler.translator.tojava.utils;
+
+import org.onosproject.yang.compiler.datamodel.YangContainer;
+import org.onosproject.yang.compiler.datamodel.YangLeaf;
+import org.onosproject.yang.compiler.datamodel.YangLeafList;
+import org.onosproject.yang.compiler.datamodel.YangLeavesHolder;
+import org.onosproject.yang.compiler.datamodel.YangList;
+import org.onosproject.yang.compiler.datamodel.YangModule;
+import org.onosproject.yang.compiler.datamodel.YangNode;
+import org.onosproject.yang.compiler.datamodel.YangSchemaNode;
+import org.onosproject.yang.compiler.datamodel.YangSubModule;
+import org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes;
+import org.onosproject.yang.compiler.translator.tojava.JavaFileInfoContainer;
+import org.onosproject.yang.compiler.translator.tojava.javamodel.JavaLeafInfoContainer;
+import org.onosproject.yang.compiler.utils.io.YangToJavaNamingConflictUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.onosproject.yang.compiler.translator.tojava.utils.JavaIdentifierSyntax.getEnumJavaAttribute;
+import static org.onosproject.yang.compiler.translator.tojava.utils.StringGenerator.getImportString;
+import static org.onosproject.yang.compiler.translator.tojava.utils.StringGenerator.getOverRideString;
+import static org.onosproject.yang.compiler.utils.UtilConstants.ADD_STRING;
+import static org.onosproject.yang.compiler.utils.UtilConstants.BIG_DECIMAL;
+import static org.onosproject.yang.compiler.utils.UtilConstants.BIG_INTEGER;
+import static org.onosproject.yang.compiler.utils.UtilConstants.DATA_NODE;
+import static org.onosproject.yang.compiler.utils.UtilConstants.DEFAULT_CAPS;
+import static org.onosproject.yang.compiler.utils.UtilConstants.EIGHT_SPACE_INDENTATION;
+import static org.onosproject.yang.compiler.utils.UtilConstants.FOUR_SPACE_INDENTATION;
+import static org.onosproject.yang.compiler.utils.UtilConstants.JAVA_MATH;
+import static org.onosproject.yang.compiler.utils.UtilConstants.MODEL_PKG;
+import static org.onosproject.yang.compiler.utils.UtilConstants.NEW_LINE;
+import static org.onosproject.yang.compiler.utils.UtilConstants.SIXTEEN_SPACE_INDENTATION;
+import static org.onosproject.yang.compiler.utils.UtilConstants.TO_CAPS;
+import static org.onosproject.yang.compiler.utils.UtilConstants.TWELVE_SPACE_INDENTATION;
+import static org.onosproject.yang.compiler.utils.UtilConstants.TWENTY_SPACE_INDENTATION;
+import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.getCamelCase;
+import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.getCapitalCase;
+
+/**
+ * Represents generator of the model object codec classes. A codec is
+ * generated for a top level container or list holding only leaves and leaf
+ * lists of built-in integer, boolean, decimal64 and string types; it converts
+ * the generated default class to and from data node without reflection.
+ */
+public final class ModelObjectCodecGenerator {
+
+    /**
+     * Suffix of the model object codec class name.
+     */
+    public static final String CODEC = "Codec";
+
+    /**
+     * Model object codec interface.
+     */
+    static final String MODEL_OBJECT_CODEC = "ModelObjectCodec";
+
+    private static final String INNER_NODE = "InnerNode";
+    private static final String LEAF_NODE = "LeafNode";
+    private static final String LEAF_TYPE = "LeafType";
+    private static final String OBJECT = "object";
+    private static final String LEAF = "leaf";
+    private static final String VALUE = "value";
+    private static final String NAMESPACE = "NAMESPACE";
+    private static final String LEAF_IDENTIFIER = "LeafIdentifier";
+
+    // No instantiation.
+    private ModelObjectCodecGenerator() {
+    }
+
+    /**
+     * Returns true if a model object codec is generated for the given node.
+     *
+     * @param node YANG node
+     * @return true if codec is generated; false otherwise
+     */
+    public static boolean isCodecSupported(YangNode node) {
+        if (!(node instanceof YangContainer || node instanceof YangList) ||
+                !(node.getParent() instanceof YangModule ||
+                        node.getParent() instanceof YangSubModule) ||
+                node.getReferredSchema() != null || node.getChild() != null) {
+            return false;
+        }
+        String ns = node.getNameSpace().getModuleNamespace();
+        YangLeavesHolder holder = (YangLeavesHolder) node;
+        if (holder.getListOfLeaf().isEmpty() &&
+                holder.getListOfLeafList().isEmpty()) {
+            return false;
+        }
+        for (YangLeaf leaf : holder.getListOfLeaf()) {
+            if (!isSupportedLeaf(leaf.getDataType().getDataType(), leaf, ns)) {
+                return false;
+            }
+        }
+        for (YangLeafList leafList : holder.getListOfLeafList()) {
+            if (!isSupportedLeaf(leafList.getDataType().getDataType(),
+                                 leafList, ns)) {
+                return false;
+            }
+        }
+
+        String name = getClassName(node);
+        List<String> used = new ArrayList<>();
+        used.add(DATA_NODE);
+        used.add(INNER_NODE);
+        used.add(LEAF_NODE);
+        used.add(LEAF_TYPE);
+        used.add(MODEL_OBJECT_CODEC);
+        used.add(BIG_INTEGER);
+        used.add(BIG_DECIMAL);
+        if (used.contains(name) || used.contains(DEFAULT_CAPS + name)) {
+            return false;
+        }
+        YangToJavaNamingConflictUtil resolver = getResolver(node);
+        YangNode sibling = node.getParent().getChild();
+        while (sibling != null) {
+            if (getCapitalCase(getCamelCase(sibling.getName(), resolver))
+                    .equals(name + CODEC)) {
+                return false;
+            }
+            sibling = sibling.getNextSibling();
+        }
+        return true;
+    }
+
+    /**
+     * Returns imports of the model object codec class of given node.
+     *
+     * @param node YANG container or list node
+     * @return imports
+     */
+    public static List<String> getCodecImports(YangNode node) {
+        List<String> imports = new ArrayList<>();
+        boolean bigInt = false;
+        boolean bigDec = false;
+        for (CodecLeaf leaf : getCodecLeaves(node)) {
+            bigInt = bigInt || leaf.type == YangDataTypes.UINT64;
+            bigDec = bigDec || leaf.type == YangDataTypes.DECIMAL64;
+        }
+        imports.add(getImportString(MODEL_PKG, DATA_NODE));
+        imports.add(getImportString(MODEL_PKG, INNER_NODE));
+        imports.add(getImportString(MODEL_PKG, LEAF_NODE));
+        imports.add(getImportString(MODEL_PKG, LEAF_TYPE));
+        imports.add(getImportString(MODEL_PKG, MODEL_OBJECT_CODEC));
+        if (bigDec) {
+            imports.add(getImportString(JAVA_MATH, BIG_DECIMAL));
+        }
+        if (bigInt) {
+            imports.add(getImportString(JAVA_MATH, BIG_INTEGER));
+        }
+        return imports;
+    }
+
+    /**
+     * Returns contents of the model object codec class of given node.
+     *
+     * @param node YANG container or list node
+     * @return model object codec class contents
+     */
+    public static String getCodecContents(YangNode node) {
+        String name = getClassName(node);
+        String defName = DEFAULT_CAPS + name;
+        List<CodecLeaf> leaves = getCodecLeaves(node);
+        return NEW_LINE + FOUR_SPACE_INDENTATION +
+                "private static final String " + NAMESPACE + " = " +
+                quoted(node.getNameSpace().getModuleNamespace()) + ";" +
+                NEW_LINE +
+                getModelClassMethod(defName) +
+                getEncodeMethod(node, name, defName, leaves) +
+                getDecodeMethod(defName, leaves);
+    }
+
+    // Returns model class method.
+    private static String getModelClassMethod(String defName) {
+        return getOverRideString() + FOUR_SPACE_INDENTATION + "public Class<" +
+                defName + "> modelClass() {" + NEW_LINE +
+                EIGHT_SPACE_INDENTATION + "return " + defName + ".class;" +
+                NEW_LINE + FOUR_SPACE_INDENTATION + "}" + NEW_LINE;
+    }
+
+    // Returns encode method, which leaves augmented objects to reflection.
+    private static String getEncodeMethod(YangNode node, String name,
+                                          String defName,
+                                          List<CodecLeaf> leaves) {
+        String nodeType = node instanceof YangList ?
+                "MULTI_INSTANCE_NODE" : "SINGLE_INSTANCE_NODE";
+        StringBuilder builder = new StringBuilder(getOverRideString())
+                .append(FOUR_SPACE_INDENTATION).append("public ")
+                .append(DATA_NODE).append(" encode(").append(defName)
+                .append(" ").append(OBJECT).append(") {").append(NEW_LINE)
+                .append(EIGHT_SPACE_INDENTATION)
+                .append("if (!object.augmentations().isEmpty()) {")
+                .append(NEW_LINE).append(TWELVE_SPACE_INDENTATION)
+                .append("return null;").append(NEW_LINE)
+                .append(EIGHT_SPACE_INDENTATION).append("}").append(NEW_LINE)
+                .append(EIGHT_SPACE_INDENTATION).append(INNER_NODE)
+                .append(".Builder builder = ").append(INNER_NODE)
+                .append(".builder(").append(quoted(node.getName()))
+                .append(", ").append(NAMESPACE).append(")")
+                .append(NEW_LINE).append(SIXTEEN_SPACE_INDENTATION)
+                .append(".type(").append(DATA_NODE).append(".Type.")
+                .append(nodeType).append(");").append(NEW_LINE);
+
+        for (CodecLeaf leaf : leaves) {
+            String getter = OBJECT + "." + leaf.javaName + "()";
+            if (leaf.leafList) {
+                builder.append(EIGHT_SPACE_INDENTATION).append("if (")
+                        .append(getter).append(" != null) {").append(NEW_LINE)
+                        .append(TWELVE_SPACE_INDENTATION).append("for (")
+                        .append(leaf.wrapperType).append(" ").append(VALUE)
+                        .append(" : ").append(getter).append(") {")
+                        .append(NEW_LINE).append(SIXTEEN_SPACE_INDENTATION)
+                        .append("builder.createChildBuilder(")
+                        .append(quoted(leaf.name)).append(", ")
+                        .append(NAMESPACE).append(", ").append(VALUE)
+                        .append(")").append(NEW_LINE)
+                        .append(TWENTY_SPACE_INDENTATION).append(".type(")
+                        .append(DATA_NODE)
+                        .append(".Type.MULTI_INSTANCE_LEAF_VALUE_NODE)")
+                        .append(NEW_LINE).append(TWENTY_SPACE_INDENTATION)
+                        .append(".leafType(").append(LEAF_TYPE).append(".")
+                        .append(leaf.type.name()).append(")")
+                        .append(NEW_LINE).append(TWENTY_SPACE_INDENTATION)
+                        .append(".addLeafListValue(").append(VALUE)
+                        .append(").exitNode();").append(NEW_LINE)
+                        .append(TWELVE_SPACE_INDENTATION).append("}")
+                        .append(NEW_LINE).append(EIGHT_SPACE_INDENTATION)
+                        .append("}").append(NEW_LINE);
+                continue;
+            }
+
+            builder.append(EIGHT_SPACE_INDENTATION).append("if (");
+            if (leaf.primitive) {
+                builder.append(OBJECT).append(".isLeafValueSet(").append(name)
+                        .append(".").append(LEAF_IDENTIFIER).append(".")
+                        .append(getEnumJavaAttribute(leaf.javaName)
+                                        .toUpperCase())
+                        .append(")");
+            } else {
+                builder.append(getter).append(" != null");
+            }
+            builder.append(") {").append(NEW_LINE);
+            if (leaf.key) {
+                builder.append(TWELVE_SPACE_INDENTATION)
+                        .append("builder.addKeyLeaf(").append(quoted(leaf.name))
+                        .append(", ").append(NAMESPACE).append(", ")
+                        .append(getter).append(");").append(NEW_LINE);
+            }
+            if (leaf.primitive) {
+                builder.append(TWELVE_SPACE_INDENTATION).append(LEAF_NODE)
+                        .append(".builder(").append(quoted(leaf.name))
+                        .append(", ").append(NAMESPACE)
+                        .append(").parent(builder)").append(NEW_LINE);
+            } else {
+                builder.append(TWELVE_SPACE_INDENTATION)
+                        .append("builder.createChildBuilder(")
+                        .append(quoted(leaf.name)).append(", ")
+                        .append(NAMESPACE).append(", ").append(getter)
+                        .append(")").append(NEW_LINE);
+            }
+            builder.append(SIXTEEN_SPACE_INDENTATION).append(".type(")
+                    .append(DATA_NODE)
+                    .append(".Type.SINGLE_INSTANCE_LEAF_VALUE_NODE)")
+                    .append(NEW_LINE);
+            if (leaf.type == YangDataTypes.BOOLEAN) {
+                builder.append(SIXTEEN_SPACE_INDENTATION)
+                        .append(".booleanValue(").append(getter).append(")")
+                        .append(NEW_LINE);
+            } else if (leaf.primitive) {
+                builder.append(SIXTEEN_SPACE_INDENTATION)
+                        .append(".longValue(").append(LEAF_TYPE).append(".")
+                        .append(leaf.type.name()).append(", ").append(getter)
+                        .append(")").append(NEW_LINE);
+            }
+            builder.append(SIXTEEN_SPACE_INDENTATION).append(".leafType(")
+                    .append(LEAF_TYPE).append(".").append(leaf.type.name())
+                    .append(").exitNode();").append(NEW_LINE)
+                    .append(EIGHT_SPACE_INDENTATION).append("}")
+                    .append(NEW_LINE);
+        }
+        builder.append(EIGHT_SPACE_INDENTATION).append("return builder.build();")
+                .append(NEW_LINE).append(FOUR_SPACE_INDENTATION).append("}")
+                .append(NEW_LINE);
+        return builder.toString();
+    }
+
+    // Returns decode method, which leaves unknown data nodes to reflection.
+    private static String getDecodeMethod(String defName,
+                                          List<CodecLeaf> leaves) {
+        StringBuilder builder = new StringBuilder(getOverRideString())
+                .append(FOUR_SPACE_INDENTATION).append("public ")
+                .append(defName).append(" decode(").append(DATA_NODE)
+                .append(" node) {").append(NEW_LINE)
+                .append(EIGHT_SPACE_INDENTATION).append(defName).append(" ")
+                .append(OBJECT).append(" = new ").append(defName).append("();")
+                .append(NEW_LINE).append(EIGHT_SPACE_INDENTATION)
+                .append("for (").append(DATA_NODE).append(" child : ((")
+                .append(INNER_NODE)
+                .append(") node).childNodes().values()) {").append(NEW_LINE)
+                .append(TWELVE_SPACE_INDENTATION).append("if (!(child instanceof ")
+                .append(LEAF_NODE).append(") ||").append(NEW_LINE)
+                .append(TWENTY_SPACE_INDENTATION).append("!").append(NAMESPACE)
+                .append(".equals(child.key().schemaId().namespace())) {")
+                .append(NEW_LINE).append(SIXTEEN_SPACE_INDENTATION)
+                .append("return null;").append(NEW_LINE)
+                .append(TWELVE_SPACE_INDENTATION).append("}").append(NEW_LINE)
+                .append(TWELVE_SPACE_INDENTATION).append(LEAF_NODE).append(" ")
+                .append(LEAF).append(" = (").append(LEAF_NODE)
+                .append(") child;").append(NEW_LINE)
+                .append(TWELVE_SPACE_INDENTATION)
+                .append("if (!leaf.hasValue()) {").append(NEW_LINE)
+                .append(SIXTEEN_SPACE_INDENTATION).append("continue;")
+                .append(NEW_LINE).append(TWELVE_SPACE_INDENTATION).append("}")
+                .append(NEW_LINE).append(TWELVE_SPACE_INDENTATION)
+                .append("switch (leaf.key().schemaId().name()) {")
+                .append(NEW_LINE);
+
+        for (CodecLeaf leaf : leaves) {
+            String setter = leaf.leafList ?
+                    ADD_STRING + TO_CAPS + getCapitalCase(leaf.javaName) :
+                    leaf.javaName;
+            builder.append(SIXTEEN_SPACE_INDENTATION).append("case ")
+                    .append(quoted(leaf.name)).append(":").append(NEW_LINE)
+                    .append(TWENTY_SPACE_INDENTATION).append(OBJECT)
+                    .append(".").append(setter).append("(")
+                    .append(leaf.decodedValue).append(");").append(NEW_LINE)
+                    .append(TWENTY_SPACE_INDENTATION).append("break;")
+                    .append(NEW_LINE);
+        }
+        builder.append(SIXTEEN_SPACE_INDENTATION).append("default:")
+                .append(NEW_LINE).append(TWENTY_SPACE_INDENTATION)
+                .append("return null;").append(NEW_LINE)
+                .append(TWELVE_SPACE_INDENTATION).append("}").append(NEW_LINE)
+                .append(EIGHT_SPACE_INDENTATION).append("}").append(NEW_LINE)
+                .append(EIGHT_SPACE_INDENTATION).append("return ")
+                .append(OBJECT).append(";").append(NEW_LINE)
+                .append(FOUR_SPACE_INDENTATION).append("}").append(NEW_LINE);
+        return builder.toString();
+    }
+
+    // Returns true if leaf of the given type is converted by the codec.
+    private static boolean isSupportedLeaf(YangDataTypes type,
+                                           YangSchemaNode leaf, String ns) {
+        if (!ns.equals(leaf.getNameSpace().getModuleNamespace())) {
+            return false;
+        }
+        switch (type) {
+            case INT8:
+            case INT16:
+            case INT32:
+            case INT64:
+            case UINT8:
+            case UINT16:
+            case UINT32:
+            case UINT64:
+            case BOOLEAN:
+            case DECIMAL64:
+            case STRING:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    // Returns leaves of the node, followed by its leaf lists.
+    private static List<CodecLeaf> getCodecLeaves(YangNode node) {
+        YangToJavaNamingConflictUtil resolver = getResolver(node);
+        YangLeavesHolder holder = (YangLeavesHolder) node;
+        List<CodecLeaf> leaves = new ArrayList<>();
+        for (YangLeaf leaf : holder.getListOfLeaf()) {
+            boolean key = node instanceof YangList &&
+                    ((YangList) node).getKeyList().contains(leaf.getName());
+            leaves.add(new CodecLeaf(
+                    leaf.getName(),
+                    ((JavaLeafInfoContainer) leaf).getJavaName(resolver),
+                    leaf.getDataType().getDataType(), key, false));
+        }
+        for (YangLeafList leafList : holder.getListOfLeafList()) {
+            leaves.add(new CodecLeaf(
+                    leafList.getName(),
+                    ((JavaLeafInfoContainer) leafList).getJavaName(resolver),
+                    leafList.getDataType().getDataType(), false, true));
+        }
+        return leaves;
+    }
+
+    // Returns naming conflict resolver of the node.
+    private static YangToJavaNamingConflictUtil getResolver(YangNode node) {
+        return ((JavaFileInfoContainer) node).getJavaFileInfo()
+                .getPluginConfig().getConflictResolver();
+    }
+
+    // Returns generated interface name of the node.
+    private static String getClassName(YangNode node) {
+        return getCapitalCase(((JavaFileInfoContainer) node).getJavaFileInfo()
+                                      .getJavaName());
+    }
+
+    // Returns string literal of given value.
+    private static String quoted(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    /**
+     * Represents a leaf or leaf list converted by the codec.
+     */
+    private static final class CodecLeaf {
+
+        private final String name;
+        private final String javaName;
+        private final YangDataTypes type;
+        private final boolean key;
+        private final boolean leafList;
+        private final boolean primitive;
+        private final String wrapperType;
+        private final String decodedValue;
+
+        private CodecLeaf(String name, String javaName, YangDataTypes type,
+                          boolean key, boolean leafList) {
+            this.name = name;
+            this.javaName = javaName;
+            this.type = type;
+            this.key = key;
+            this.leafList = leafList;
+            switch (type) {
+                case INT8:
+                    primitive = true;
+                    wrapperType = "Byte";
+                    decodedValue = "(byte) leaf.intValue()";
+                    break;
+                case INT16:
+                case UINT8:
+                    primitive = true;
+                    wrapperType = "Short";
+                    decodedValue = "(short) leaf.intValue()";
+                    break;
+                case INT32:
+                case UINT16:
+                    primitive = true;
+                    wrapperType = "Integer";
+                    decodedValue = "leaf.intValue()";
+                    break;
+                case INT64:
+                case UINT32:
+                    primitive = true;
+                    wrapperType = "Long";
+                    decodedValue = "leaf.longValue()";
+                    break;
+                case BOOLEAN:
+                    primitive = true;
+                    wrapperType = "Boolean";
+                    decodedValue = "leaf.booleanValue()";
+                    break;
+                case UINT64:
+                    primitive = false;
+                    wrapperType = BIG_INTEGER;
+                    decodedValue = "(" + BIG_INTEGER + ") leaf.value()";
+                    break;
+                case DECIMAL64:
+                    primitive = false;
+                    wrapperType = BIG_DECIMAL;
+                    decodedValue = "(" + BIG_DECIMAL + ") leaf.value()";
+                    break;
+                default:
+                    primitive = false;
+                    wrapperType = "String";
+                    decodedValue = "(String) leaf.value()";
+                    break;
+            }
+        }
+    }
+}
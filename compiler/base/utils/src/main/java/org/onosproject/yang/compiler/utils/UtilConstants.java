@@ -1805,6 +1805,11 @@ public final class UtilConstants {
      */
     public static final String YANG_META_DATA = "YangMetaData.ser";
 
+    /**
+     * Linked meta data file name.
+     */
+    public static final String YANG_LINKED_META_DATA = "YangLinkedMetaData.ser";
+
     /**
      * Static attribute for concurrent import package.
      */
@@ -79,6 +79,9 @@ import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.getSmallCa
  */
 public final class JavaDocGen {
 
+    private static final String CODEC_CLASS_JAVA_DOC =
+            " * Represents the model object codec of ";
+
     /**
      * Creates an instance of java doc gen.
      */
@@ -105,6 +108,9 @@ public final class JavaDocGen {
             case OPERATION_CLASS: {
                 return generateForOpParamClass(name);
             }
+            case CODEC_CLASS: {
+                return generateForCodecClass(name);
+            }
             case INTERFACE: {
                 return generateForInterface(name);
             }
@@ -255,6 +261,17 @@ public final class JavaDocGen {
         }
     }
 
+    /**
+     * Generates javaDocs for the model object codec class.
+     *
+     * @param className class name
+     * @return javaDocs
+     */
+    private static String generateForCodecClass(String className) {
+        return getJavaDocForClass(className, CODEC_CLASS_JAVA_DOC,
+                                  EMPTY_STRING);
+    }
+
     /**
      * Generates javaDoc for the interface.
      *
@@ -931,6 +948,11 @@ public final class JavaDocGen {
         /**
          * For RPC extended command.
          */
-        RPC_EXTENDED_CMD
+        RPC_EXTENDED_CMD,
+
+        /**
+         * For model object codec.
+         */
+        CODEC_CLASS
     }
 }
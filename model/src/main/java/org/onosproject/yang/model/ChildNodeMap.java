@@ -0,0 +1,395 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Represents the insertion ordered map of child data nodes of an inner
+ * node. Most inner nodes, such as list entries, hold only a few children,
+ * so the children are kept in an inline array of keys and nodes, allocated
+ * on first insertion and searched linearly. Past a small number of children
+ * the map is promoted to a linked hash map, and stays promoted.
+ * <p>
+ * A map of a persistent inner node is frozen once the node is built; it is
+ * then never modified, and builders editing the node work on a copy.
+ */
+final class ChildNodeMap extends AbstractMap<NodeKey, DataNode> {
+
+    /**
+     * Number of children above which the map is promoted to a hash map.
+     */
+    static final int MAX_INLINE = 8;
+
+    private static final int INITIAL_INLINE = 2;
+
+    // Keys and nodes are interleaved, with the key at the even index.
+    private Object[] table;
+    private int size;
+    private int modCount;
+
+    // Hash map of the children, once promoted.
+    private Map<NodeKey, DataNode> promoted;
+
+    private Set<Entry<NodeKey, DataNode>> entrySet;
+
+    private boolean frozen;
+
+    /**
+     * Creates an empty child node map.
+     */
+    ChildNodeMap() {
+    }
+
+    /**
+     * Creates a modifiable copy of the given child node map.
+     *
+     * @param map child node map
+     */
+    private ChildNodeMap(ChildNodeMap map) {
+        if (map.promoted != null) {
+            promoted = new LinkedHashMap<>(map.promoted);
+        } else if (map.size > 0) {
+            table = map.table.clone();
+            size = map.size;
+        }
+    }
+
+    /**
+     * Returns a modifiable copy of this map. The child nodes themselves are
+     * shared with this map.
+     *
+     * @return copy of the map
+     */
+    ChildNodeMap copy() {
+        return new ChildNodeMap(this);
+    }
+
+    /**
+     * Freezes the map, after which any modification is rejected.
+     */
+    void freeze() {
+        frozen = true;
+    }
+
+    /**
+     * Returns true if the map is frozen.
+     *
+     * @return true if frozen; false otherwise
+     */
+    boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Returns true if the children are held in a hash map.
+     *
+     * @return true if promoted; false otherwise
+     */
+    boolean isPromoted() {
+        return promoted != null;
+    }
+
+    @Override
+    public int size() {
+        return promoted != null ? promoted.size() : size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (promoted != null) {
+            return promoted.containsKey(key);
+        }
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public DataNode get(Object key) {
+        if (promoted != null) {
+            return promoted.get(key);
+        }
+        int i = indexOf(key);
+        return i < 0 ? null : (DataNode) table[i + 1];
+    }
+
+    @Override
+    public DataNode put(NodeKey key, DataNode node) {
+        checkNotFrozen();
+        if (promoted != null) {
+            return promoted.put(key, node);
+        }
+        int i = indexOf(key);
+        if (i >= 0) {
+            DataNode old = (DataNode) table[i + 1];
+            table[i + 1] = node;
+            return old;
+        }
+        if (size == MAX_INLINE) {
+            promote();
+            return promoted.put(key, node);
+        }
+        if (table == null) {
+            table = new Object[INITIAL_INLINE << 1];
+        } else if (size << 1 == table.length) {
+            Object[] grown = new Object[table.length << 1];
+            System.arraycopy(table, 0, grown, 0, table.length);
+            table = grown;
+        }
+        table[size << 1] = key;
+        table[(size << 1) + 1] = node;
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public DataNode remove(Object key) {
+        checkNotFrozen();
+        if (promoted != null) {
+            return promoted.remove(key);
+        }
+        int i = indexOf(key);
+        if (i < 0) {
+            return null;
+        }
+        DataNode old = (DataNode) table[i + 1];
+        removeAt(i);
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        checkNotFrozen();
+        if (promoted != null) {
+            promoted.clear();
+            return;
+        }
+        table = null;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public Set<Entry<NodeKey, DataNode>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new UnsupportedOperationException(
+                    "child nodes of a persistent node can't be modified");
+        }
+    }
+
+    /**
+     * Returns the table index of the given key; -1 if not present.
+     *
+     * @param key node key
+     * @return table index of the key
+     */
+    private int indexOf(Object key) {
+        int end = size << 1;
+        for (int i = 0; i < end; i += 2) {
+            // Node keys handed out by schema nodes are shared, so the
+            // identity check usually decides.
+            if (table[i] == key || key != null && key.equals(table[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Removes the entry at the given table index, keeping the order of the
+     * remaining entries.
+     *
+     * @param i table index of the entry
+     */
+    private void removeAt(int i) {
+        int end = size << 1;
+        System.arraycopy(table, i + 2, table, i, end - i - 2);
+        table[end - 2] = null;
+        table[end - 1] = null;
+        size--;
+        if (size == 0) {
+            table = null;
+        }
+        modCount++;
+    }
+
+    /**
+     * Moves the inline entries to a linked hash map.
+     */
+    private void promote() {
+        Map<NodeKey, DataNode> map = new LinkedHashMap<>();
+        for (int i = 0; i < size << 1; i += 2) {
+            map.put((NodeKey) table[i], (DataNode) table[i + 1]);
+        }
+        promoted = map;
+        table = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Represents the entry set view of the map.
+     */
+    private final class EntrySet extends AbstractSet<Entry<NodeKey, DataNode>> {
+
+        @Override
+        public Iterator<Entry<NodeKey, DataNode>> iterator() {
+            if (promoted != null) {
+                Map<NodeKey, DataNode> map = frozen ?
+                        Collections.unmodifiableMap(promoted) : promoted;
+                return map.entrySet().iterator();
+            }
+            return new InlineIterator();
+        }
+
+        @Override
+        public int size() {
+            return ChildNodeMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            ChildNodeMap.this.clear();
+        }
+    }
+
+    /**
+     * Represents the iterator over the inline entries.
+     */
+    private final class InlineIterator
+            implements Iterator<Entry<NodeKey, DataNode>> {
+
+        private int next;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next < size << 1;
+        }
+
+        @Override
+        public Entry<NodeKey, DataNode> next() {
+            checkModCount();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = next;
+            next += 2;
+            return new InlineEntry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            checkNotFrozen();
+            checkModCount();
+            removeAt(last);
+            next = last;
+            last = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkModCount() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Represents an inline entry, writing the value through to the table.
+     */
+    private final class InlineEntry implements Entry<NodeKey, DataNode> {
+
+        private final NodeKey key;
+        private DataNode value;
+        private final int index;
+
+        private InlineEntry(int index) {
+            this.index = index;
+            key = (NodeKey) table[index];
+            value = (DataNode) table[index + 1];
+        }
+
+        @Override
+        public NodeKey getKey() {
+            return key;
+        }
+
+        @Override
+        public DataNode getValue() {
+            return value;
+        }
+
+        @Override
+        public DataNode setValue(DataNode node) {
+            checkNotFrozen();
+            if (promoted != null || index >= size << 1 ||
+                    table[index] != key) {
+                throw new ConcurrentModificationException();
+            }
+            DataNode old = value;
+            table[index + 1] = node;
+            value = node;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> e = (Entry<?, ?>) obj;
+            return key.equals(e.getKey()) &&
+                    (value == null ? e.getValue() == null :
+                            value.equals(e.getValue()));
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ (value == null ? 0 : value.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+}
@@ -157,6 +157,22 @@ public abstract class DataNode {
             return (B) this;
         }
 
+        /**
+         * Sets schema identifier of the node key in builder object.
+         * When serializers have the schema identifier handed out by the
+         * schema node, setting it makes all the data nodes of the schema
+         * node share a single schema identifier.
+         *
+         * @param schemaId schema identifier
+         * @return data node builder object
+         */
+        public B schemaId(SchemaId schemaId) {
+            if (keyBuilder != null) {
+                keyBuilder.schemaId(schemaId);
+            }
+            return (B) this;
+        }
+
         /**
          * Sets parent node's builder.
          *
@@ -273,6 +289,19 @@ public abstract class DataNode {
         public abstract InnerNode.Builder addKeyLeaf(String name, String nameSpace,
                                                      Object val);
 
+        /**
+         * Add key leaf to list node key. It works the same as adding the key
+         * leaf with its name and namespace, using the given schema identifier
+         * of the key leaf.
+         *
+         * @param leafSchema schema identifier of leaf node
+         * @param val        value of leaf
+         * @return data node builder
+         */
+        public InnerNode.Builder addKeyLeaf(SchemaId leafSchema, Object val) {
+            return addKeyLeaf(leafSchema.name(), leafSchema.namespace(), val);
+        }
+
         /**
          * Add key value to leaf list key. this can be used while handling a
          * leaf list where you need to add multiple values.
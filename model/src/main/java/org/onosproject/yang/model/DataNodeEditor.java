@@ -0,0 +1,427 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.onosproject.yang.model.DataNode.Type.MULTI_INSTANCE_NODE;
+import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_LEAF_VALUE_NODE;
+import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_NODE;
+import static org.onosproject.yang.model.ModelConstants.DATA_EXISTS;
+import static org.onosproject.yang.model.ModelConstants.DATA_MISSING;
+import static org.onosproject.yang.model.ModelConstants.LEAF_IS_TERMINAL;
+
+/**
+ * Represents an editor which applies a batch of edits, each identified by a
+ * resource identifier, an operation and a data node, onto a data tree.
+ * <p>
+ * The operations follow the semantics of the NETCONF edit-config
+ * operations. Edits are applied in the order they are added, but in a
+ * single pass over the tree: edits sharing a prefix are grouped, and only
+ * the data nodes on the paths to the edited nodes are rebuilt. The resource
+ * identifiers of the edits start with the node key of the root node.
+ * <p>
+ * A persistent data tree is left unchanged, and the edited tree shares
+ * every untouched subtree with it. Any other data tree is edited in place
+ * through the children maps shared by its nodes and their copy builders,
+ * so it may be left partly edited if an edit fails.
+ */
+public final class DataNodeEditor {
+
+    /**
+     * Represents operation of an edit.
+     */
+    public enum Operation {
+
+        /**
+         * Data node is merged with the existing one, or created if it does
+         * not exist. Children of an inner node are merged recursively.
+         */
+        MERGE,
+
+        /**
+         * Data node replaces the existing one, or is created if it does not
+         * exist.
+         */
+        REPLACE,
+
+        /**
+         * Data node is created; it must not exist yet.
+         */
+        CREATE,
+
+        /**
+         * Data node is deleted; it must exist.
+         */
+        DELETE,
+
+        /**
+         * Data node is deleted if it exists.
+         */
+        REMOVE
+    }
+
+    private Target root;
+
+    /**
+     * Adds an edit to the batch. The data node is ignored for the delete
+     * and remove operations.
+     * <p>
+     * Ancestors of a merged, replaced or created data node are created as
+     * inner nodes when they don't exist, with the key leaves of list
+     * entries taken from their node keys. A replace, create, delete or
+     * remove of a data node supersedes the edits of its descendants added
+     * before it.
+     *
+     * @param id   resource identifier of the edited data node
+     * @param op   operation of the edit
+     * @param node data node of the edit
+     * @return data node editor
+     * @throws IllegalArgumentException if the data node is missing or its
+     *                                  key doesn't match the resource
+     *                                  identifier, or the resource
+     *                                  identifier doesn't start with the
+     *                                  root node key of the earlier edits
+     */
+    public DataNodeEditor edit(ResourceId id, Operation op, DataNode node) {
+        checkNotNull(op);
+        List<NodeKey> keys = id.nodeKeys();
+        checkArgument(!keys.isEmpty(), "Resource identifier is empty");
+        boolean withNode = op == Operation.MERGE ||
+                op == Operation.REPLACE || op == Operation.CREATE;
+        if (withNode) {
+            checkArgument(node != null, "Data node is missing for " + op);
+            checkArgument(node.key().equals(keys.get(keys.size() - 1)),
+                          "Data node key doesn't match " + id);
+        }
+
+        if (root == null) {
+            root = new Target(keys.get(0));
+        }
+        checkArgument(root.key.equals(keys.get(0)),
+                      "Resource identifier doesn't start with root: " + id);
+        Target target = root;
+        for (int i = 1; i < keys.size(); i++) {
+            if (withNode) {
+                target.ensure(null);
+            }
+            target = target.child(keys.get(i));
+        }
+        add(target, op, node);
+        return this;
+    }
+
+    /**
+     * Applies the edits onto the given data tree, and returns the edited
+     * data tree. The editor is left unchanged, so the same edits can be
+     * applied onto other data trees.
+     *
+     * @param rootNode root node of data tree, or null
+     * @return root node of edited data tree; null if deleted
+     * @throws IllegalArgumentException if the root node key differs from
+     *                                  the one of the edits
+     * @throws ModelException           if a created data node exists, or
+     *                                  a deleted data node does not exist
+     */
+    public DataNode apply(DataNode rootNode) {
+        if (root == null) {
+            return rootNode;
+        }
+        checkArgument(rootNode == null || root.key.equals(rootNode.key()),
+                      "Root node key doesn't match the edits");
+        boolean persistent = rootNode instanceof InnerNode &&
+                ((InnerNode) rootNode).isPersistent();
+        ResourceId id = ResourceId.builder().build().child(root.key);
+        return apply(rootNode, root, id, persistent, null);
+    }
+
+    /**
+     * Applies the edits onto the given data tree, and returns the edited
+     * data tree, updating the given index of the data tree along the edited
+     * paths only.
+     *
+     * @param rootNode root node of data tree, or null
+     * @param index    index of data tree
+     * @return root node of edited data tree; null if deleted
+     * @throws IllegalArgumentException if the root node key differs from
+     *                                  the one of the edits, or the index
+     *                                  is not the one of the data tree
+     * @throws ModelException           if a created data node exists, or
+     *                                  a deleted data node does not exist
+     */
+    public DataNode apply(DataNode rootNode, DataTreeIndex index) {
+        checkArgument(index.root() == rootNode,
+                      "Index is not the one of the data tree");
+        if (root == null) {
+            return rootNode;
+        }
+        checkArgument(rootNode == null || root.key.equals(rootNode.key()),
+                      "Root node key doesn't match the edits");
+        boolean persistent = rootNode instanceof InnerNode &&
+                ((InnerNode) rootNode).isPersistent();
+        ResourceId id = ResourceId.builder().build().child(root.key);
+        return apply(rootNode, root, id, persistent, index);
+    }
+
+    /**
+     * Adds the operation to the target, decomposing a merge of an inner
+     * node into the merges of its children.
+     *
+     * @param target target of edit
+     * @param op     operation of edit
+     * @param node   data node of edit
+     */
+    private static void add(Target target, Operation op, DataNode node) {
+        if (op != Operation.MERGE) {
+            target.children = null;
+            target.add(new Op(op, node));
+            return;
+        }
+        if (!(node instanceof InnerNode)) {
+            target.add(new Op(op, node));
+            return;
+        }
+        target.ensure(node);
+        for (DataNode child : ((InnerNode) node).childNodes().values()) {
+            add(target.child(child.key()), op, child);
+        }
+    }
+
+    /**
+     * Applies the edits of the target and its descendants onto the given
+     * data node.
+     *
+     * @param node       data node, or null if it doesn't exist
+     * @param target     target of edits
+     * @param id         resource identifier of the data node
+     * @param persistent true if the data tree is persistent
+     * @param index      index of data tree, or null
+     * @return edited data node, or null if it doesn't exist
+     */
+    private static DataNode apply(DataNode node, Target target, ResourceId id,
+                                  boolean persistent, DataTreeIndex index) {
+        if (target.ops != null) {
+            DataNode original = node;
+            for (Op op : target.ops) {
+                node = apply(node, op, target.key, id, persistent);
+            }
+            if (index != null && node != original) {
+                index.put(id, node);
+            }
+        }
+        if (target.children == null) {
+            return node;
+        }
+        if (node == null) {
+            checkNoDelete(target, id);
+            return null;
+        }
+        if (!(node instanceof InnerNode)) {
+            throw new ModelException(LEAF_IS_TERMINAL);
+        }
+
+        Map<NodeKey, DataNode> children = ((InnerNode) node).childNodes();
+        InnerNode.Builder builder = null;
+        for (Target childTarget : target.children.values()) {
+            NodeKey key = childTarget.key;
+            DataNode child = children.get(key);
+            DataNode edited = apply(child, childTarget, id.child(key),
+                                    persistent, index);
+            if (edited == child) {
+                continue;
+            }
+            if (builder == null) {
+                builder = ((InnerNode) node).copyBuilder();
+            }
+            if (edited == null) {
+                builder.deleteChild(key);
+            } else {
+                builder.addNode(edited);
+            }
+        }
+        if (builder == null) {
+            return node;
+        }
+        node = builder.build();
+        if (index != null) {
+            index.update(id, node);
+        }
+        return node;
+    }
+
+    /**
+     * Applies one operation onto the given data node.
+     *
+     * @param node       data node, or null if it doesn't exist
+     * @param op         operation
+     * @param key        node key of the data node
+     * @param id         resource identifier of the data node
+     * @param persistent true if the data tree is persistent
+     * @return edited data node, or null if it doesn't exist
+     */
+    private static DataNode apply(DataNode node, Op op, NodeKey key,
+                                  ResourceId id, boolean persistent) {
+        switch (op.op) {
+            case MERGE:
+                if (op.node instanceof LeafNode) {
+                    return op.node;
+                }
+                return node != null ? node : emptyNode(op.node, key,
+                                                       persistent);
+            case REPLACE:
+                return op.node;
+            case CREATE:
+                if (node != null) {
+                    throw new ModelException(DATA_EXISTS + id);
+                }
+                return op.node;
+            case DELETE:
+                if (node == null) {
+                    throw new ModelException(DATA_MISSING + id);
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Returns an inner node without children, with the key and type of the
+     * given inner node, or else inferred from the given node key.
+     *
+     * @param template   inner node, or null
+     * @param key        node key
+     * @param persistent true if the data tree is persistent
+     * @return inner node
+     */
+    private static DataNode emptyNode(DataNode template, NodeKey key,
+                                      boolean persistent) {
+        SchemaId id = key.schemaId();
+        InnerNode.Builder builder = InnerNode.builder(id.name(), id.namespace())
+                .key(key);
+        if (persistent) {
+            builder.persistent();
+        }
+        if (template != null) {
+            return builder.type(template.type()).build();
+        }
+        if (!(key instanceof ListKey)) {
+            return builder.type(SINGLE_INSTANCE_NODE).build();
+        }
+        builder.type(MULTI_INSTANCE_NODE);
+        for (KeyLeaf leaf : ((ListKey) key).keyLeafs()) {
+            SchemaId leafId = leaf.leafSchema();
+            builder = builder.createChildBuilder(
+                    leafId.name(), leafId.namespace(), leaf.leafValue())
+                    .schemaId(leafId).type(SINGLE_INSTANCE_LEAF_VALUE_NODE)
+                    .exitNode();
+        }
+        return builder.build();
+    }
+
+    /**
+     * Checks that no descendant of a missing data node is to be deleted.
+     *
+     * @param target target of edits of the missing data node
+     * @param id     resource identifier of the missing data node
+     * @throws ModelException if a descendant is to be deleted
+     */
+    private static void checkNoDelete(Target target, ResourceId id) {
+        for (Target child : target.children.values()) {
+            ResourceId childId = id.child(child.key);
+            if (child.ops != null) {
+                for (Op op : child.ops) {
+                    if (op.op == Operation.DELETE) {
+                        throw new ModelException(DATA_MISSING + childId);
+                    }
+                }
+            }
+            if (child.children != null) {
+                checkNoDelete(child, childId);
+            }
+        }
+    }
+
+    /**
+     * Represents an operation on a target, with its data node.
+     */
+    private static final class Op {
+
+        private final Operation op;
+        private final DataNode node;
+
+        private Op(Operation op, DataNode node) {
+            this.op = op;
+            this.node = node;
+        }
+    }
+
+    /**
+     * Represents a data node targeted by edits, with its operations in
+     * order and the targets among its descendants.
+     */
+    private static final class Target {
+
+        private final NodeKey key;
+        private List<Op> ops;
+        private Map<NodeKey, Target> children;
+
+        private Target(NodeKey key) {
+            this.key = key;
+        }
+
+        private void add(Op op) {
+            if (ops == null) {
+                ops = new ArrayList<>(1);
+            }
+            ops.add(op);
+        }
+
+        /**
+         * Adds a merge which makes the data node exist, unless the last
+         * operation already does.
+         *
+         * @param template inner node giving key and type, or null
+         */
+        private void ensure(DataNode template) {
+            if (ops != null) {
+                Op last = ops.get(ops.size() - 1);
+                if (last.op == Operation.MERGE && !(last.node instanceof LeafNode)) {
+                    return;
+                }
+            }
+            add(new Op(Operation.MERGE, template));
+        }
+
+        private Target child(NodeKey childKey) {
+            if (children == null) {
+                children = new LinkedHashMap<>();
+            }
+            Target child = children.get(childKey);
+            if (child == null) {
+                child = new Target(childKey);
+                children.put(childKey, child);
+            }
+            return child;
+        }
+    }
+}
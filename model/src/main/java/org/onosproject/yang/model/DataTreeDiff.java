@@ -0,0 +1,163 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.onosproject.yang.model.DataTreeEdit.Type.CREATE;
+import static org.onosproject.yang.model.DataTreeEdit.Type.DELETE;
+import static org.onosproject.yang.model.DataTreeEdit.Type.REPLACE;
+
+/**
+ * Represents utility which computes the edits turning one data tree into
+ * another.
+ * <p>
+ * Subtrees held by both trees as the same data node are skipped without
+ * being walked. Persistent data trees share every untouched subtree with
+ * the tree they were edited from, so for them the cost of a diff follows
+ * the size of the change, not the size of the trees.
+ */
+public final class DataTreeDiff {
+
+    // No instantiation.
+    private DataTreeDiff() {
+    }
+
+    /**
+     * Returns the edits which turn the old data tree into the new one. The
+     * resource identifiers of the edits start with the node key of the
+     * root nodes.
+     *
+     * @param oldRoot root node of old data tree, or null
+     * @param newRoot root node of new data tree, or null
+     * @return list of edits
+     * @throws IllegalArgumentException if the root nodes have different
+     *                                  node keys
+     */
+    public static List<DataTreeEdit> diff(DataNode oldRoot, DataNode newRoot) {
+        DataNode root = oldRoot != null ? oldRoot : newRoot;
+        List<DataTreeEdit> edits = new ArrayList<>();
+        if (root == null) {
+            return edits;
+        }
+        ResourceId id = ResourceId.builder().build().child(root.key());
+        return diff(id, oldRoot, newRoot);
+    }
+
+    /**
+     * Returns the edits which turn the old data tree into the new one,
+     * with the root nodes identified by the given resource identifier.
+     * <p>
+     * A data node present only in the old tree is deleted and one present
+     * only in the new tree is created. A leaf node whose value changed, or
+     * a data node whose type changed, is replaced. Children of inner nodes
+     * present in both trees are compared recursively. Deletes are listed
+     * before the other edits of the same parent, and edits follow the order
+     * of the children otherwise.
+     *
+     * @param rootId  resource identifier of the root nodes
+     * @param oldRoot root node of old data tree, or null
+     * @param newRoot root node of new data tree, or null
+     * @return list of edits
+     * @throws IllegalArgumentException if the root nodes have different
+     *                                  node keys
+     */
+    public static List<DataTreeEdit> diff(ResourceId rootId, DataNode oldRoot,
+                                          DataNode newRoot) {
+        List<DataTreeEdit> edits = new ArrayList<>();
+        if (oldRoot == null) {
+            if (newRoot != null) {
+                edits.add(new DataTreeEdit(CREATE, rootId, newRoot));
+            }
+        } else if (newRoot == null) {
+            edits.add(new DataTreeEdit(DELETE, rootId, oldRoot));
+        } else {
+            if (!oldRoot.key().equals(newRoot.key())) {
+                throw new IllegalArgumentException(
+                        "Root nodes have different keys: " + oldRoot.key() +
+                                ", " + newRoot.key());
+            }
+            diffNode(rootId, oldRoot, newRoot, edits);
+        }
+        return edits;
+    }
+
+    /**
+     * Adds the edits turning the old data node into the new data node,
+     * which have the same node key.
+     *
+     * @param id      resource identifier of the data nodes
+     * @param oldNode old data node
+     * @param newNode new data node
+     * @param edits   list of edits
+     */
+    private static void diffNode(ResourceId id, DataNode oldNode,
+                                 DataNode newNode, List<DataTreeEdit> edits) {
+        if (oldNode == newNode) {
+            return;
+        }
+        if (oldNode.type() != newNode.type() ||
+                oldNode instanceof InnerNode != newNode instanceof InnerNode) {
+            edits.add(new DataTreeEdit(REPLACE, id, newNode));
+            return;
+        }
+        if (newNode instanceof LeafNode) {
+            if (!sameValue((LeafNode) oldNode, (LeafNode) newNode)) {
+                edits.add(new DataTreeEdit(REPLACE, id, newNode));
+            }
+            return;
+        }
+
+        Map<NodeKey, DataNode> oldChildren = ((InnerNode) oldNode).childNodes();
+        Map<NodeKey, DataNode> newChildren = ((InnerNode) newNode).childNodes();
+        if (oldChildren == newChildren) {
+            return;
+        }
+        for (Map.Entry<NodeKey, DataNode> e : oldChildren.entrySet()) {
+            if (!newChildren.containsKey(e.getKey())) {
+                edits.add(new DataTreeEdit(DELETE, id.child(e.getKey()),
+                                           e.getValue()));
+            }
+        }
+        for (Map.Entry<NodeKey, DataNode> e : newChildren.entrySet()) {
+            DataNode oldChild = oldChildren.get(e.getKey());
+            if (oldChild == null) {
+                edits.add(new DataTreeEdit(CREATE, id.child(e.getKey()),
+                                           e.getValue()));
+            } else if (oldChild != e.getValue()) {
+                diffNode(id.child(e.getKey()), oldChild, e.getValue(), edits);
+            }
+        }
+    }
+
+    /**
+     * Returns true if the leaf nodes have the same value and value
+     * namespace.
+     *
+     * @param oldLeaf old leaf node
+     * @param newLeaf new leaf node
+     * @return true if same value; false otherwise
+     */
+    private static boolean sameValue(LeafNode oldLeaf, LeafNode newLeaf) {
+        return Objects.equals(oldLeaf.value(), newLeaf.value()) &&
+                Objects.equals(oldLeaf.valueNamespace(),
+                               newLeaf.valueNamespace());
+    }
+}
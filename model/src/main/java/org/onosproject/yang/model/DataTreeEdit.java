@@ -0,0 +1,125 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.model;
+
+import java.util.Objects;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Objects.hash;
+
+/**
+ * Representation of an edit of a data tree, which creates, replaces or
+ * deletes the data node identified by a resource identifier.
+ */
+public final class DataTreeEdit {
+
+    /**
+     * Represents type of edit.
+     */
+    public enum Type {
+
+        /**
+         * Data node is created along with its descendants.
+         */
+        CREATE,
+
+        /**
+         * Data node is replaced along with its descendants.
+         */
+        REPLACE,
+
+        /**
+         * Data node is deleted along with its descendants.
+         */
+        DELETE
+    }
+
+    private final Type type;
+    private final ResourceId resourceId;
+    private final DataNode node;
+
+    /**
+     * Creates an edit of a data tree.
+     *
+     * @param type       type of edit
+     * @param resourceId resource identifier of the edited data node
+     * @param node       created or replacing data node, or the deleted data
+     *                   node
+     */
+    public DataTreeEdit(Type type, ResourceId resourceId, DataNode node) {
+        this.type = checkNotNull(type);
+        this.resourceId = checkNotNull(resourceId);
+        this.node = checkNotNull(node);
+    }
+
+    /**
+     * Returns type of edit.
+     *
+     * @return type of edit
+     */
+    public Type type() {
+        return type;
+    }
+
+    /**
+     * Returns resource identifier of the edited data node.
+     *
+     * @return resource identifier
+     */
+    public ResourceId resourceId() {
+        return resourceId;
+    }
+
+    /**
+     * Returns the created or replacing data node; for a delete, returns the
+     * deleted data node.
+     *
+     * @return data node
+     */
+    public DataNode node() {
+        return node;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash(type, resourceId, node);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof DataTreeEdit)) {
+            return false;
+        }
+        DataTreeEdit that = (DataTreeEdit) obj;
+        return type == that.type &&
+                Objects.equals(resourceId, that.resourceId) &&
+                Objects.equals(node, that.node);
+    }
+
+    @Override
+    public String toString() {
+        return toStringHelper(getClass())
+                .add("type", type)
+                .add("resourceId", resourceId)
+                .add("node", node)
+                .toString();
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Represents an index of the data nodes of a data tree by their resource
+ * identifiers, which start with the node key of the root node.
+ * <p>
+ * The resource identifiers held by the index are interned: each one is
+ * derived from the resource identifier of its parent, so that they share
+ * their prefixes. A lookup hashes the given resource identifier once, as
+ * the hash is cached by it, instead of walking the children maps from the
+ * root.
+ * <p>
+ * The index is not updated by changes made to the data tree directly. It
+ * is kept up to date when the data tree is edited through
+ * {@link DataNodeEditor#apply(DataNode, DataTreeIndex)}.
+ */
+public final class DataTreeIndex {
+
+    private final Map<ResourceId, Entry> entries = new HashMap<>();
+    private Entry root;
+
+    /**
+     * Creates an index of the given data tree.
+     *
+     * @param rootNode root node of data tree, or null
+     */
+    public DataTreeIndex(DataNode rootNode) {
+        if (rootNode != null) {
+            root = index(ResourceId.builder().build().child(rootNode.key()),
+                         rootNode);
+        }
+    }
+
+    /**
+     * Returns the root node of the indexed data tree.
+     *
+     * @return root node, or null if the data tree is empty
+     */
+    public DataNode root() {
+        return root == null ? null : root.node;
+    }
+
+    /**
+     * Returns the number of indexed data nodes.
+     *
+     * @return number of data nodes
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the data node identified by the given resource identifier.
+     *
+     * @param id resource identifier
+     * @return data node, or null if not present
+     */
+    public DataNode get(ResourceId id) {
+        Entry entry = entries.get(id);
+        return entry == null ? null : entry.node;
+    }
+
+    /**
+     * Returns true if the given resource identifier is a prefix of the
+     * resource identifier of an indexed data node, that is, it identifies
+     * an indexed data node itself.
+     *
+     * @param id resource identifier
+     * @return true if indexed; false otherwise
+     */
+    public boolean containsPrefix(ResourceId id) {
+        return entries.containsKey(id);
+    }
+
+    /**
+     * Returns the iterator over the data node identified by the given
+     * resource identifier and its descendants, in pre-order, along with
+     * their interned resource identifiers.
+     *
+     * @param id resource identifier of subtree root
+     * @return iterator over resource identifiers and data nodes
+     */
+    public Iterator<Map.Entry<ResourceId, DataNode>> subtree(ResourceId id) {
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            return Collections.emptyIterator();
+        }
+        return new SubtreeIterator(entry);
+    }
+
+    /**
+     * Puts the given data node, along with its descendants, at the given
+     * resource identifier, replacing the data node indexed there. A null
+     * data node removes the indexed data node. The parent of the data node
+     * must be indexed, unless it is the root node.
+     *
+     * @param id   resource identifier
+     * @param node data node, or null
+     */
+    void put(ResourceId id, DataNode node) {
+        Entry old = entries.get(id);
+        if (old != null) {
+            remove(old);
+        }
+        ResourceId parentId = id.parent();
+        Entry parent = parentId == null ? null : entries.get(parentId);
+        if (parent == null) {
+            root = node == null ? null : index(id, node);
+            return;
+        }
+        if (node == null) {
+            if (old != null) {
+                parent.children.remove(old);
+            }
+            return;
+        }
+        Entry entry = index(parent.id.child(node.key()), node);
+        int i = old == null ? -1 : parent.children.indexOf(old);
+        if (i < 0) {
+            parent.children().add(entry);
+        } else {
+            parent.children.set(i, entry);
+        }
+    }
+
+    /**
+     * Updates the data node indexed at the given resource identifier, whose
+     * children are indexed already.
+     *
+     * @param id   resource identifier
+     * @param node data node
+     */
+    void update(ResourceId id, DataNode node) {
+        Entry entry = entries.get(id);
+        if (entry != null) {
+            entry.node = node;
+        }
+    }
+
+    /**
+     * Indexes the given data node and its descendants.
+     *
+     * @param id   interned resource identifier of the data node
+     * @param node data node
+     * @return index entry of data node
+     */
+    private Entry index(ResourceId id, DataNode node) {
+        Entry entry = new Entry(id, node);
+        entries.put(id, entry);
+        if (node instanceof InnerNode) {
+            for (DataNode child : ((InnerNode) node).childNodes().values()) {
+                entry.children().add(index(id.child(child.key()), child));
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Removes the given entry and its descendants from the index.
+     *
+     * @param entry index entry
+     */
+    private void remove(Entry entry) {
+        entries.remove(entry.id);
+        if (entry.children != null) {
+            for (Entry child : entry.children) {
+                remove(child);
+            }
+        }
+    }
+
+    /**
+     * Represents an index entry.
+     */
+    private static final class Entry implements Map.Entry<ResourceId, DataNode> {
+
+        private final ResourceId id;
+        private DataNode node;
+        private List<Entry> children;
+
+        private Entry(ResourceId id, DataNode node) {
+            this.id = id;
+            this.node = node;
+        }
+
+        private List<Entry> children() {
+            if (children == null) {
+                children = new ArrayList<>();
+            }
+            return children;
+        }
+
+        @Override
+        public ResourceId getKey() {
+            return id;
+        }
+
+        @Override
+        public DataNode getValue() {
+            return node;
+        }
+
+        @Override
+        public DataNode setValue(DataNode value) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Represents the pre-order iterator over a subtree of entries.
+     */
+    private static final class SubtreeIterator
+            implements Iterator<Map.Entry<ResourceId, DataNode>> {
+
+        private final Deque<Entry> stack = new ArrayDeque<>();
+
+        private SubtreeIterator(Entry entry) {
+            stack.push(entry);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        public Map.Entry<ResourceId, DataNode> next() {
+            if (stack.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Entry entry = stack.pop();
+            if (entry.children != null) {
+                for (int i = entry.children.size() - 1; i >= 0; i--) {
+                    stack.push(entry.children.get(i));
+                }
+            }
+            return entry;
+        }
+    }
+}
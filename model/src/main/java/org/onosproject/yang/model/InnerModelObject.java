@@ -19,8 +19,7 @@ package org.onosproject.yang.model;
 import com.google.common.collect.ImmutableMap;
 
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import static org.onosproject.yang.model.ModelObject.ModelObjectType.NON_ATOMIC;
 
@@ -30,8 +29,17 @@ import static org.onosproject.yang.model.ModelObject.ModelObjectType.NON_ATOMIC;
  */
 public abstract class InnerModelObject extends ModelObject implements Augmentable {
 
-    private final ConcurrentMap<Class<? extends InnerModelObject>, InnerModelObject> augments =
-            new ConcurrentHashMap<>();
+    private static final AtomicReferenceFieldUpdater<InnerModelObject, ImmutableMap>
+            AUGMENTS = AtomicReferenceFieldUpdater.newUpdater(
+            InnerModelObject.class, ImmutableMap.class, "augments");
+
+    /*
+     * Augmentations held as an immutable map, which is replaced as a whole
+     * on every change. Most model objects are never augmented, so they all
+     * share the empty map.
+     */
+    private volatile ImmutableMap<Class<? extends InnerModelObject>, InnerModelObject> augments =
+            ImmutableMap.of();
 
     /**
      * Creates an instance of Inner model object.
@@ -42,17 +50,61 @@ public abstract class InnerModelObject extends ModelObject implements Augmentabl
 
     @Override
     public void addAugmentation(InnerModelObject obj) {
-        augments.put(obj.getClass(), obj);
+        Class<? extends InnerModelObject> c = obj.getClass();
+        ImmutableMap<Class<? extends InnerModelObject>, InnerModelObject> cur;
+        ImmutableMap.Builder<Class<? extends InnerModelObject>, InnerModelObject> next;
+        do {
+            cur = augments;
+            if (cur.get(c) == obj) {
+                return;
+            }
+            next = ImmutableMap.builder();
+            boolean replaced = false;
+            for (Map.Entry<Class<? extends InnerModelObject>, InnerModelObject> e :
+                    cur.entrySet()) {
+                if (e.getKey() == c) {
+                    next.put(c, obj);
+                    replaced = true;
+                } else {
+                    next.put(e);
+                }
+            }
+            if (!replaced) {
+                next.put(c, obj);
+            }
+        } while (!AUGMENTS.compareAndSet(this, cur, next.build()));
     }
 
     @Override
     public void removeAugmentation(InnerModelObject obj) {
-        augments.remove(obj.getClass());
+        Class<? extends InnerModelObject> c = obj.getClass();
+        ImmutableMap<Class<? extends InnerModelObject>, InnerModelObject> cur;
+        ImmutableMap.Builder<Class<? extends InnerModelObject>, InnerModelObject> next;
+        do {
+            cur = augments;
+            if (!cur.containsKey(c)) {
+                return;
+            }
+            next = ImmutableMap.builder();
+            for (Map.Entry<Class<? extends InnerModelObject>, InnerModelObject> e :
+                    cur.entrySet()) {
+                if (e.getKey() != c) {
+                    next.put(e);
+                }
+            }
+        } while (!AUGMENTS.compareAndSet(this, cur, next.build()));
     }
 
+    /**
+     * Returns the map of augmentations available to this model object. The
+     * map is an immutable snapshot, returned without being copied; later
+     * changes are not reflected in it.
+     *
+     * @return map of augmentations
+     */
     @Override
     public Map<Class<? extends InnerModelObject>, InnerModelObject> augmentations() {
-        return ImmutableMap.copyOf(augments);
+        return augments;
     }
 
     @Override
@@ -16,13 +16,18 @@
 
 package org.onosproject.yang.model;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static org.onosproject.yang.model.ModelConstants.LEAF_IS_TERMINAL;
 
 /**
  * Abstraction of an entity which represents an inner node in data store.
+ * <p>
+ * By default the builder of an inner node and the built node share the
+ * children map, so that editing a copy builder updates the original node.
+ * An inner node built by a persistent builder is instead immutable: editing
+ * its copy builder copies only the nodes on the path to the change, and the
+ * new tree shares every untouched subtree with the original one.
  */
 public final class InnerNode extends DataNode {
 
@@ -30,7 +35,7 @@ public final class InnerNode extends DataNode {
      * Map containing info of all child data nodes with respect to their node
      * keys.
      */
-    private Map<NodeKey, DataNode> childNodes = new LinkedHashMap<>();
+    private ChildNodeMap childNodes;
 
     /**
      * Returns the children nodes to the current node.
@@ -42,6 +47,16 @@ public final class InnerNode extends DataNode {
         return childNodes;
     }
 
+    /**
+     * Returns true if the node is persistent, that is, its children can't
+     * be modified and its copy builder edits a copy of the node.
+     *
+     * @return true if persistent; false otherwise
+     */
+    public boolean isPersistent() {
+        return childNodes.isFrozen();
+    }
+
     /**
      * Creates an instance of inner node.
      *
@@ -90,9 +105,21 @@ public final class InnerNode extends DataNode {
 
         /**
          * Map containing info of all child data nodes with respect to their
-         * node keys.
+         * node keys. The map allocates its storage on the first child and
+         * holds a few children inline.
          */
-        private Map<NodeKey, DataNode> childNodes = new LinkedHashMap<>();
+        private ChildNodeMap childNodes = new ChildNodeMap();
+
+        /**
+         * Whether the node to be built is persistent.
+         */
+        private boolean persistent;
+
+        /**
+         * Whether the children map is shared with the node this builder
+         * was created from.
+         */
+        private boolean copied;
 
         /**
          * Creates an instance of data node builder.
@@ -112,6 +139,26 @@ public final class InnerNode extends DataNode {
         public Builder(InnerNode node) {
             super(node);
             childNodes = node.childNodes;
+            persistent = node.isPersistent();
+            copied = true;
+        }
+
+        /**
+         * Makes the node to be built persistent. The child inner node
+         * builders created from this builder are persistent as well.
+         * If the builder was created from a node which is not persistent,
+         * the children map is copied so that the node is left unchanged.
+         *
+         * @return inner node builder
+         */
+        public Builder persistent() {
+            if (!persistent) {
+                persistent = true;
+                if (copied) {
+                    childNodes = childNodes.copy();
+                }
+            }
+            return this;
         }
 
         /**
@@ -121,10 +168,23 @@ public final class InnerNode extends DataNode {
          * @return inner node builder
          */
         public Builder addNode(DataNode node) {
-            childNodes.put(node.key(), node);
+            writableChildNodes().put(node.key(), node);
             return this;
         }
 
+        /**
+         * Returns the children map to be modified, copying it first when
+         * it belongs to a built persistent node.
+         *
+         * @return modifiable children map
+         */
+        private ChildNodeMap writableChildNodes() {
+            if (childNodes.isFrozen()) {
+                childNodes = childNodes.copy();
+            }
+            return childNodes;
+        }
+
         /**
          * Returns the children nodes to the current node.
          * Children nodes are identified based on the node key.
@@ -148,13 +208,17 @@ public final class InnerNode extends DataNode {
             if (key == null) {
                 key = keyBuilder.build();
             }
+            if (persistent) {
+                childNodes.freeze();
+            }
             return new InnerNode(this);
         }
 
         @Override
         public InnerNode.Builder createChildBuilder(String name, String nameSpace) {
-            return InnerNode.builder(name, nameSpace)
+            InnerNode.Builder builder = InnerNode.builder(name, nameSpace)
                     .parent(this);
+            return persistent ? builder.persistent() : builder;
         }
 
         @Override
@@ -176,7 +240,7 @@ public final class InnerNode extends DataNode {
 
         @Override
         public InnerNode.Builder deleteChild(NodeKey key) {
-            childNodes.remove(key);
+            writableChildNodes().remove(key);
             return this;
         }
 
@@ -193,6 +257,17 @@ public final class InnerNode extends DataNode {
 
         @Override
         public Builder addKeyLeaf(String name, String nameSpace, Object val) {
+            listKeyBuilder().addKeyLeaf(name, nameSpace, val);
+            return this;
+        }
+
+        @Override
+        public Builder addKeyLeaf(SchemaId leafSchema, Object val) {
+            listKeyBuilder().addKeyLeaf(leafSchema, val);
+            return this;
+        }
+
+        private ListKey.ListKeyBuilder listKeyBuilder() {
             ListKey.ListKeyBuilder listKeyBuilder;
             if (!(keyBuilder instanceof ListKey.ListKeyBuilder)) {
                 if (keyBuilder instanceof LeafListKey.LeafListKeyBuilder) {
@@ -203,10 +278,8 @@ public final class InnerNode extends DataNode {
             } else {
                 listKeyBuilder = (ListKey.ListKeyBuilder) keyBuilder;
             }
-
-            listKeyBuilder.addKeyLeaf(name, nameSpace, val);
             keyBuilder = listKeyBuilder;
-            return this;
+            return listKeyBuilder;
         }
 
         @Override
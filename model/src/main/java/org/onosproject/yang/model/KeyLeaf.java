@@ -44,6 +44,17 @@ public class KeyLeaf implements Cloneable {
         this.leafVal = leafVal;
     }
 
+    /**
+     * Constructs a key leaf with the given schema identifier and value.
+     *
+     * @param leafSchema schema identifier of the leaf
+     * @param leafVal    value of leaf
+     */
+    public KeyLeaf(SchemaId leafSchema, Object leafVal) {
+        this.leafSchema = leafSchema;
+        this.leafVal = leafVal;
+    }
+
     /**
      * Creates and returns a deep copy of this object.
      *
@@ -28,6 +28,9 @@ public final class LeafListKey extends NodeKey<LeafListKey>
         implements Comparable<LeafListKey> {
     private Object val;
 
+    // hash code, computed on first use
+    private int hash;
+
     /**
      * Create object from builder.
      *
@@ -69,7 +72,12 @@ public final class LeafListKey extends NodeKey<LeafListKey>
 
     @Override
     public int hashCode() {
-        return Objects.hash(schemaId, val);
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(schemaId, val);
+            hash = h;
+        }
+        return h;
     }
 
     @Override
@@ -83,6 +91,9 @@ public final class LeafListKey extends NodeKey<LeafListKey>
         }
 
         LeafListKey that = (LeafListKey) obj;
+        if (hash != 0 && that.hash != 0 && hash != that.hash) {
+            return false;
+        }
         return Objects.equals(val, that.val) &&
                 Objects.equals(schemaId, that.schemaId);
     }
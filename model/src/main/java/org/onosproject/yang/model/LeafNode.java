@@ -17,12 +17,29 @@
 
 package org.onosproject.yang.model;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static org.onosproject.yang.model.LeafType.BOOLEAN;
+import static org.onosproject.yang.model.LeafType.DECIMAL64;
+import static org.onosproject.yang.model.LeafType.INT16;
+import static org.onosproject.yang.model.LeafType.INT32;
+import static org.onosproject.yang.model.LeafType.INT64;
+import static org.onosproject.yang.model.LeafType.INT8;
+import static org.onosproject.yang.model.LeafType.UINT64;
 import static org.onosproject.yang.model.ModelConstants.NON_KEY_LEAF;
 
 /**
  * Abstraction of an entity which represents leaf data tree node.
+ * <p>
+ * Integer, boolean and decimal64 values are held as primitives by
+ * specialized leaf nodes, built whenever such a value is given to the
+ * builder, so that numeric leaves don't keep a boxed value. For these
+ * leaves {@link #value()} returns a new box of the same type as the value
+ * given to the builder, and the typed accessors read the value without
+ * boxing.
  */
-public final class LeafNode extends DataNode {
+public class LeafNode extends DataNode {
 
     /**
      * Leaf node value.
@@ -67,13 +84,71 @@ public final class LeafNode extends DataNode {
         return leafType;
     }
 
+    /**
+     * Returns true if the leaf node holds a value. Unlike checking
+     * {@link #value()} for null, this does not box a primitive value.
+     *
+     * @return true if value is present; false otherwise
+     */
+    public boolean hasValue() {
+        return value != null;
+    }
+
     /**
      * Returns value as string, for usage in serializers.
      *
      * @return string representation of value
      */
     public String asString() {
-        return String.valueOf(value);
+        return String.valueOf(value());
+    }
+
+    /**
+     * Returns the value of an integer leaf as long. For an uint64 leaf, the
+     * value is returned as the unsigned bits of the long.
+     *
+     * @return value as long
+     * @throws IllegalStateException if the value is not numeric
+     */
+    public long longValue() {
+        Object val = value();
+        if (!(val instanceof Number)) {
+            throw new IllegalStateException("leaf value is not numeric.");
+        }
+        return ((Number) val).longValue();
+    }
+
+    /**
+     * Returns the value of an integer leaf as int.
+     *
+     * @return value as int
+     * @throws IllegalStateException if the value is not numeric
+     */
+    public int intValue() {
+        return (int) longValue();
+    }
+
+    /**
+     * Returns the value of a boolean leaf.
+     *
+     * @return value as boolean
+     * @throws IllegalStateException if the value is not boolean
+     */
+    public boolean booleanValue() {
+        Object val = value();
+        if (!(val instanceof Boolean)) {
+            throw new IllegalStateException("leaf value is not boolean.");
+        }
+        return (Boolean) val;
+    }
+
+    /**
+     * Copies the primitive value of the node to the given builder.
+     *
+     * @param builder leaf node builder
+     */
+    void copyValue(Builder builder) {
+        builder.value = value;
     }
 
     @Override
@@ -87,17 +162,186 @@ public final class LeafNode extends DataNode {
     }
 
     /**
-     * Creates an instance of leaf node.
+     * Creates an instance of leaf node. Leaf nodes are created by
+     * {@link Builder#build()}, which picks the node holding the value
+     * given to the builder.
      *
      * @param builder leaf node builder
      */
-    public LeafNode(Builder builder) {
+    private LeafNode(Builder builder) {
         super(builder);
         value = builder.value;
         valueNamespace = builder.valueNamespace;
         leafType = builder.leafType;
     }
 
+    /**
+     * Represents a leaf node holding an int8, uint8, int16, uint16 or int32
+     * value.
+     */
+    private static final class IntLeafNode extends LeafNode {
+
+        private final int val;
+        private final LeafType kind;
+
+        private IntLeafNode(Builder builder) {
+            super(builder);
+            val = (int) builder.bits;
+            kind = builder.kind;
+        }
+
+        @Override
+        public boolean hasValue() {
+            return true;
+        }
+
+        @Override
+        public Object value() {
+            switch (kind) {
+                case INT8:
+                    return (byte) val;
+                case INT16:
+                case UINT8:
+                    return (short) val;
+                default:
+                    return val;
+            }
+        }
+
+        @Override
+        public String asString() {
+            return Integer.toString(val);
+        }
+
+        @Override
+        public long longValue() {
+            return val;
+        }
+
+        @Override
+        public int intValue() {
+            return val;
+        }
+
+        @Override
+        void copyValue(Builder builder) {
+            builder.primitive(kind, val);
+        }
+    }
+
+    /**
+     * Represents a leaf node holding an uint32, int64 or uint64 value.
+     */
+    private static final class LongLeafNode extends LeafNode {
+
+        private final long val;
+        private final LeafType kind;
+
+        private LongLeafNode(Builder builder) {
+            super(builder);
+            val = builder.bits;
+            kind = builder.kind;
+        }
+
+        @Override
+        public boolean hasValue() {
+            return true;
+        }
+
+        @Override
+        public Object value() {
+            if (kind == UINT64) {
+                return val >= 0 ? BigInteger.valueOf(val) :
+                        new BigInteger(Long.toUnsignedString(val));
+            }
+            return val;
+        }
+
+        @Override
+        public String asString() {
+            return kind == UINT64 ? Long.toUnsignedString(val) :
+                    Long.toString(val);
+        }
+
+        @Override
+        public long longValue() {
+            return val;
+        }
+
+        @Override
+        void copyValue(Builder builder) {
+            builder.primitive(kind, val);
+        }
+    }
+
+    /**
+     * Represents a leaf node holding a boolean value.
+     */
+    private static final class BooleanLeafNode extends LeafNode {
+
+        private final boolean val;
+
+        private BooleanLeafNode(Builder builder) {
+            super(builder);
+            val = builder.bits != 0;
+        }
+
+        @Override
+        public boolean hasValue() {
+            return true;
+        }
+
+        @Override
+        public Object value() {
+            return val;
+        }
+
+        @Override
+        public String asString() {
+            return String.valueOf(val);
+        }
+
+        @Override
+        public boolean booleanValue() {
+            return val;
+        }
+
+        @Override
+        void copyValue(Builder builder) {
+            builder.booleanValue(val);
+        }
+    }
+
+    /**
+     * Represents a leaf node holding a decimal64 value as a scaled long.
+     */
+    private static final class Decimal64LeafNode extends LeafNode {
+
+        private final long unscaled;
+        private final int scale;
+
+        private Decimal64LeafNode(Builder builder) {
+            super(builder);
+            unscaled = builder.bits;
+            scale = builder.scale;
+        }
+
+        @Override
+        public boolean hasValue() {
+            return true;
+        }
+
+        @Override
+        public Object value() {
+            return BigDecimal.valueOf(unscaled, scale);
+        }
+
+        @Override
+        void copyValue(Builder builder) {
+            builder.decimal64Value(unscaled, scale);
+        }
+    }
+
     /**
      * Returns data node builder instance.
      *
@@ -131,6 +375,22 @@ public final class LeafNode extends DataNode {
          */
         private Object value;
 
+        /**
+         * Type of the primitive value held in bits; null if the value is
+         * an object.
+         */
+        private LeafType kind;
+
+        /**
+         * Primitive value, or the unscaled value of a decimal64.
+         */
+        private long bits;
+
+        /**
+         * Scale of a decimal64 value.
+         */
+        private int scale;
+
         /**
          * Leaf value namespace, it will be non null only if leaf type is
          * identityref.
@@ -159,19 +419,109 @@ public final class LeafNode extends DataNode {
          */
         public Builder(LeafNode node) {
             super(node);
-            value = node.value;
+            node.copyValue(this);
             valueNamespace = node.valueNamespace;
             leafType = node.leafType;
         }
 
         /**
-         * Sets value of leaf node builder.
+         * Sets value of leaf node builder. Integer, boolean and decimal64
+         * values, that is byte, short, integer, long, boolean, unsigned
+         * 64 bit big integer and big decimal with a 64 bit unscaled value,
+         * are held as primitives.
          *
          * @param value value
          * @return leaf node builder
          */
         public Builder value(Object value) {
+            if (value instanceof Integer) {
+                return primitive(INT32, (Integer) value);
+            }
+            if (value instanceof Long) {
+                return primitive(INT64, (Long) value);
+            }
+            if (value instanceof Boolean) {
+                return booleanValue((Boolean) value);
+            }
+            if (value instanceof Short) {
+                return primitive(INT16, (Short) value);
+            }
+            if (value instanceof Byte) {
+                return primitive(INT8, (Byte) value);
+            }
+            if (value instanceof BigInteger) {
+                BigInteger v = (BigInteger) value;
+                if (v.signum() >= 0 && v.bitLength() <= Long.SIZE) {
+                    return primitive(UINT64, v.longValue());
+                }
+            } else if (value instanceof BigDecimal) {
+                BigDecimal v = (BigDecimal) value;
+                BigInteger unscaled = v.unscaledValue();
+                if (unscaled.bitLength() < Long.SIZE) {
+                    return decimal64Value(unscaled.longValue(), v.scale());
+                }
+            }
             this.value = value;
+            kind = null;
+            return this;
+        }
+
+        /**
+         * Sets the value of an integer leaf, without boxing. The value is
+         * returned by the leaf node as the object generated for the given
+         * type, that is byte for int8, short for uint8 and int16, integer
+         * for uint16 and int32, long for uint32 and int64, and big integer
+         * for uint64, whose value is taken as unsigned.
+         *
+         * @param type  integer type of the value
+         * @param value value
+         * @return leaf node builder
+         * @throws IllegalArgumentException if the type is not integer
+         */
+        public Builder longValue(LeafType type, long value) {
+            switch (type) {
+                case INT8:
+                case UINT8:
+                case INT16:
+                case UINT16:
+                case INT32:
+                case UINT32:
+                case INT64:
+                case UINT64:
+                    return primitive(type, value);
+                default:
+                    throw new IllegalArgumentException(
+                            type + " is not an integer type.");
+            }
+        }
+
+        /**
+         * Sets the value of a boolean leaf, without boxing.
+         *
+         * @param value value
+         * @return leaf node builder
+         */
+        public Builder booleanValue(boolean value) {
+            return primitive(BOOLEAN, value ? 1 : 0);
+        }
+
+        /**
+         * Sets the value of a decimal64 leaf as unscaled value and scale,
+         * that is, the value is unscaled x 10^-scale.
+         *
+         * @param unscaled unscaled value
+         * @param scale    scale of the value
+         * @return leaf node builder
+         */
+        public Builder decimal64Value(long unscaled, int scale) {
+            this.scale = scale;
+            return primitive(DECIMAL64, unscaled);
+        }
+
+        private Builder primitive(LeafType type, long val) {
+            value = null;
+            kind = type;
+            bits = val;
             return this;
         }
 
@@ -268,7 +618,21 @@ public final class LeafNode extends DataNode {
             if (key == null) {
                 key = keyBuilder.build();
             }
-            return new LeafNode(this);
+            if (kind == null) {
+                return new LeafNode(this);
+            }
+            switch (kind) {
+                case BOOLEAN:
+                    return new BooleanLeafNode(this);
+                case DECIMAL64:
+                    return new Decimal64LeafNode(this);
+                case UINT32:
+                case INT64:
+                case UINT64:
+                    return new LongLeafNode(this);
+                default:
+                    return new IntLeafNode(this);
+            }
         }
     }
 }
\ No newline at end of file
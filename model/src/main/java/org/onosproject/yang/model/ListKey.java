@@ -16,14 +16,15 @@
 
 package org.onosproject.yang.model;
 
-import com.google.common.collect.ImmutableList;
-
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
 
 /**
  * Represents an entity which identifies a unique branching node
@@ -32,7 +33,11 @@ import static com.google.common.base.Preconditions.checkArgument;
 public final class ListKey extends NodeKey<ListKey> implements Comparable<ListKey> {
 
     // effectively final, but not possible due to clone()
-    private List<KeyLeaf> keyLeafs;
+    private KeyLeaf[] keyLeafs;
+    private List<KeyLeaf> keyLeafList;
+
+    // hash code, computed on first use
+    private int hash;
 
     /**
      * Create object from builder.
@@ -41,7 +46,8 @@ public final class ListKey extends NodeKey<ListKey> implements Comparable<ListKe
      */
     private ListKey(ListKeyBuilder builder) {
         super(builder);
-        keyLeafs = ImmutableList.copyOf(builder.keyLeafs);
+        keyLeafs = builder.keyLeafs.toArray(new KeyLeaf[0]);
+        keyLeafList = unmodifiableList(asList(keyLeafs));
     }
 
     /**
@@ -52,7 +58,7 @@ public final class ListKey extends NodeKey<ListKey> implements Comparable<ListKe
      * @return List of key leaf nodes
      */
     public List<KeyLeaf> keyLeafs() {
-        return keyLeafs;
+        return keyLeafList;
     }
 
     /**
@@ -65,11 +71,12 @@ public final class ListKey extends NodeKey<ListKey> implements Comparable<ListKe
     @Override
     public ListKey clone() throws CloneNotSupportedException {
         ListKey clonedListKey = (ListKey) super.clone();
-        List<KeyLeaf> clonedKeyLeafs = new LinkedList<>();
-        for (KeyLeaf leaf : keyLeafs) {
-            clonedKeyLeafs.add(leaf.clone());
+        KeyLeaf[] clonedKeyLeafs = new KeyLeaf[keyLeafs.length];
+        for (int i = 0; i < keyLeafs.length; i++) {
+            clonedKeyLeafs[i] = keyLeafs[i].clone();
         }
         clonedListKey.keyLeafs = clonedKeyLeafs;
+        clonedListKey.keyLeafList = unmodifiableList(asList(clonedKeyLeafs));
         return clonedListKey;
     }
 
@@ -81,7 +88,12 @@ public final class ListKey extends NodeKey<ListKey> implements Comparable<ListKe
 
     @Override
     public int hashCode() {
-        return Objects.hash(schemaId, keyLeafs);
+        int h = hash;
+        if (h == 0) {
+            h = 31 * Objects.hashCode(schemaId) + Arrays.hashCode(keyLeafs);
+            hash = h;
+        }
+        return h;
     }
 
     @Override
@@ -95,9 +107,10 @@ public final class ListKey extends NodeKey<ListKey> implements Comparable<ListKe
         }
 
         ListKey that = (ListKey) obj;
-        List<KeyLeaf> thatList = that.keyLeafs;
-        return keyLeafs.size() == thatList.size() &&
-                keyLeafs.containsAll(thatList) &&
+        if (hash != 0 && that.hash != 0 && hash != that.hash) {
+            return false;
+        }
+        return Arrays.equals(keyLeafs, that.keyLeafs) &&
                 Objects.equals(schemaId, that.schemaId);
     }
 
@@ -105,7 +118,7 @@ public final class ListKey extends NodeKey<ListKey> implements Comparable<ListKe
     public String toString() {
         return toStringHelper(getClass())
                 .add("identifier", schemaId())
-                .add("value", keyLeafs)
+                .add("value", keyLeafList)
                 .toString();
     }
 
@@ -113,7 +126,7 @@ public final class ListKey extends NodeKey<ListKey> implements Comparable<ListKe
      * Represents list key builder.
      */
     public static class ListKeyBuilder extends NodeKeyBuilder<ListKeyBuilder> {
-        private List<KeyLeaf> keyLeafs = new LinkedList<>();
+        private List<KeyLeaf> keyLeafs = new ArrayList<>();
 
         /**
          * used to construct the key from scratch.
@@ -139,10 +152,25 @@ public final class ListKey extends NodeKey<ListKey> implements Comparable<ListKe
          * @throws IllegalArgumentException if duplicate key already exists
          */
         public void addKeyLeaf(String name, String nameSpace, Object val) {
-            KeyLeaf keyLeaf = new KeyLeaf(name, nameSpace, val);
+            addKeyLeaf(new KeyLeaf(name, nameSpace, val));
+        }
+
+        /**
+         * Adds the key leaf for the list resource.
+         *
+         * @param leafSchema key leaf schema identifier
+         * @param val        value of key
+         * @throws IllegalArgumentException if duplicate key already exists
+         */
+        public void addKeyLeaf(SchemaId leafSchema, Object val) {
+            addKeyLeaf(new KeyLeaf(leafSchema, val));
+        }
+
+        private void addKeyLeaf(KeyLeaf keyLeaf) {
+            SchemaId id = keyLeaf.leafSchema();
             checkArgument(!keyLeafs.contains(keyLeaf),
                           "Attempted to add duplicate key: %s@%s=%s",
-                          name, nameSpace, val);
+                          id.name(), id.namespace(), keyLeaf.leafValue());
             keyLeafs.add(keyLeaf);
         }
 
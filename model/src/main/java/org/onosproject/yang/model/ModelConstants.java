@@ -25,6 +25,8 @@ public final class ModelConstants {
     public static final String LEAF_IS_TERMINAL = "Leaf must be the terminal node";
     public static final String NON_KEY_LEAF = "Leaf list is not a key of list";
     public static final String NO_KEY_SET = "Resource Identifier is empty";
+    public static final String DATA_EXISTS = "Data node already exists: ";
+    public static final String DATA_MISSING = "Data node does not exist: ";
 
     // Forbid construction.
     private ModelConstants() {
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.model;
+
+/**
+ * Abstraction of an entity which converts the model object of a generated
+ * container or list class to and from data node directly, without runtime
+ * reflection. Codecs are generated by the YANG translator for the top level
+ * containers and lists holding only leaves and leaf lists of built-in
+ * integer, boolean, decimal64 and string types, and are registered by YANG
+ * runtime along with their model. YANG runtime uses a codec for the top
+ * level objects and data nodes of its class, and falls back to the
+ * reflection based conversion when the codec does not convert them.
+ *
+ * @param <T> generated default class of the container or list
+ */
+public interface ModelObjectCodec<T extends ModelObject> {
+
+    /**
+     * Returns the generated default class handled by the codec.
+     *
+     * @return generated default class
+     */
+    Class<T> modelClass();
+
+    /**
+     * Returns the data node, along with its descendants, for the given
+     * model object.
+     *
+     * @param object model object
+     * @return data node; null if the object is not converted by the codec,
+     * such as when it is augmented
+     */
+    DataNode encode(T object);
+
+    /**
+     * Returns the model object for the given data node and its descendants.
+     *
+     * @param node data node
+     * @return model object; null if the data node is not converted by the
+     * codec, such as when it has a child not known to the codec
+     */
+    T decode(DataNode node);
+}
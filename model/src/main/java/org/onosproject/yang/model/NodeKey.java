@@ -40,6 +40,15 @@ public class NodeKey<E extends NodeKey> implements Comparable<E>, Cloneable {
         schemaId = builder.schemaId;
     }
 
+    /**
+     * Creates node key identified only by the given schema identifier.
+     *
+     * @param schemaId schema identifier
+     */
+    NodeKey(SchemaId schemaId) {
+        this.schemaId = schemaId;
+    }
+
     /**
      * Returns node key builder.
      *
@@ -72,6 +81,9 @@ public class NodeKey<E extends NodeKey> implements Comparable<E>, Cloneable {
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (obj == null) {
             return false;
         }
@@ -152,13 +164,14 @@ public class NodeKey<E extends NodeKey> implements Comparable<E>, Cloneable {
         }
 
         /**
-         * construct the node key.
+         * construct the node key. Node key is shared by all the nodes with
+         * the same schema identifier instance.
          *
          * @return node key
          */
         public NodeKey build() {
             checkNotNull(schemaId.name(), INCOMPLETE_SCHEMA_INFO);
-            return new NodeKey(this);
+            return schemaId.nodeKey();
         }
     }
 }
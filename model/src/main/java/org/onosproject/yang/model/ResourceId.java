@@ -16,13 +16,13 @@
 
 package org.onosproject.yang.model;
 
-import com.google.common.collect.ImmutableList;
-
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
-import static java.util.Objects.hash;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
 import static org.onosproject.yang.model.ModelConstants.LEAF_IS_TERMINAL;
 import static org.onosproject.yang.model.ModelConstants.NON_KEY_LEAF;
 
@@ -30,14 +30,62 @@ import static org.onosproject.yang.model.ModelConstants.NON_KEY_LEAF;
  * Representation of an entity which identifies a resource in the logical tree
  * data store. It is a list of node keys to identify the branch point
  * hierarchy to reach a resource in the instance tree.
+ * <p>
+ * Resource identifier is persistent, it refers to the resource identifier
+ * of its parent and holds only its last node key. Resource identifiers
+ * derived from a common resource identifier share it as their prefix.
  */
 
 public final class ResourceId {
 
+    private static final ResourceId EMPTY = new ResourceId();
+
+    /**
+     * Resource identifier without the last node key, null for an empty
+     * resource identifier.
+     */
+    private final ResourceId parent;
+
+    /**
+     * Last node key, null for an empty resource identifier.
+     */
+    private final NodeKey key;
+
+    /**
+     * Number of node keys.
+     */
+    private final int depth;
+
+    /**
+     * Hash code of node keys, computed on first use.
+     */
+    private int hash;
+
+    /**
+     * List of node keys, built on first use.
+     */
+    private List<NodeKey> nodeKeyList;
+
+    /**
+     * Creates an empty resource identifier.
+     */
+    private ResourceId() {
+        parent = null;
+        key = null;
+        depth = 0;
+    }
+
     /**
-     * List of node keys.
+     * Creates a resource identifier from its parent and last node key.
+     *
+     * @param parent parent resource identifier
+     * @param key    last node key
      */
-    private final List<NodeKey> nodeKeyList;
+    private ResourceId(ResourceId parent, NodeKey key) {
+        this.parent = parent;
+        this.key = key;
+        depth = parent.depth + 1;
+    }
 
     /**
      * Create object from builder.
@@ -45,7 +93,22 @@ public final class ResourceId {
      * @param builder initialized builder
      */
     public ResourceId(Builder builder) {
-        nodeKeyList = ImmutableList.copyOf(builder.nodeKeyList);
+        ResourceId prefix = builder.prefix == null ? EMPTY : builder.prefix;
+        List<NodeKey> keys = builder.nodeKeyList;
+        int last = keys.size() - 1;
+        for (int i = 0; i < last; i++) {
+            prefix = new ResourceId(prefix, keys.get(i));
+        }
+        if (last >= 0) {
+            parent = prefix;
+            key = keys.get(last);
+            depth = prefix.depth + 1;
+        } else {
+            parent = prefix.parent;
+            key = prefix.key;
+            depth = prefix.depth;
+            hash = prefix.hash;
+        }
     }
 
     /**
@@ -64,7 +127,90 @@ public final class ResourceId {
      * @return node key uniquely identifying the branch
      */
     public List<NodeKey> nodeKeys() {
-        return nodeKeyList;
+        List<NodeKey> list = nodeKeyList;
+        if (list == null) {
+            NodeKey[] keys = new NodeKey[depth];
+            ResourceId id = this;
+            for (int i = depth - 1; i >= 0; i--) {
+                keys[i] = id.key;
+                id = id.parent;
+            }
+            list = unmodifiableList(asList(keys));
+            nodeKeyList = list;
+        }
+        return list;
+    }
+
+    /**
+     * Returns the resource identifier of the parent, which is this resource
+     * identifier without its last node key. Null is returned for an empty
+     * resource identifier.
+     *
+     * @return parent resource identifier
+     */
+    public ResourceId parent() {
+        return parent;
+    }
+
+    /**
+     * Returns the resource identifier of the child identified by the given
+     * node key. The child shares this resource identifier as its prefix.
+     *
+     * @param key node key of the child
+     * @return child resource identifier
+     */
+    public ResourceId child(NodeKey key) {
+        return new ResourceId(this, checkNotNull(key));
+    }
+
+    /**
+     * Returns true if this resource identifier is a proper prefix of the
+     * given resource identifier.
+     *
+     * @param id resource identifier
+     * @return true if this resource identifier is an ancestor of given one
+     */
+    public boolean isAncestorOf(ResourceId id) {
+        return id.depth > depth && equals(id.ancestor(depth));
+    }
+
+    /**
+     * Returns the longest resource identifier which is a prefix of both
+     * this and the given resource identifier.
+     *
+     * @param id resource identifier
+     * @return common prefix
+     */
+    public ResourceId commonPrefix(ResourceId id) {
+        int d = Math.min(depth, id.depth);
+        ResourceId a = ancestor(d);
+        ResourceId b = id.ancestor(d);
+        ResourceId prefix = null;
+        while (a != b && a.key != null) {
+            if (!a.key.equals(b.key)) {
+                prefix = null;
+            } else if (prefix == null) {
+                prefix = a;
+            }
+            a = a.parent;
+            b = b.parent;
+        }
+        return prefix == null ? a : prefix;
+    }
+
+    /**
+     * Returns the prefix of this resource identifier with given number of
+     * node keys.
+     *
+     * @param d number of node keys
+     * @return prefix resource identifier
+     */
+    private ResourceId ancestor(int d) {
+        ResourceId id = this;
+        while (id.depth > d) {
+            id = id.parent;
+        }
+        return id;
     }
 
     /**
@@ -81,7 +227,12 @@ public final class ResourceId {
 
     @Override
     public int hashCode() {
-        return hash(nodeKeyList);
+        int h = hash;
+        if (h == 0) {
+            h = key == null ? 1 : 31 * parent.hashCode() + key.hashCode();
+            hash = h;
+        }
+        return h;
     }
 
     @Override
@@ -92,16 +243,27 @@ public final class ResourceId {
         if (!(obj instanceof ResourceId)) {
             return false;
         }
-        ResourceId that = (ResourceId) obj;
-        List<NodeKey> thatList = that.nodeKeyList;
-        return nodeKeyList.size() == thatList.size() &&
-                nodeKeyList.containsAll(thatList);
+        ResourceId a = this;
+        ResourceId b = (ResourceId) obj;
+        if (a.depth != b.depth) {
+            return false;
+        }
+        // Comparison starts from the last key and ends at a shared prefix.
+        while (a != b && a.key != null) {
+            if (a.hash != 0 && b.hash != 0 && a.hash != b.hash ||
+                    !a.key.equals(b.key)) {
+                return false;
+            }
+            a = a.parent;
+            b = b.parent;
+        }
+        return true;
     }
 
     @Override
     public String toString() {
         return toStringHelper(getClass())
-                .add("nodeKeyList", nodeKeyList)
+                .add("nodeKeyList", nodeKeys())
                 .toString();
     }
 
@@ -119,26 +281,28 @@ public final class ResourceId {
         protected List<NodeKey> nodeKeyList;
         protected NodeKey.NodeKeyBuilder curKeyBuilder;
 
+        // Resource identifier shared as prefix of the built one.
+        private ResourceId prefix;
+
         /**
          * Creates an instance of resource identifier builder.
          */
         public Builder() {
-            nodeKeyList = new LinkedList<>();
+            nodeKeyList = new ArrayList<>();
         }
 
         /**
          * Creates an instance of resource identifier builder. This is used
          * in scenario when builder is required from a given resource
-         * identifier.
+         * identifier. The given resource identifier is shared as the prefix
+         * of the built one.
          *
          * @param id old resource identifier
          * @throws CloneNotSupportedException when clone is not supported
          */
         public Builder(ResourceId id) throws CloneNotSupportedException {
-            nodeKeyList = new LinkedList<>();
-            for (NodeKey key : id.nodeKeyList) {
-                nodeKeyList.add(key.clone());
-            }
+            nodeKeyList = new ArrayList<>();
+            prefix = id;
         }
 
         /**
@@ -151,8 +315,7 @@ public final class ResourceId {
         public Builder append(ResourceId id) throws CloneNotSupportedException {
             processCurKey();
             curKeyBuilder = null;
-            Builder ob = id.copyBuilder();
-            nodeKeyList.addAll(ob.nodeKeyList);
+            nodeKeyList.addAll(id.nodeKeys());
             return this;
         }
 
@@ -263,7 +426,12 @@ public final class ResourceId {
          * @return updated builder
          */
         public Builder removeLastKey() {
-            nodeKeyList.remove(nodeKeyList.size() - 1);
+            if (nodeKeyList.isEmpty() && prefix != null &&
+                    prefix.key != null) {
+                prefix = prefix.parent;
+            } else {
+                nodeKeyList.remove(nodeKeyList.size() - 1);
+            }
             return this;
         }
 
@@ -28,12 +28,21 @@ import static org.onosproject.yang.model.ModelConstants.INCOMPLETE_SCHEMA_INFO;
 /**
  * Representation of an entity which identifies a schema node in the schema /
  * data tree.
+ * <p>
+ * Schema nodes hand out a single schema identifier instance, which is shared
+ * by all the data nodes of the schema node along with its node key.
  */
 public class SchemaId implements Comparable<SchemaId>, Cloneable, Serializable {
 
     private String name;
     private String nameSpace;
 
+    // hash code, computed on first use
+    private transient int hash;
+
+    // node key identified only by this schema identifier, created on first use
+    private transient volatile NodeKey nodeKey;
+
     private SchemaId() {
     }
 
@@ -72,12 +81,35 @@ public class SchemaId implements Comparable<SchemaId>, Cloneable, Serializable {
      */
     @Override
     public SchemaId clone() throws CloneNotSupportedException {
-        return (SchemaId) super.clone();
+        SchemaId clonedId = (SchemaId) super.clone();
+        clonedId.nodeKey = null;
+        return clonedId;
+    }
+
+    /**
+     * Returns the node key identified only by this schema identifier. The
+     * node key is shared by all the nodes with this schema identifier
+     * instance.
+     *
+     * @return node key
+     */
+    NodeKey nodeKey() {
+        NodeKey key = nodeKey;
+        if (key == null) {
+            key = new NodeKey(this);
+            nodeKey = key;
+        }
+        return key;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, nameSpace);
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(name, nameSpace);
+            hash = h;
+        }
+        return h;
     }
 
     @Override
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.model;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.onosproject.yang.model.ChildNodeMap.MAX_INLINE;
+import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_LEAF_VALUE_NODE;
+
+/**
+ * Unit test cases for the child node map of inner nodes.
+ */
+public class ChildNodeMapTest {
+
+    private static final String NS = "ns";
+
+    private static DataNode leaf(String name, Object val) {
+        return LeafNode.builder(name, NS)
+                .type(SINGLE_INSTANCE_LEAF_VALUE_NODE)
+                .value(val).build();
+    }
+
+    private static List<String> names(Map<NodeKey, DataNode> map) {
+        List<String> names = new ArrayList<>();
+        for (NodeKey key : map.keySet()) {
+            names.add(key.schemaId().name());
+        }
+        return names;
+    }
+
+    /**
+     * Checks insertion order, replacement and removal of inline children.
+     */
+    @Test
+    public void inlineChildren() {
+        ChildNodeMap map = new ChildNodeMap();
+        assertTrue(map.isEmpty());
+        DataNode a = leaf("a", 1);
+        DataNode b = leaf("b", 2);
+        DataNode c = leaf("c", 3);
+        map.put(a.key(), a);
+        map.put(b.key(), b);
+        map.put(c.key(), c);
+
+        DataNode b2 = leaf("b", 4);
+        assertSame(b, map.put(b2.key(), b2));
+        assertEquals(3, map.size());
+        assertSame(b2, map.get(NodeKey.builder().schemaId("b", NS).build()));
+        assertEquals("[a, b, c]", names(map).toString());
+
+        assertSame(a, map.remove(a.key()));
+        assertNull(map.get(a.key()));
+        assertFalse(map.containsKey(a.key()));
+        assertEquals("[b, c]", names(map).toString());
+        assertFalse(map.isPromoted());
+    }
+
+    /**
+     * Checks that the map keeps its order and contents once promoted.
+     */
+    @Test
+    public void promotedChildren() {
+        ChildNodeMap map = new ChildNodeMap();
+        Map<NodeKey, DataNode> expected = new LinkedHashMap<>();
+        for (int i = 0; i <= MAX_INLINE; i++) {
+            assertFalse(map.isPromoted());
+            DataNode node = leaf("l" + i, i);
+            map.put(node.key(), node);
+            expected.put(node.key(), node);
+        }
+        assertTrue(map.isPromoted());
+        assertEquals(expected, map);
+        assertEquals(names(expected), names(map));
+        assertEquals(expected.hashCode(), map.hashCode());
+    }
+
+    /**
+     * Checks removal and value update through the entry iterator.
+     */
+    @Test
+    public void iteratorUpdates() {
+        ChildNodeMap map = new ChildNodeMap();
+        for (int i = 0; i < 4; i++) {
+            DataNode node = leaf("l" + i, i);
+            map.put(node.key(), node);
+        }
+        DataNode updated = leaf("l3", 30);
+        Iterator<Map.Entry<NodeKey, DataNode>> it = map.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<NodeKey, DataNode> e = it.next();
+            String name = e.getKey().schemaId().name();
+            if (name.equals("l1") || name.equals("l2")) {
+                it.remove();
+            } else if (name.equals("l3")) {
+                e.setValue(updated);
+            }
+        }
+        assertEquals("[l0, l3]", names(map).toString());
+        assertSame(updated, map.get(updated.key()));
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.model;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.onosproject.yang.model.DataNode.Type.MULTI_INSTANCE_NODE;
+import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_LEAF_VALUE_NODE;
+import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_NODE;
+import static org.onosproject.yang.model.DataNodeEditor.Operation.CREATE;
+import static org.onosproject.yang.model.DataNodeEditor.Operation.DELETE;
+import static org.onosproject.yang.model.DataNodeEditor.Operation.MERGE;
+import static org.onosproject.yang.model.DataNodeEditor.Operation.REMOVE;
+import static org.onosproject.yang.model.DataNodeEditor.Operation.REPLACE;
+
+/**
+ * Unit test cases for data node editor.
+ */
+public class DataNodeEditorTest {
+
+    private static final String NS = "ns";
+
+    private static final ResourceId ROOT = ResourceId.builder()
+            .addBranchPointSchema("root", NS).build();
+
+    /**
+     * Creates a persistent data tree with the given number of interfaces,
+     * each with a name and an mtu of 1500.
+     *
+     * @param count number of interfaces
+     * @return data tree
+     */
+    private static InnerNode createTree(int count) {
+        InnerNode.Builder builder = InnerNode.builder("root", NS)
+                .type(SINGLE_INSTANCE_NODE).persistent();
+        for (int i = 0; i < count; i++) {
+            builder = builder.addNode(intf(i, 1500));
+        }
+        return builder.build();
+    }
+
+    private static DataNode intf(int i, int mtu) {
+        return InnerNode.builder("interface", NS)
+                .type(MULTI_INSTANCE_NODE).persistent()
+                .addKeyLeaf("name", NS, "eth" + i)
+                .createChildBuilder("name", NS, "eth" + i)
+                .type(SINGLE_INSTANCE_LEAF_VALUE_NODE).exitNode()
+                .createChildBuilder("mtu", NS, mtu)
+                .type(SINGLE_INSTANCE_LEAF_VALUE_NODE).exitNode()
+                .build();
+    }
+
+    private static ResourceId intfId(int i) {
+        return ROOT.child(intf(i, 0).key());
+    }
+
+    private static DataNode mtu(int val) {
+        return LeafNode.builder("mtu", NS)
+                .type(SINGLE_INSTANCE_LEAF_VALUE_NODE).value(val).build();
+    }
+
+    private static int mtuOf(DataNode root, int i) {
+        InnerNode node = (InnerNode) ((InnerNode) root).childNodes()
+                .get(intf(i, 0).key());
+        return ((LeafNode) node.childNodes().get(mtu(0).key())).intValue();
+    }
+
+    /**
+     * Checks merge, replace, create, delete and remove in one batch, and
+     * that the original persistent tree is unchanged.
+     */
+    @Test
+    public void batchEdit() {
+        InnerNode tree = createTree(4);
+        DataNodeEditor editor = new DataNodeEditor()
+                .edit(intfId(0).child(mtu(0).key()), MERGE, mtu(9000))
+                .edit(intfId(1), REPLACE, intf(1, 1400))
+                .edit(intfId(2), DELETE, null)
+                .edit(intfId(7), REMOVE, null)
+                .edit(intfId(4), CREATE, intf(4, 1300))
+                .edit(intfId(0), MERGE, InnerNode.builder("interface", NS)
+                        .type(MULTI_INSTANCE_NODE)
+                        .addKeyLeaf("name", NS, "eth0")
+                        .createChildBuilder("descr", NS, "uplink")
+                        .type(SINGLE_INSTANCE_LEAF_VALUE_NODE).exitNode()
+                        .build());
+        InnerNode edited = (InnerNode) editor.apply(tree);
+
+        assertEquals(4, edited.childNodes().size());
+        assertEquals(9000, mtuOf(edited, 0));
+        assertEquals(3, ((InnerNode) edited.childNodes()
+                .get(intf(0, 0).key())).childNodes().size());
+        assertEquals(1400, mtuOf(edited, 1));
+        assertNull(edited.childNodes().get(intf(2, 0).key()));
+        assertEquals(1300, mtuOf(edited, 4));
+        assertSame(tree.childNodes().get(intf(3, 0).key()),
+                   edited.childNodes().get(intf(3, 0).key()));
+
+        assertEquals(4, tree.childNodes().size());
+        assertEquals(1500, mtuOf(tree, 0));
+        assertEquals(5, DataTreeDiff.diff(tree, edited).size());
+    }
+
+    /**
+     * Checks that missing ancestors of a merged data node are created,
+     * with the key leaves of list entries.
+     */
+    @Test
+    public void createAncestors() {
+        InnerNode edited = (InnerNode) new DataNodeEditor()
+                .edit(intfId(5).child(mtu(0).key()), MERGE, mtu(1200))
+                .apply(createTree(0));
+        assertEquals(1200, mtuOf(edited, 5));
+        InnerNode intf = (InnerNode) edited.childNodes().get(intf(5, 0).key());
+        assertEquals(MULTI_INSTANCE_NODE, intf.type());
+        assertTrue(intf.isPersistent());
+        assertEquals(2, intf.childNodes().size());
+    }
+
+    /**
+     * Checks that a later delete supersedes earlier edits of descendants,
+     * and that a create after it succeeds.
+     */
+    @Test
+    public void editOrder() {
+        InnerNode edited = (InnerNode) new DataNodeEditor()
+                .edit(intfId(0).child(mtu(0).key()), MERGE, mtu(9000))
+                .edit(intfId(0), DELETE, null)
+                .edit(intfId(0), CREATE, intf(0, 1000))
+                .apply(createTree(1));
+        assertEquals(1000, mtuOf(edited, 0));
+    }
+
+    /**
+     * Checks that creating an existing data node fails.
+     */
+    @Test(expected = ModelException.class)
+    public void createExisting() {
+        new DataNodeEditor().edit(intfId(0), CREATE, intf(0, 1000))
+                .apply(createTree(1));
+    }
+
+    /**
+     * Checks that deleting a data node under a missing one fails.
+     */
+    @Test(expected = ModelException.class)
+    public void deleteMissing() {
+        new DataNodeEditor().edit(intfId(3).child(mtu(0).key()), DELETE, null)
+                .apply(createTree(1));
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.model;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.onosproject.yang.model.DataNode.Type.MULTI_INSTANCE_NODE;
+import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_LEAF_VALUE_NODE;
+import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_NODE;
+import static org.onosproject.yang.model.DataTreeEdit.Type.CREATE;
+import static org.onosproject.yang.model.DataTreeEdit.Type.DELETE;
+import static org.onosproject.yang.model.DataTreeEdit.Type.REPLACE;
+
+/**
+ * Unit test cases for data tree diff.
+ */
+public class DataTreeDiffTest {
+
+    private static final String NS = "ns";
+
+    /**
+     * Creates a persistent data tree with the given interfaces, each with
+     * a name and an mtu.
+     *
+     * @param mtus mtu of each interface
+     * @return data tree
+     */
+    private static InnerNode createTree(int... mtus) {
+        InnerNode.Builder builder = InnerNode.builder("root", NS)
+                .type(SINGLE_INSTANCE_NODE).persistent()
+                .createChildBuilder("system", NS).type(SINGLE_INSTANCE_NODE)
+                .createChildBuilder("hostname", NS, "dev")
+                .type(SINGLE_INSTANCE_LEAF_VALUE_NODE).exitNode()
+                .exitNode();
+        for (int i = 0; i < mtus.length; i++) {
+            builder = builder.createChildBuilder("interface", NS)
+                    .type(MULTI_INSTANCE_NODE)
+                    .addKeyLeaf("name", NS, "eth" + i)
+                    .createChildBuilder("name", NS, "eth" + i)
+                    .type(SINGLE_INSTANCE_LEAF_VALUE_NODE).exitNode()
+                    .createChildBuilder("mtu", NS, mtus[i])
+                    .type(SINGLE_INSTANCE_LEAF_VALUE_NODE).exitNode()
+                    .exitNode();
+        }
+        return builder.build();
+    }
+
+    private static NodeKey interfaceKey(int i) {
+        return ResourceId.builder()
+                .addBranchPointSchema("interface", NS)
+                .addKeyLeaf("name", NS, "eth" + i).build().nodeKeys().get(0);
+    }
+
+    private static String path(DataTreeEdit edit) {
+        StringBuilder b = new StringBuilder();
+        for (NodeKey k : edit.resourceId().nodeKeys()) {
+            b.append('/').append(k.schemaId().name());
+        }
+        return b.toString();
+    }
+
+    /**
+     * Checks that equal and identical trees have no edits.
+     */
+    @Test
+    public void noChange() {
+        InnerNode tree = createTree(1500, 1500);
+        assertTrue(DataTreeDiff.diff(tree, tree).isEmpty());
+        assertTrue(DataTreeDiff.diff(tree, createTree(1500, 1500)).isEmpty());
+    }
+
+    /**
+     * Checks the edits of a changed leaf, a created and a deleted list
+     * entry.
+     */
+    @Test
+    public void changedTree() {
+        InnerNode oldTree = createTree(1500, 1500, 1500);
+        InnerNode newTree = (InnerNode) oldTree.copyBuilder()
+                .getChildBuilder(interfaceKey(1))
+                .createChildBuilder("mtu", NS, 9000)
+                .type(SINGLE_INSTANCE_LEAF_VALUE_NODE).exitNode()
+                .exitNode()
+                .deleteChild(interfaceKey(2))
+                .createChildBuilder("interface", NS)
+                .type(MULTI_INSTANCE_NODE)
+                .addKeyLeaf("name", NS, "eth3")
+                .exitNode()
+                .build();
+
+        List<DataTreeEdit> edits = DataTreeDiff.diff(oldTree, newTree);
+        assertEquals(3, edits.size());
+
+        assertEquals(DELETE, edits.get(0).type());
+        assertEquals("/root/interface", path(edits.get(0)));
+        assertEquals(interfaceKey(2),
+                     edits.get(0).resourceId().nodeKeys().get(1));
+
+        assertEquals(REPLACE, edits.get(1).type());
+        assertEquals("/root/interface/mtu", path(edits.get(1)));
+        assertEquals(9000, ((LeafNode) edits.get(1).node()).intValue());
+
+        assertEquals(CREATE, edits.get(2).type());
+        assertEquals(interfaceKey(3),
+                     edits.get(2).resourceId().nodeKeys().get(1));
+    }
+
+    /**
+     * Checks the edits of created and deleted trees.
+     */
+    @Test
+    public void createAndDelete() {
+        InnerNode tree = createTree(1500);
+        List<DataTreeEdit> edits = DataTreeDiff.diff(null, tree);
+        assertEquals(1, edits.size());
+        assertEquals(CREATE, edits.get(0).type());
+        assertSame(tree, edits.get(0).node());
+
+        edits = DataTreeDiff.diff(tree, null);
+        assertEquals(DELETE, edits.get(0).type());
+        assertEquals("/root", path(edits.get(0)));
+    }
+}
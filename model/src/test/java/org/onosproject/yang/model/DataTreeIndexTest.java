@@ -0,0 +1,166 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.model;
+
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.onosproject.yang.model.DataNode.Type.MULTI_INSTANCE_NODE;
+import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_LEAF_VALUE_NODE;
+import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_NODE;
+import static org.onosproject.yang.model.DataNodeEditor.Operation.CREATE;
+import static org.onosproject.yang.model.DataNodeEditor.Operation.DELETE;
+import static org.onosproject.yang.model.DataNodeEditor.Operation.MERGE;
+import static org.onosproject.yang.model.DataNodeEditor.Operation.REPLACE;
+
+/**
+ * Unit test cases for data tree index.
+ */
+public class DataTreeIndexTest {
+
+    private static final String NS = "ns";
+
+    private static final ResourceId ROOT = ResourceId.builder()
+            .addBranchPointSchema("root", NS).build();
+
+    /**
+     * Creates a persistent data tree with the given number of interfaces,
+     * each with a name and an mtu of 1500.
+     *
+     * @param count number of interfaces
+     * @return data tree
+     */
+    private static InnerNode createTree(int count) {
+        InnerNode.Builder builder = InnerNode.builder("root", NS)
+                .type(SINGLE_INSTANCE_NODE).persistent();
+        for (int i = 0; i < count; i++) {
+            builder = builder.addNode(intf(i, 1500));
+        }
+        return builder.build();
+    }
+
+    private static DataNode intf(int i, int mtu) {
+        return InnerNode.builder("interface", NS)
+                .type(MULTI_INSTANCE_NODE).persistent()
+                .addKeyLeaf("name", NS, "eth" + i)
+                .createChildBuilder("name", NS, "eth" + i)
+                .type(SINGLE_INSTANCE_LEAF_VALUE_NODE).exitNode()
+                .createChildBuilder("mtu", NS, mtu)
+                .type(SINGLE_INSTANCE_LEAF_VALUE_NODE).exitNode()
+                .build();
+    }
+
+    private static ResourceId intfId(int i) {
+        return ROOT.child(intf(i, 0).key());
+    }
+
+    private static ResourceId mtuId(int i) {
+        return intfId(i).child(mtu(0).key());
+    }
+
+    private static DataNode name(int i) {
+        return LeafNode.builder("name", NS)
+                .type(SINGLE_INSTANCE_LEAF_VALUE_NODE).value("eth" + i).build();
+    }
+
+    private static DataNode mtu(int val) {
+        return LeafNode.builder("mtu", NS)
+                .type(SINGLE_INSTANCE_LEAF_VALUE_NODE).value(val).build();
+    }
+
+    /**
+     * Checks lookups and subtree iteration of an indexed data tree.
+     */
+    @Test
+    public void lookup() {
+        InnerNode tree = createTree(3);
+        DataTreeIndex index = new DataTreeIndex(tree);
+        assertEquals(10, index.size());
+        assertSame(tree, index.get(ROOT));
+        assertSame(tree.childNodes().get(intf(1, 0).key()),
+                   index.get(intfId(1)));
+        assertEquals(1500, ((LeafNode) index.get(mtuId(2))).intValue());
+        assertTrue(index.containsPrefix(intfId(0)));
+        assertFalse(index.containsPrefix(intfId(3)));
+        assertNull(index.get(mtuId(3)));
+
+        Iterator<Map.Entry<ResourceId, DataNode>> it = index.subtree(intfId(1));
+        Map.Entry<ResourceId, DataNode> e = it.next();
+        assertEquals(intfId(1), e.getKey());
+        assertEquals(intfId(1).child(name(1).key()), it.next().getKey());
+        assertEquals(mtuId(1), it.next().getKey());
+        assertFalse(it.hasNext());
+        assertFalse(index.subtree(intfId(5)).hasNext());
+    }
+
+    /**
+     * Checks that the index follows the edits applied by an editor.
+     */
+    @Test
+    public void editedIndex() {
+        InnerNode tree = createTree(3);
+        DataTreeIndex index = new DataTreeIndex(tree);
+        DataNode edited = new DataNodeEditor()
+                .edit(mtuId(0), MERGE, mtu(9000))
+                .edit(intfId(1), DELETE, null)
+                .edit(intfId(2), REPLACE, intf(2, 1400))
+                .edit(intfId(4), CREATE, intf(4, 1300))
+                .edit(mtuId(5), MERGE, mtu(1200))
+                .apply(tree, index);
+
+        assertSame(edited, index.root());
+        assertSame(edited, index.get(ROOT));
+        assertEquals(9000, ((LeafNode) index.get(mtuId(0))).intValue());
+        assertFalse(index.containsPrefix(intfId(1)));
+        assertNull(index.get(mtuId(1)));
+        assertEquals(1400, ((LeafNode) index.get(mtuId(2))).intValue());
+        assertEquals(1300, ((LeafNode) index.get(mtuId(4))).intValue());
+        assertEquals(1200, ((LeafNode) index.get(mtuId(5))).intValue());
+        assertEquals(13, index.size());
+
+        DataTreeIndex rebuilt = new DataTreeIndex(edited);
+        assertEquals(rebuilt.size(), index.size());
+        Iterator<Map.Entry<ResourceId, DataNode>> it = rebuilt.subtree(ROOT);
+        Iterator<Map.Entry<ResourceId, DataNode>> it2 = index.subtree(ROOT);
+        while (it.hasNext()) {
+            Map.Entry<ResourceId, DataNode> e = it.next();
+            Map.Entry<ResourceId, DataNode> e2 = it2.next();
+            assertEquals(e.getKey(), e2.getKey());
+            assertSame(e.getValue(), e2.getValue());
+        }
+    }
+
+    /**
+     * Checks that deleting the root node empties the index.
+     */
+    @Test
+    public void deletedRoot() {
+        InnerNode tree = createTree(1);
+        DataTreeIndex index = new DataTreeIndex(tree);
+        assertNull(new DataNodeEditor().edit(ROOT, DELETE, null)
+                           .apply(tree, index));
+        assertNull(index.root());
+        assertEquals(0, index.size());
+    }
+}
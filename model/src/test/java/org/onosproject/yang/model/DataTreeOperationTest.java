@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.onosproject.yang.model.DataNode.Type.MULTI_INSTANCE_LEAF_VALUE_NODE;
 import static org.onosproject.yang.model.DataNode.Type.MULTI_INSTANCE_NODE;
@@ -74,6 +75,16 @@ public class DataTreeOperationTest {
      * @return data tree
      */
     private DataNode createDataTree() {
+        return createDataTree(InnerNode.builder(PARENT, PARENT_NAMESPACE));
+    }
+
+    /**
+     * Creates a data tree from the given parent node builder.
+     *
+     * @param parent parent node builder
+     * @return data tree
+     */
+    private DataNode createDataTree(InnerNode.Builder parent) {
 
         /*
          * parent
@@ -85,7 +96,7 @@ public class DataTreeOperationTest {
          * |      |-----l2
          */
 
-        return InnerNode.builder(PARENT, PARENT_NAMESPACE)
+        return parent
                 //Parent
                 .type(SINGLE_INSTANCE_NODE)
                 //C1
@@ -508,6 +519,55 @@ public class DataTreeOperationTest {
         validateNode(node, C2, C2_NAMESPACE, 1);
     }
 
+    /**
+     * Unit test case to edit a persistent data tree, which leaves the
+     * original tree unchanged and shares the untouched subtrees.
+     */
+    @Test
+    public void testPersistentEdit() {
+
+        InnerNode node = (InnerNode) createDataTree(
+                InnerNode.builder(PARENT, PARENT_NAMESPACE).persistent());
+        ResourceId id = ResourceId.builder()
+                .addBranchPointSchema(PARENT, PARENT_NAMESPACE)
+                .addBranchPointSchema(C1, C1_NAMESPACE)
+                .addBranchPointSchema(C3, C3_NAMESPACE).build();
+        List<NodeKey> keys = id.nodeKeys();
+
+        InnerNode edited = node.copyBuilder()
+                .getChildBuilder(keys.get(1))
+                .getChildBuilder(keys.get(2))
+                .createChildBuilder(C4, C4_NAMESPACE).type(SINGLE_INSTANCE_NODE)
+                .exitNode()
+                .exitNode()
+                .exitNode()
+                .build();
+
+        //original tree is unchanged.
+        InnerNode c1 = (InnerNode) node.childNodes().get(keys.get(1));
+        validateNode(c1.childNodes().get(keys.get(2)), C3, C3_NAMESPACE, 0);
+
+        //edited tree has c4 and shares c2 and l1 with the original tree.
+        InnerNode newC1 = (InnerNode) edited.childNodes().get(keys.get(1));
+        validateNode(newC1.childNodes().get(keys.get(2)), C3, C3_NAMESPACE, 1);
+        assertThat(true, is(edited.isPersistent() && newC1.isPersistent()));
+        NodeKey c2 = NodeKey.builder().schemaId(C2, C2_NAMESPACE).build();
+        assertSame(node.childNodes().get(c2), edited.childNodes().get(c2));
+        NodeKey l1 = NodeKey.builder().schemaId(L1, L1_NAMESPACE).build();
+        assertSame(c1.childNodes().get(l1), newC1.childNodes().get(l1));
+    }
+
+    /**
+     * Unit test case to check that the children of a persistent node can't
+     * be modified in place.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void testPersistentImmutable() {
+        InnerNode node = (InnerNode) createDataTree(
+                InnerNode.builder(PARENT, PARENT_NAMESPACE).persistent());
+        node.childNodes().clear();
+    }
+
     /**
      * Validates each node.
      *
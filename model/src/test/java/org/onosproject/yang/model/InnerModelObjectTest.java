@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.model;
+
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test cases for augmentations of inner model objects.
+ */
+public class InnerModelObjectTest {
+
+    private static class Node extends InnerModelObject {
+    }
+
+    private static class AugmentA extends InnerModelObject {
+    }
+
+    private static class AugmentB extends InnerModelObject {
+    }
+
+    /**
+     * Checks adding, replacing and removing augmentations, and that the
+     * returned maps are snapshots.
+     */
+    @Test
+    public void augmentations() {
+        Node node = new Node();
+        assertSame(new Node().augmentations(), node.augmentations());
+        assertTrue(node.augmentations().isEmpty());
+
+        AugmentA a = new AugmentA();
+        AugmentB b = new AugmentB();
+        node.addAugmentation(a);
+        node.addAugmentation(b);
+        Map<Class<? extends InnerModelObject>, InnerModelObject> snapshot =
+                node.augmentations();
+        assertSame(a, node.augmentation(AugmentA.class));
+        assertSame(b, node.augmentation(AugmentB.class));
+
+        AugmentA a2 = new AugmentA();
+        node.addAugmentation(a2);
+        assertSame(a2, node.augmentation(AugmentA.class));
+        assertEquals(2, node.augmentations().size());
+        assertSame(a, snapshot.get(AugmentA.class));
+
+        node.removeAugmentation(a);
+        assertNull(node.augmentation(AugmentA.class));
+        assertEquals(1, node.augmentations().size());
+        assertEquals(2, snapshot.size());
+    }
+
+    /**
+     * Checks that augmentations added concurrently are all kept.
+     *
+     * @throws InterruptedException if interrupted
+     */
+    @Test
+    public void concurrentAdd() throws InterruptedException {
+        Node node = new Node();
+        Thread t = new Thread(() -> {
+            for (int i = 0; i < 1000; i++) {
+                node.addAugmentation(new AugmentA());
+            }
+        });
+        t.start();
+        for (int i = 0; i < 1000; i++) {
+            node.addAugmentation(new AugmentB());
+        }
+        t.join();
+        assertEquals(2, node.augmentations().size());
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.model;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_LEAF_VALUE_NODE;
+import static org.onosproject.yang.model.LeafType.UINT64;
+import static org.onosproject.yang.model.LeafType.UINT8;
+
+/**
+ * Unit test cases for leaf node values.
+ */
+public class LeafNodeTest {
+
+    private static LeafNode leaf(Object val) {
+        return LeafNode.builder("l", "ns")
+                .type(SINGLE_INSTANCE_LEAF_VALUE_NODE)
+                .value(val).build();
+    }
+
+    private static void checkValue(Object val) {
+        LeafNode node = leaf(val);
+        assertEquals(val.getClass(), node.value().getClass());
+        assertEquals(val, node.value());
+        assertEquals(String.valueOf(val), node.asString());
+
+        LeafNode copy = node.copyBuilder().build();
+        assertEquals(node.getClass(), copy.getClass());
+        assertEquals(val, copy.value());
+    }
+
+    /**
+     * Checks that numeric and boolean values keep their type and value.
+     */
+    @Test
+    public void primitiveValues() {
+        checkValue((byte) -8);
+        checkValue((short) 300);
+        checkValue(70000);
+        checkValue(5000000000L);
+        checkValue(true);
+        checkValue(new BigInteger("18446744073709551615"));
+        checkValue(new BigInteger("42"));
+        checkValue(new BigDecimal("-12.3450"));
+        checkValue(new BigDecimal("1E-7"));
+        checkValue("string");
+        checkValue(new BigInteger("184467440737095516150"));
+    }
+
+    /**
+     * Checks the typed accessors and setters.
+     */
+    @Test
+    public void typedAccessors() {
+        LeafNode node = LeafNode.builder("l", "ns")
+                .type(SINGLE_INSTANCE_LEAF_VALUE_NODE)
+                .longValue(UINT8, 255).build();
+        assertEquals(Short.valueOf((short) 255), node.value());
+        assertEquals(255, node.intValue());
+
+        node = LeafNode.builder("l", "ns")
+                .type(SINGLE_INSTANCE_LEAF_VALUE_NODE)
+                .longValue(UINT64, -1).build();
+        assertEquals("18446744073709551615", node.asString());
+        assertEquals(-1L, node.longValue());
+
+        node = LeafNode.builder("l", "ns")
+                .type(SINGLE_INSTANCE_LEAF_VALUE_NODE)
+                .decimal64Value(-1250, 2).build();
+        assertEquals(new BigDecimal("-12.50"), node.value());
+
+        assertTrue(leaf(true).booleanValue());
+        assertFalse(leaf(false).booleanValue());
+        assertEquals(7L, leaf(7).longValue());
+    }
+
+    /**
+     * Checks the value presence of primitive, object and null values.
+     */
+    @Test
+    public void valuePresence() {
+        assertTrue(leaf(0).hasValue());
+        assertTrue(leaf(false).hasValue());
+        assertTrue(leaf(new BigDecimal("0.0")).hasValue());
+        assertTrue(leaf("").hasValue());
+        assertFalse(leaf(null).hasValue());
+        assertFalse(leaf(null).copyBuilder().build().hasValue());
+    }
+
+    /**
+     * Checks that the boolean accessor rejects a numeric value.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void invalidBooleanAccess() {
+        leaf(1).booleanValue();
+    }
+}
@@ -22,6 +22,11 @@ import com.google.common.testing.EqualsTester;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Test resource ID.
@@ -56,6 +61,78 @@ public class ResourceIdTest {
         .testEquals();
     }
 
+    @Test
+    public void positionalEquality() throws CloneNotSupportedException {
+        ResourceId ridB = ResourceId.builder()
+                .addBranchPointSchema("/", "")
+                .addBranchPointSchema("device", "onos")
+                .addBranchPointSchema("devices", "onos")
+                .build();
+        ResourceId ridC = ResourceId.builder()
+                .addBranchPointSchema("/", "")
+                .addBranchPointSchema("devices", "onos")
+                .addBranchPointSchema("device", "onos")
+                .addKeyLeaf("device-id", "onos", "test:A")
+                .addKeyLeaf("port", "onos", "1")
+                .build();
+        ResourceId ridD = ResourceId.builder()
+                .addBranchPointSchema("/", "")
+                .addBranchPointSchema("devices", "onos")
+                .addBranchPointSchema("device", "onos")
+                .addKeyLeaf("port", "onos", "1")
+                .addKeyLeaf("device-id", "onos", "test:A")
+                .build();
+
+        assertNotEquals(ridB, ResourceId.builder()
+                .addBranchPointSchema("/", "")
+                .addBranchPointSchema("devices", "onos")
+                .addBranchPointSchema("device", "onos")
+                .build());
+        assertNotEquals(ridC, ridD);
+        assertNotEquals(ridC.nodeKeys().get(2), ridD.nodeKeys().get(2));
+        ResourceId ridCcopy = ridC.copyBuilder().build();
+        assertEquals(ridC, ridCcopy);
+        assertEquals(ridC.hashCode(), ridCcopy.hashCode());
+    }
+
+    @Test
+    public void parentAndChild() throws CloneNotSupportedException {
+        ResourceId devices = ridA.parent();
+        assertEquals(2, devices.nodeKeys().size());
+        assertEquals("devices", devices.nodeKeys().get(1).schemaId().name());
+        assertEquals(EMPTY, ROOT.parent());
+        assertNull(EMPTY.parent());
+
+        ResourceId device = devices.child(ridA.nodeKeys().get(2));
+        assertEquals(ridA, device);
+        assertEquals(ridA.hashCode(), device.hashCode());
+        assertSame(devices, device.parent());
+
+        ResourceId copy = ridA.copyBuilder().removeLastKey().build();
+        assertEquals(ridA.parent(), copy);
+    }
+
+    @Test
+    public void ancestorAndCommonPrefix() {
+        ResourceId ridB = ResourceId.builder()
+                .addBranchPointSchema("/", "")
+                .addBranchPointSchema("devices", "onos")
+                .addBranchPointSchema("device", "onos")
+                .addKeyLeaf("device-id", "onos", "test:B")
+                .build();
+
+        assertTrue(ROOT.isAncestorOf(ridA));
+        assertTrue(EMPTY.isAncestorOf(ridA));
+        assertTrue(ridB.parent().isAncestorOf(ridA));
+        assertFalse(ridA.isAncestorOf(ridAcopy));
+        assertFalse(ridB.isAncestorOf(ridA));
+
+        assertEquals(ridA.parent(), ridA.commonPrefix(ridB));
+        assertEquals(ridA, ridA.commonPrefix(ridAcopy));
+        assertEquals(ROOT, ROOT.commonPrefix(ridB));
+        assertEquals(EMPTY, ridA.commonPrefix(EMPTY));
+    }
+
     @Test
     public void appendNodeKeys() throws CloneNotSupportedException {
         ResourceId devices = ResourceId.builder()
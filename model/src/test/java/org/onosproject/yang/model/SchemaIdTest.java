@@ -19,6 +19,10 @@ import org.junit.Test;
 
 import com.google.common.testing.EqualsTester;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
 public class SchemaIdTest {
 
     @Test
@@ -32,4 +36,16 @@ public class SchemaIdTest {
             .testEquals();
     }
 
+    @Test
+    public void testSharedNodeKey() throws CloneNotSupportedException {
+        SchemaId id = new SchemaId("a1", "a1");
+        NodeKey key = NodeKey.builder().schemaId(id).build();
+        assertSame(key, NodeKey.builder().schemaId(id).build());
+
+        NodeKey other = NodeKey.builder().schemaId("a1", "a1").build();
+        assertNotSame(key, other);
+        assertEquals(key, other);
+        assertNotSame(key, id.clone().nodeKey());
+    }
+
 }
@@ -29,8 +29,8 @@ import org.slf4j.Logger;
 
 import java.io.IOException;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentMap;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static org.onosproject.yang.compiler.datamodel.utils.DataModelUtils.getDateInStringFormat;
@@ -66,7 +66,9 @@ public final class RuntimeHelper {
     }
 
     /**
-     * Returns YANG node for given YANG model.
+     * Returns YANG node for given YANG model. Linking and translation are
+     * skipped when all the modules of the model are already linked by the
+     * YANG compiler.
      *
      * @param model           YANG model
      * @param yangSchemaStore YANG schema store
@@ -74,12 +76,14 @@ public final class RuntimeHelper {
      */
     public static Set<YangNode> getNodes(
             YangModel model,
-            ConcurrentMap<String, ConcurrentMap<String, YangSchemaNode>> yangSchemaStore) {
+            Map<String, ? extends Map<String, YangSchemaNode>> yangSchemaStore) {
         Set<YangNode> selfNodes = new HashSet<>();
         Set<YangNode> nodes = new HashSet<>();
+        boolean linked = true;
         for (YangModule info : model.getYangModules()) {
             YangModuleExtendedInfo ex = (YangModuleExtendedInfo) info;
             YangNode node = ex.getSchema();
+            linked &= ex.isLinked();
             if (ex.isInterJar()) {
                 String name = node.getName();
                 String date = getDateInStringFormat(node);
@@ -87,7 +91,7 @@ public final class RuntimeHelper {
                 if (date != null) {
                     revName = name + "@" + date;
                 }
-                ConcurrentMap<String, YangSchemaNode> ss = yangSchemaStore.get(name);
+                Map<String, YangSchemaNode> ss = yangSchemaStore.get(name);
                 checkNotNull(ss, "schema %s not found", name);
                 node = (YangNode) ss.get(revName);
             } else {
@@ -96,7 +100,9 @@ public final class RuntimeHelper {
             nodes.add(node);
         }
         //Target linking.
-        addLinkerAndJavaInfo(nodes);
+        if (!linked) {
+            addLinkerAndJavaInfo(nodes);
+        }
         return selfNodes;
     }
 
@@ -109,7 +115,7 @@ public final class RuntimeHelper {
      */
     public static Set<YangNode> getSelfNodes(
             YangModel model,
-            ConcurrentMap<String, ConcurrentMap<String, YangSchemaNode>> yangSchemaStore) {
+            Map<String, ? extends Map<String, YangSchemaNode>> yangSchemaStore) {
         Set<YangNode> nodes = new HashSet<>();
         for (YangModule info : model.getYangModules()) {
             YangModuleExtendedInfo ex = (YangModuleExtendedInfo) info;
@@ -321,6 +321,7 @@ public final class SerializerHelper {
             ExtResourceIdBldr curBldr = info.getResourceIdBuilder();
             LeafSchemaContext schema;
             LeafType lType;
+            LeafNode.Builder leaf;
 
             if (curBldr != null) {
                 rIdBldr = info.getResourceIdBuilder();
@@ -344,7 +345,8 @@ public final class SerializerHelper {
             }
 
             // Updating the namespace
-            namespace = childSchema.getSchemaId().namespace();
+            SchemaId sId = childSchema.getSchemaId();
+            namespace = sId.namespace();
             updateResourceId(rIdBldr, name, value, childSchema, nodeType);
 
             if (!initWithRId) {
@@ -368,11 +370,12 @@ public final class SerializerHelper {
                             valNamespace = null;
                         }
 
-                        valObject = getLeaf(value, schema);
+                        leaf = setLeafValue(
+                                LeafNode.builder(name, namespace), value,
+                                lType, schema);
                         valNamespace = getValidValNamespace(value, schema,
                                                             valNamespace);
-                        builder = LeafNode.builder(name, namespace)
-                                .type(nodeType).value(valObject)
+                        builder = leaf.schemaId(sId).type(nodeType)
                                 .valueNamespace(valNamespace).leafType(lType);
                         break;
                     case MULTI_INSTANCE_LEAF_VALUE_NODE:
@@ -386,6 +389,7 @@ public final class SerializerHelper {
                         valNamespace = getValidValNamespace(value, schema,
                                                             valNamespace);
                         builder = LeafNode.builder(name, namespace)
+                                .schemaId(sId)
                                 .type(nodeType).value(valObject)
                                 .valueNamespace(valNamespace).leafType(lType);
                         builder = builder.addLeafListValue(valObject);
@@ -396,7 +400,8 @@ public final class SerializerHelper {
                      * keybuilder will be initialized only once when
                      * InnerNode.builder call is made with name and namespace.
                      */
-                        builder = InnerNode.builder(name, namespace).type(nodeType);
+                        builder = InnerNode.builder(name, namespace)
+                                .schemaId(sId).type(nodeType);
                         break;
                 }
             } else {
@@ -408,16 +413,20 @@ public final class SerializerHelper {
                             value = valNamespace + ":" + value;
                             valNamespace = null;
                         }
-                        valObject = getLeaf(value, schema);
-                        valNamespace = getValidValNamespace(value, schema,
-                                                            valNamespace);
                         if (((YangLeaf) childSchema).isKeyLeaf()) {
-                            builder = builder.addKeyLeaf(
-                                    name, namespace, valObject);
+                            valObject = getLeaf(value, schema);
+                            builder = builder.addKeyLeaf(sId, valObject);
+                            leaf = builder.createChildBuilder(
+                                    name, namespace, valObject, null);
+                        } else {
+                            leaf = setLeafValue(builder.createChildBuilder(
+                                    name, namespace, null, null), value,
+                                                lType, schema);
                         }
-                        builder = builder.createChildBuilder(
-                                name, namespace, valObject, valNamespace)
-                                .type(nodeType).leafType(lType);
+                        valNamespace = getValidValNamespace(value, schema,
+                                                            valNamespace);
+                        builder = leaf.schemaId(sId).type(nodeType)
+                                .valueNamespace(valNamespace).leafType(lType);
                         break;
                     case MULTI_INSTANCE_LEAF_VALUE_NODE:
                         schema = (LeafSchemaContext) childSchema;
@@ -431,12 +440,13 @@ public final class SerializerHelper {
                                                             valNamespace);
                         builder = builder.createChildBuilder(
                                 name, namespace, valObject, valNamespace)
+                                .schemaId(sId)
                                 .type(nodeType).leafType(lType);
                         builder = builder.addLeafListValue(valObject);
                         break;
                     default:
                         builder = builder.createChildBuilder(name, namespace)
-                                .type(nodeType);
+                                .schemaId(sId).type(nodeType);
                 }
             }
 
@@ -477,12 +487,61 @@ public final class SerializerHelper {
      */
     private static Object getLeaf(String val, LeafSchemaContext ctx)
             throws IllegalArgumentException {
+        checkLeaf(val, ctx);
+        return ctx.fromString(val);
+    }
+
+    /**
+     * Validates the given leaf value.
+     *
+     * @param val value in string
+     * @param ctx leaf schema context
+     * @throws IllegalArgumentException a violation of data type rules
+     */
+    private static void checkLeaf(String val, LeafSchemaContext ctx)
+            throws IllegalArgumentException {
         try {
             ((YangLeaf) ctx).getDataType().isValidValue(val);
         } catch (DataModelException e) {
             throw new IllegalArgumentException(e);
         }
-        return ctx.fromString(val);
+    }
+
+    /**
+     * Sets the value of a leaf, which is not a key leaf, to the leaf node
+     * builder. Integer and boolean values are parsed straight into the
+     * primitive value of the leaf node, so that no object is created for
+     * them.
+     *
+     * @param builder leaf node builder
+     * @param val     value in string
+     * @param type    effective leaf type of the value
+     * @param ctx     leaf schema context
+     * @return leaf node builder
+     * @throws IllegalArgumentException a violation of data type rules
+     */
+    private static LeafNode.Builder setLeafValue(LeafNode.Builder builder,
+                                                 String val, LeafType type,
+                                                 LeafSchemaContext ctx)
+            throws IllegalArgumentException {
+        checkLeaf(val, ctx);
+        switch (type) {
+            case INT8:
+                return builder.longValue(type, Byte.parseByte(val));
+            case UINT8:
+            case INT16:
+                return builder.longValue(type, Short.parseShort(val));
+            case UINT16:
+            case INT32:
+                return builder.longValue(type, Integer.parseInt(val));
+            case UINT32:
+            case INT64:
+                return builder.longValue(type, Long.parseLong(val));
+            case BOOLEAN:
+                return builder.booleanValue(Boolean.parseBoolean(val));
+            default:
+                return builder.value(ctx.fromString(val));
+        }
     }
 
 
@@ -21,6 +21,7 @@ import org.onosproject.yang.model.YangModel;
 import org.onosproject.yang.model.YangModule;
 import org.onosproject.yang.model.YangModuleId;
 
+import java.util.Collection;
 import java.util.Set;
 
 /**
@@ -40,6 +41,23 @@ public interface YangModelRegistry {
     void registerModel(ModelRegistrationParam param)
             throws IllegalArgumentException;
 
+    /**
+     * Registers the given new models. By default, the models are registered
+     * one after another, in the given order.
+     *
+     * @param params parameters having models to be registered with
+     *               additional information provided by apps
+     * @throws IllegalArgumentException when a requested model with provided
+     *                                  identifier is already registered or
+     *                                  not valid
+     */
+    default void registerModels(Collection<ModelRegistrationParam> params)
+            throws IllegalArgumentException {
+        for (ModelRegistrationParam param : params) {
+            registerModel(param);
+        }
+    }
+
     /**
      * Registers the given generated node referenced by given model object
      * identifier under provided anydata model object identifier.
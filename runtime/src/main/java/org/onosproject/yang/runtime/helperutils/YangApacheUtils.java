@@ -16,9 +16,11 @@
 
 package org.onosproject.yang.runtime.helperutils;
 
-import static org.onosproject.yang.compiler.tool.YangCompilerManager.parseJarFile;
+import static org.onosproject.yang.compiler.tool.YangCompilerManager.deSerializeDataModel;
+import static org.onosproject.yang.compiler.tool.YangCompilerManager.extractJarFile;
 import static org.onosproject.yang.compiler.tool.YangCompilerManager.processYangModel;
 import static org.onosproject.yang.compiler.tool.YangCompilerManager.setNodeInfo;
+import static org.onosproject.yang.compiler.utils.UtilConstants.YANG_LINKED_META_DATA;
 import static org.osgi.framework.FrameworkUtil.getBundle;
 import static org.slf4j.LoggerFactory.getLogger;
 
@@ -68,19 +70,75 @@ public final class YangApacheUtils {
             jarPath = getJarPathFromBundleLocation(
                     bundle.getLocation(), context.getProperty(USER_DIRECTORY));
             metaPath = jarPath + SLASH + YANG_RESOURCES + SLASH;
-            YangModel model = processJarParsingOperations(jarPath);
-            if (model != null) {
-                setNodeInfo(model, nodeInfo);
-                // process model creations.
-                if (!nodeInfo.isEmpty()) {
-                      return processYangModel(metaPath, nodeInfo,
+            File metaData = processJarExtraction(jarPath);
+            if (metaData != null) {
+                /*
+                 * Linked meta data already carries the linked model, so
+                 * the unlinked meta data is read only when it is absent.
+                 */
+                YangModel linked = getLinkedModel(metaPath);
+                if (linked != null) {
+                    return linked;
+                }
+                YangModel model = getUnlinkedModel(metaData);
+                if (model != null) {
+                    setNodeInfo(model, nodeInfo);
+                    // process model creations.
+                    if (!nodeInfo.isEmpty()) {
+                        return processYangModel(metaPath, nodeInfo,
                                                 model.getYangModelId(), false);
+                    }
                 }
             }
         }
         return null;
     }
 
+    /**
+     * Returns YANG model from the linked meta data emitted by the YANG
+     * compiler, whose nodes are already linked and carry the java info. Null
+     * is returned when the jar does not contain linked meta data.
+     *
+     * @param metaPath path of YANG resources
+     * @return linked YANG model
+     */
+    private static YangModel getLinkedModel(String metaPath) {
+        File file = new File(metaPath + YANG_LINKED_META_DATA);
+        if (!file.exists()) {
+            return null;
+        }
+        try {
+            List<YangNodeInfo> nodeInfo = new ArrayList<>();
+            YangModel linked = deSerializeDataModel(file.toString());
+            setNodeInfo(linked, nodeInfo);
+            if (nodeInfo.isEmpty()) {
+                return null;
+            }
+            return processYangModel(metaPath, nodeInfo,
+                                    linked.getYangModelId(), false, true);
+        } catch (IOException e) {
+            log.error(" failed to fetch linked model in path {} : {} ",
+                      metaPath, e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Returns YANG model from the unlinked meta data extracted from the jar.
+     *
+     * @param metaData extracted meta data file
+     * @return unlinked YANG model
+     */
+    private static YangModel getUnlinkedModel(File metaData) {
+        try {
+            return deSerializeDataModel(metaData.toString());
+        } catch (IOException e) {
+            log.error(" failed to fetch model in path {} : {} ",
+                      metaData, e.getMessage());
+        }
+        return null;
+    }
+
     /**
      * Returns jar path from bundle mvnLocationPath.
      *
@@ -118,18 +176,17 @@ public final class YangApacheUtils {
     }
 
     /**
-     * Process jar file for fetching YANG model.
+     * Process jar file for extracting YANG meta data.
      *
      * @param path jar file path
-     * @return YANG model
+     * @return extracted YANG meta data file
      */
-    private static YangModel processJarParsingOperations(String path) {
-        //Deserialize data model and get the YANG node set.
+    private static File processJarExtraction(String path) {
         String jar = path + JAR;
         try {
             File file = new File(jar);
             if (file.exists()) {
-                return parseJarFile(path + JAR, path);
+                return extractJarFile(path + JAR, path);
             }
         } catch (IOException e) {
             log.error(" failed to parse the jar file in path {} : {} ", path,
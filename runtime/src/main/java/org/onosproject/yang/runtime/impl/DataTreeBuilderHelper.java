@@ -68,6 +68,7 @@ import static org.onosproject.yang.runtime.impl.ModelConverterUtil.getParentObje
 import static org.onosproject.yang.runtime.impl.ModelConverterUtil.isAugmentNode;
 import static org.onosproject.yang.runtime.impl.ModelConverterUtil.isMultiInstanceNode;
 import static org.onosproject.yang.runtime.impl.ModelConverterUtil.isNodeProcessCompleted;
+import static org.onosproject.yang.runtime.impl.ModelConverterUtil.setSchemaId;
 import static org.onosproject.yang.runtime.impl.ModelConverterUtil.isNonProcessableNode;
 import static org.onosproject.yang.runtime.impl.ModelConverterUtil.isTypeEmpty;
 import static org.onosproject.yang.runtime.impl.YobConstants.E_FAIL_TO_LOAD_CLASS;
@@ -780,6 +781,7 @@ public class DataTreeBuilderHelper {
                     curNode.getName(), curNode.getNameSpace()
                             .getModuleNamespace()).type(curNodeInfo.type());
         }
+        setSchemaId(extBuilder, curNode);
         exitBuilderSchema = curNode;
         extBuilder.appInfo(curNodeInfo);
     }
@@ -923,7 +925,7 @@ public class DataTreeBuilderHelper {
                 DataNode.Builder leaf = extBuilder.createChildBuilder(
                         leafList.getName(), leafList.getNameSpace()
                                 .getModuleNamespace(), val, valNamespace)
-                        .leafType(ltype);
+                        .schemaId(leafList.getSchemaId()).leafType(ltype);
                 leaf.type(MULTI_INSTANCE_LEAF_VALUE_NODE);
                 leaf.addLeafListValue(val);
                 extBuilder = leaf.exitNode();
@@ -941,7 +943,8 @@ public class DataTreeBuilderHelper {
             String valNamespace = getValNamespace(val, leafList);
             DataNode.Builder leaf = LeafNode.builder(
                     leafList.getName(), leafList.getNameSpace()
-                            .getModuleNamespace()).value(val)
+                            .getModuleNamespace())
+                    .schemaId(leafList.getSchemaId()).value(val)
                     .valueNamespace(valNamespace).leafType(ltype);
             leaf.type(MULTI_INSTANCE_LEAF_VALUE_NODE);
             leaf.addLeafListValue(val);
@@ -995,14 +998,13 @@ public class DataTreeBuilderHelper {
         if (extBuilder != null) {
             //Add leaf to key leaves.
             if (yangLeaf.isKeyLeaf()) {
-                extBuilder.addKeyLeaf(yangLeaf.getName(), yangLeaf
-                        .getNameSpace().getModuleNamespace(), val);
+                extBuilder.addKeyLeaf(yangLeaf.getSchemaId(), val);
             }
             //build leaf node and add to parent node.
             DataNode.Builder leaf = extBuilder.createChildBuilder(
                     yangLeaf.getName(), yangLeaf.getNameSpace()
                             .getModuleNamespace(), val, valNamespace)
-                    .leafType(ltype);
+                    .schemaId(yangLeaf.getSchemaId()).leafType(ltype);
             leaf.type(SINGLE_INSTANCE_LEAF_VALUE_NODE);
 
             extBuilder = leaf.exitNode();
@@ -1010,6 +1012,7 @@ public class DataTreeBuilderHelper {
         }
         return LeafNode.builder(yangLeaf.getName(), yangLeaf.getNameSpace()
                 .getModuleNamespace())
+                .schemaId(yangLeaf.getSchemaId())
                 .type(SINGLE_INSTANCE_LEAF_VALUE_NODE)
                 .value(val).valueNamespace(valNamespace).leafType(ltype);
     }
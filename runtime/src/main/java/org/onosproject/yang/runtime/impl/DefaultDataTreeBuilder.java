@@ -39,13 +39,16 @@ import org.onosproject.yang.model.LeafModelObject;
 import org.onosproject.yang.model.LeafNode;
 import org.onosproject.yang.model.ModelConverterException;
 import org.onosproject.yang.model.ModelObject;
+import org.onosproject.yang.model.ModelObjectCodec;
 import org.onosproject.yang.model.ModelObjectData;
 import org.onosproject.yang.model.ModelObjectId;
 import org.onosproject.yang.model.ResourceData;
 import org.onosproject.yang.model.ResourceId;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.onosproject.yang.compiler.datamodel.YangSchemaNodeType.YANG_NON_DATA_NODE;
@@ -66,6 +69,7 @@ import static org.onosproject.yang.runtime.impl.ModelConverterUtil.getJavaName;
 import static org.onosproject.yang.runtime.impl.ModelConverterUtil.getLeafListObject;
 import static org.onosproject.yang.runtime.impl.ModelConverterUtil.getLeafObject;
 import static org.onosproject.yang.runtime.impl.ModelConverterUtil.isTypeEmpty;
+import static org.onosproject.yang.runtime.impl.ModelConverterUtil.setSchemaId;
 
 /**
  * Representation of data tree builder which generates YANG data tree from the
@@ -86,6 +90,12 @@ class DefaultDataTreeBuilder {
      *    Class+leaf  |    Object         |  INVALID case        | -----
      */
 
+    /**
+     * Plugin configuration used to derive the generated class name of
+     * augment nodes.
+     */
+    private static final YangPluginConfig PLUGIN_CONFIG = new YangPluginConfig();
+
     /**
      * Default YANG Model registry for getting the schema node with respect
      * to class packages.
@@ -238,7 +248,6 @@ class DefaultDataTreeBuilder {
                         .addBranchPointSchema(child.getName(), child
                                 .getNameSpace().getModuleNamespace()).build();
                 rscData.resourceId(id);
-                child = child.getChild();
                 return getNode(child, name);
             }
         }
@@ -261,145 +270,122 @@ class DefaultDataTreeBuilder {
      * @return current node
      */
     private YangSchemaNode fetchCurNode(Object obj, YangNode parent) {
-        YangSchemaNode output;
         if (obj != null && parent != null) {
-            //process all the node which are in data model tree.
-            String name = obj.getClass().getName();
-            YangNode child = parent.getChild();
-            while (child != null) {
-
-                if (child.getYangSchemaNodeType() == YANG_NON_DATA_NODE) {
-                    child = child.getNextSibling();
-                    continue;
-                }
-                //search if parent node has choice as child node.
-                if (child instanceof YangChoice) {
-                    output = findFromChoiceNode(name, parent);
-                    //search if parent node has a case child node
-                } else if (child instanceof YangCase) {
-                    output = findFromCaseNode(name, parent);
-                    //no need to process non data nodes.
-                } else {
-                    //search for normal nodes.
-                    output = getNode(child, name);
-                }
-                if (output != null) {
-                    return output;
-                }
-                child = child.getNextSibling();
-            }
-            return findIfAugmentable(name, parent);
+            return getNode(parent, obj.getClass().getName());
         }
         return null;
     }
 
+    /**
+     * Returns the node, found under given parent node, whose generated
+     * default class has the given qualified name. Data nodes, cases of
+     * choice nodes, augment nodes and children of augment nodes are
+     * searched through the class name index of the parent, which is built
+     * once and kept in the registry.
+     *
+     * @param parent parent node
+     * @param name   qualified name of the generated default class
+     * @return node if found; null otherwise
+     */
+    private YangSchemaNode getNode(YangNode parent, String name) {
+        return reg.getClassNameIndex(
+                parent, p -> buildClassNameIndex((YangNode) p)).get(name);
+    }
 
     /**
-     * Find the node in augment. if current object is a object of augment
-     * node or if object is a object of child node of augment node.
+     * Builds the index of generated default class name to node for all the
+     * nodes which an object under the given parent node can belong to.
      *
-     * @param name   class qualified name
      * @param parent parent node
-     * @return current node for object
+     * @return index of class name to node
      */
-    private YangSchemaNode findIfAugmentable(String name, YangNode parent) {
-        List<YangAugment> augments = ((YangAugmentableNode) parent)
+    private static Map<String, YangSchemaNode> buildClassNameIndex(
+            YangNode parent) {
+        Map<String, YangSchemaNode> index = new HashMap<>();
+        YangNode child = parent.getChild();
+        while (child != null) {
+            if (child instanceof YangChoice) {
+                //cases of the choice are added in place of choice.
+                addChildren(index, child);
+                addAugments(index, child);
+            } else {
+                addNode(index, child);
+            }
+            child = child.getNextSibling();
+        }
+        addAugments(index, parent);
+        return index;
+    }
+
+    /**
+     * Adds the augment nodes of the given node and their children to the
+     * class name index.
+     *
+     * @param index class name index
+     * @param node  augmentable node
+     */
+    private static void addAugments(Map<String, YangSchemaNode> index,
+                                    YangNode node) {
+        if (!(node instanceof YangAugmentableNode)) {
+            return;
+        }
+        List<YangAugment> augments = ((YangAugmentableNode) node)
                 .getAugmentedInfoList();
-        YangNode child;
-        YangSchemaNode output;
         if (nonEmpty(augments)) {
             //this is if we are having an augment class object.
             for (YangAugment augment : augments) {
-                output = getNode(augment, name);
-                if (output != null) {
-                    return output;
-                }
+                addNode(index, augment);
             }
             //this is if we have a child class object which is a
             // child node of augment node.
             for (YangAugment augment : augments) {
-                child = augment.getChild();
-                output = getNode(child, name);
-                if (output != null) {
-                    return output;
-                }
+                addChildren(index, augment);
             }
         }
-        return null;
     }
 
     /**
-     * Find in choice node if current object is an object of choice/case node.
+     * Adds the children of the given node to the class name index.
      *
-     * @param qName  qualified name
-     * @param parent choice's paren node
-     * @return choice node
+     * @param index  class name index
+     * @param parent parent node
      */
-    private YangSchemaNode findFromChoiceNode(String qName, YangSchemaNode parent) {
-        YangNode child = ((YangNode) parent).getChild();
-        YangSchemaNode output;
+    private static void addChildren(Map<String, YangSchemaNode> index,
+                                    YangNode parent) {
+        YangNode child = parent.getChild();
         while (child != null) {
-            if (child instanceof YangChoice) {
-                output = findFromCaseNode(qName, child);
-                if (output != null) {
-                    return output;
-                }
-            }
+            addNode(index, child);
             child = child.getNextSibling();
         }
-        return null;
-    }
-
-    /**
-     * Find in case if given object is an object of case node.
-     *
-     * @param qName  qualified name
-     * @param parent case's parent node
-     * @return case node
-     */
-    private YangSchemaNode findFromCaseNode(String qName, YangSchemaNode parent) {
-        YangNode caseNode = ((YangNode) parent).getChild();
-        String javaName;
-        while (caseNode != null) {
-            javaName = caseNode.getJavaPackage() + PERIOD +
-                    DEFAULT_CAPS + getCapitalCase(getCamelCase(
-                    caseNode.getName(), null));
-            if (javaName.equals(qName)) {
-                return caseNode;
-            }
-            caseNode = caseNode.getNextSibling();
-        }
-        return findIfAugmentable(qName, (YangNode) parent);
     }
 
     /**
-     * Returns the node which has the same java package as the object's package.
+     * Adds the given node to the class name index, against the qualified
+     * name of its generated default class. Nodes for which no object is
+     * generated, except case nodes, are not added.
      *
-     * @param child child node
-     * @param pkg   java package
-     * @return child node
+     * @param index class name index
+     * @param node  node
      */
-    private YangSchemaNode getNode(YangNode child, String pkg) {
+    private static void addNode(Map<String, YangSchemaNode> index,
+                                YangNode node) {
         String javaName;
-        while (child != null) {
-            if (child instanceof YangAugment) {
-                javaName = child.getJavaPackage() + PERIOD + DEFAULT_CAPS +
-                        getAugmentClassName((YangAugment) child,
-                                            new YangPluginConfig());
-            } else if (child instanceof YangInput ||
-                    child instanceof YangOutput) {
-                javaName = child.getJavaPackage() + PERIOD + DEFAULT_CAPS +
-                        getCapitalCase(child.getJavaClassNameOrBuiltInType());
-            } else {
-                javaName = child.getJavaPackage() + PERIOD + DEFAULT_CAPS +
-                        getCapitalCase(getCamelCase(child.getName(), null));
-            }
-            if (javaName.equals(pkg)) {
-                return child;
-            }
-            child = child.getNextSibling();
+        if (node instanceof YangAugment) {
+            javaName = node.getJavaPackage() + PERIOD + DEFAULT_CAPS +
+                    getAugmentClassName((YangAugment) node, PLUGIN_CONFIG);
+        } else if (node instanceof YangInput ||
+                node instanceof YangOutput) {
+            javaName = node.getJavaPackage() + PERIOD + DEFAULT_CAPS +
+                    getCapitalCase(node.getJavaClassNameOrBuiltInType());
+        } else if (node instanceof YangCase ||
+                (node.getYangSchemaNodeType() != YANG_NON_DATA_NODE &&
+                        !(node instanceof YangChoice))) {
+            javaName = node.getJavaPackage() + PERIOD + DEFAULT_CAPS +
+                    getCapitalCase(getCamelCase(node.getName(), null));
+        } else {
+            return;
         }
-        return null;
+        index.putIfAbsent(javaName, node);
     }
 
     /**
@@ -522,6 +508,7 @@ class DefaultDataTreeBuilder {
                     String valNamespace = getValNamespace(obj, leaf);
                     DataNode node = LeafNode.builder(leaf.getName(), leaf
                             .getNameSpace().getModuleNamespace())
+                            .schemaId(leaf.getSchemaId())
                             .value(obj)
                             .type(SINGLE_INSTANCE_LEAF_VALUE_NODE)
                             .valueNamespace(valNamespace).build();
@@ -534,14 +521,26 @@ class DefaultDataTreeBuilder {
 
     /**
      * Process single instance/multi instance nodes and build there data nodes.
+     * A model object codec registered for the object class is preferred over
+     * the reflection based conversion, which is used when the codec does not
+     * convert the object.
      *
      * @param helper  data tree builder helper
      * @param modObj  model object
      * @param rscData resource data
      * @param curRoot current root node
      */
+    @SuppressWarnings("unchecked")
     private void processNodeObj(DataTreeBuilderHelper helper, Object modObj,
                                 ResourceData.Builder rscData, YangSchemaNode curRoot) {
+        ModelObjectCodec codec = reg.getCodec(modObj.getClass().getName());
+        if (codec != null) {
+            DataNode node = codec.encode((ModelObject) modObj);
+            if (node != null) {
+                rscData.addDataNode(node);
+                return;
+            }
+        }
         DataNode.Builder builder = InnerNode.builder(
                 curRoot.getName(), curRoot.getNameSpace()
                         .getModuleNamespace());
@@ -731,6 +730,7 @@ class DefaultDataTreeBuilder {
                     builder = InnerNode.builder(curNode.getName(), curNode
                             .getNameSpace().getModuleNamespace())
                             .type(MULTI_INSTANCE_NODE);
+                    setSchemaId(builder, curNode);
                     if (childObj != null) {
                         DataNode.Builder output = helper
                                 .getDataTree(curNode, builder, childObj);
@@ -799,6 +799,7 @@ class DefaultDataTreeBuilder {
                 builder = InnerNode.builder(curNode.getName(), curNode
                         .getNameSpace().getModuleNamespace())
                         .type(SINGLE_INSTANCE_NODE);
+                setSchemaId(builder, curNode);
                 DataNode.Builder output = helper
                         .getDataTree(curNode, builder, childObj);
                 if (output != null) {
@@ -18,16 +18,19 @@ package org.onosproject.yang.runtime.impl;
 
 import org.onosproject.yang.compiler.datamodel.SchemaDataNode;
 import org.onosproject.yang.compiler.datamodel.YangChoice;
+import org.onosproject.yang.compiler.datamodel.YangContainer;
 import org.onosproject.yang.compiler.datamodel.YangInclude;
+import org.onosproject.yang.compiler.datamodel.YangList;
 import org.onosproject.yang.compiler.datamodel.YangModule;
 import org.onosproject.yang.compiler.datamodel.YangNode;
 import org.onosproject.yang.compiler.datamodel.YangSchemaNode;
+import org.onosproject.yang.compiler.datamodel.YangSchemaNodeContextInfo;
 import org.onosproject.yang.compiler.datamodel.YangSchemaNodeIdentifier;
 import org.onosproject.yang.compiler.datamodel.YangSubModule;
-import org.onosproject.yang.compiler.datamodel.exceptions.DataModelException;
 import org.onosproject.yang.compiler.tool.YangModuleExtendedInfo;
 import org.onosproject.yang.model.DataNode;
 import org.onosproject.yang.model.ModelConverterException;
+import org.onosproject.yang.model.ModelObjectCodec;
 import org.onosproject.yang.model.ModelObjectId;
 import org.onosproject.yang.model.SchemaContext;
 import org.onosproject.yang.model.SchemaId;
@@ -40,16 +43,22 @@ import org.onosproject.yang.runtime.YangModelRegistry;
 import org.slf4j.Logger;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.Boolean.TRUE;
 import static java.util.Collections.sort;
 import static java.util.Collections.unmodifiableSet;
+import static java.util.stream.Collectors.toList;
 import static org.onosproject.yang.compiler.datamodel.YangSchemaNodeType.YANG_ANYDATA_NODE;
 import static org.onosproject.yang.compiler.datamodel.utils.DataModelUtils.getDateInStringFormat;
 import static org.onosproject.yang.compiler.datamodel.utils.DataModelUtils.getNodeIdFromSchemaId;
@@ -61,11 +70,14 @@ import static org.onosproject.yang.runtime.RuntimeHelper.getNodes;
 import static org.onosproject.yang.runtime.RuntimeHelper.getSelfNodes;
 import static org.onosproject.yang.runtime.RuntimeHelper.getServiceName;
 import static org.onosproject.yang.runtime.impl.UtilsConstants.AT;
+import static org.onosproject.yang.runtime.impl.UtilsConstants.CODEC;
 import static org.onosproject.yang.runtime.impl.UtilsConstants.E_NEXIST;
 import static org.onosproject.yang.runtime.impl.UtilsConstants.E_NOT_VAL;
 import static org.onosproject.yang.runtime.impl.UtilsConstants.E_NULL;
 import static org.onosproject.yang.runtime.impl.UtilsConstants.FMT_INV;
 import static org.onosproject.yang.runtime.impl.UtilsConstants.errorMsg;
+import static org.onosproject.yang.runtime.impl.YobUtils.getQualifiedDefaultClass;
+import static org.onosproject.yang.runtime.impl.YobUtils.getQualifiedinterface;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
@@ -73,65 +85,395 @@ import static org.slf4j.LoggerFactory.getLogger;
  */
 public class DefaultYangModelRegistry implements YangModelRegistry,
         SingleInstanceNodeContext {
+    private static final int MAX_MISSES = 1024;
+    static final int MAX_PLANS = 1024;
     private final Logger log = getLogger(getClass());
 
     /*
-     * Map for storing YANG schema nodes. Key will be the schema name of
-     * module node defined in YANG file.
+     * Current state of the registry. Readers take it with a single volatile
+     * read and work on it without locks; writers build the next state from
+     * it and publish it as a whole. Schema nodes are shared by all states
+     * and are updated in place by writers, see RegistrySnapshot.
      */
-    private final ConcurrentMap<String, ConcurrentMap<String, YangSchemaNode>>
-            yangSchemaStore;
+    private volatile RegistrySnapshot snapshot;
 
     /*
-     * Map for storing YANG schema nodes with respect to root's generated
-     * file name by which registration is being done.
+     * Lock serializing writers. Registration links and updates schema trees
+     * as it goes, which can't be retried, so writers don't race to publish.
      */
-    private final ConcurrentMap<String, YangSchemaNode> regClassNameKeyStore;
+    private final Object writeLock = new Object();
 
-    /*
-     * Map for storing YANG schema nodes with respect to root's generated
-     * file's qualified name.
+    /**
+     * Cache of model object setters resolved by YOB. It is cleared on
+     * unregistration so that setters of unloaded classes are not retained.
      */
-    private final ConcurrentMap<String, YangSchemaNode> qNameKeyStore;
+    private final YobSetterCache setterCache;
 
     /*
-     * Map for storing registered classes. Will be used by YOB for class
-     * loading operations. key will be qualified name of generated class.
-     * It will be maintained for top level class i.e. module.
-     */
-    private final ConcurrentMap<String, Class<?>> registerClassStore;
-
-    /**
-     * Map for storing schema nodes with respect to namespace. Will be used
-     * by YCH in scenario where module name is not present in XML.
+     * True if schema nodes of models are linked and registered on first
+     * use rather than on registration.
      */
-    private final ConcurrentMap<String, YangSchemaNode> nameSpaceSchemaStore;
+    private final boolean lazy;
 
     /**
-     * Map for storing YANG model with respect to model identifier. Will
-     * be used by other application to register and unregister the YANG
-     * models based on model identifier.
+     * Creates an instance of default YANG schema registry.
      */
-    private final ConcurrentMap<String, YangModel> modelIdStore;
+    public DefaultYangModelRegistry() {
+        this(false);
+    }
 
     /**
-     * Creates an instance of default YANG schema registry.
+     * Creates an instance of default YANG schema registry. In lazy mode,
+     * registration records only the model, the names and namespaces of its
+     * modules and its classes. The schema nodes of the model are linked and
+     * registered the first time a lookup by module name or namespace
+     * resolves into it, or a lookup by class name misses.
+     *
+     * @param lazy true if schema nodes are to be materialized on first use
      */
-    public DefaultYangModelRegistry() {
-        yangSchemaStore = new ConcurrentHashMap<>();
-        regClassNameKeyStore = new ConcurrentHashMap<>();
-        registerClassStore = new ConcurrentHashMap<>();
-        nameSpaceSchemaStore = new ConcurrentHashMap<>();
-        qNameKeyStore = new ConcurrentHashMap<>();
-        modelIdStore = new ConcurrentHashMap<>();
+    public DefaultYangModelRegistry(boolean lazy) {
+        this.lazy = lazy;
+        snapshot = RegistrySnapshot.emptyBuilder().build();
+        setterCache = new YobSetterCache();
     }
 
     @Override
     public void registerModel(ModelRegistrationParam param) throws
             IllegalArgumentException {
         YangModel model = checkNotNull(param.getYangModel(), E_NULL);
-        Set<YangNode> curNodes = getNodes(model, yangSchemaStore);
+        synchronized (writeLock) {
+            RegistrySnapshot.Builder b = snapshot.builder();
+            registerModel(b, model, param);
+            snapshot = b.build();
+        }
+        log.debug("ModelId: {} registered!", model.getYangModelId());
+    }
+
+    /**
+     * Registers the model of the given registration parameter into the
+     * given snapshot builder.
+     *
+     * @param b     snapshot builder
+     * @param model YANG model
+     * @param param model registration parameter
+     */
+    private void registerModel(RegistrySnapshot.Builder b, YangModel model,
+                               ModelRegistrationParam param) {
+        if (lazy && !b.models().containsKey(model.getYangModelId())) {
+            addPendingModel(b, model, param);
+            return;
+        }
+        materializeDependencies(b, model);
+        addModel(b, model, param, getNodes(model, b.schemas()));
+    }
+
+    /**
+     * Records the model of the given registration parameter as pending in
+     * the given snapshot builder, along with its classes, without linking
+     * or registering its schema nodes. Its modules are indexed by interface
+     * class name when it is known before linking,
+     * that is when the module is linked already or its class is given.
+     *
+     * @param b     snapshot builder
+     * @param model YANG model
+     * @param param model registration parameter
+     */
+    private static void addPendingModel(RegistrySnapshot.Builder b,
+                                        YangModel model,
+                                        ModelRegistrationParam param) {
+        String id = model.getYangModelId();
+        if (!id.matches(REGEX)) {
+            throw new IllegalArgumentException(E_NOT_VAL);
+        }
+        updateRegClassStore(b, param);
+        b.models().put(id, model);
+        for (org.onosproject.yang.model.YangModule m : model.getYangModules()) {
+            if (!m.isInterJar()) {
+                b.pendingNames().put(m.getYangModuleId().moduleName(), id);
+                YangModuleExtendedInfo info = (YangModuleExtendedInfo) m;
+                YangNode node = info.getSchema();
+                if (!(node instanceof YangSubModule)) {
+                    // Schema identifier of unlinked module is set at linking.
+                    b.pendingNameSpaces().put(
+                            ((YangModule) node).getModuleNamespace(), id);
+                }
+                AppModuleInfo appInfo = param.getAppModuleInfo(
+                        m.getYangModuleId());
+                String name = null;
+                if (info.isLinked()) {
+                    name = getInterfaceClassName(node);
+                } else if (appInfo != null) {
+                    name = appInfo.getModuleClass().getName();
+                }
+                if (name != null) {
+                    b.pendingQNames().put(name.toLowerCase(), id);
+                } else {
+                    b.pendingUnnamed().add(id);
+                }
+            }
+        }
+        b.pendingModels().put(id, param);
+    }
+
+    /**
+     * Links and registers the schema nodes of the pending model of given
+     * identifier, and of the pending models it depends on, in the given
+     * snapshot builder.
+     *
+     * @param b  snapshot builder
+     * @param id model identifier
+     */
+    private void materialize(RegistrySnapshot.Builder b, String id) {
+        ModelRegistrationParam param = b.pendingModels().remove(id);
+        if (param == null) {
+            return;
+        }
+        removePendingIndex(b, id);
+        YangModel model = param.getYangModel();
+        materializeDependencies(b, model);
+        Set<YangNode> curNodes = getNodes(model, b.schemas());
+        for (YangNode node : curNodes) {
+            registerModule(b, node);
+        }
+        updateChildContext(curNodes);
+        log.debug("ModelId: {} materialized!", id);
+    }
+
+    /**
+     * Removes the pending model of given identifier from the indexes of
+     * pending models in the given snapshot builder.
+     *
+     * @param b  snapshot builder
+     * @param id model identifier
+     */
+    private static void removePendingIndex(RegistrySnapshot.Builder b,
+                                           String id) {
+        b.pendingNames().values().removeIf(id::equals);
+        b.pendingNameSpaces().values().removeIf(id::equals);
+        b.pendingQNames().values().removeIf(id::equals);
+        b.pendingUnnamed().remove(id);
+    }
+
+    /**
+     * Materializes the pending models providing the dependent jar modules
+     * of the given model, in the given snapshot builder.
+     *
+     * @param b     snapshot builder
+     * @param model YANG model
+     */
+    private void materializeDependencies(RegistrySnapshot.Builder b,
+                                         YangModel model) {
+        if (b.pendingModels().isEmpty()) {
+            return;
+        }
+        for (org.onosproject.yang.model.YangModule m : model.getYangModules()) {
+            if (m.isInterJar()) {
+                String dep = b.pendingNames().get(
+                        m.getYangModuleId().moduleName());
+                if (dep != null) {
+                    materialize(b, dep);
+                }
+            }
+        }
+    }
+
+    /**
+     * Materializes the pending model of given identifier, and returns the
+     * snapshot in which it is published.
+     *
+     * @param id model identifier
+     * @return registry snapshot
+     */
+    private RegistrySnapshot materialize(String id) {
+        synchronized (writeLock) {
+            RegistrySnapshot s = snapshot;
+            if (!s.pendingModels().containsKey(id)) {
+                return s;
+            }
+            RegistrySnapshot.Builder b = s.builder();
+            materialize(b, id);
+            snapshot = b.build();
+            return snapshot;
+        }
+    }
+
+    /**
+     * Materializes the pending models holding modules whose class names are
+     * not known before linking, and returns the snapshot in which they are
+     * published.
+     *
+     * @return registry snapshot
+     */
+    private RegistrySnapshot materializeUnnamed() {
+        synchronized (writeLock) {
+            RegistrySnapshot s = snapshot;
+            if (s.pendingUnnamed().isEmpty()) {
+                return s;
+            }
+            RegistrySnapshot.Builder b = s.builder();
+            for (String id : s.pendingUnnamed()) {
+                materialize(b, id);
+            }
+            snapshot = b.build();
+            return snapshot;
+        }
+    }
+
+    /**
+     * Returns the snapshot in which the pending model holding the module of
+     * given name or namespace is materialized; the given snapshot if there
+     * is no such model.
+     *
+     * @param s    registry snapshot
+     * @param name module name or namespace
+     * @return registry snapshot
+     */
+    private RegistrySnapshot resolve(RegistrySnapshot s, String name) {
+        if (s.pendingModels().isEmpty() || name == null) {
+            return s;
+        }
+        String id = s.pendingNameSpaces().get(name);
+        if (id == null) {
+            id = s.pendingNames().get(name.split(AT)[0]);
+        }
+        return id == null ? s : materialize(id);
+    }
+
+    /**
+     * Returns the snapshot in which the pending model holding the module of
+     * given qualified interface class name, in lower case, is materialized.
+     * When no pending model is indexed for it, the pending models whose
+     * class names are not known yet are materialized instead.
+     *
+     * @param s     registry snapshot
+     * @param qName qualified interface class name in lower case
+     * @return registry snapshot
+     */
+    private RegistrySnapshot resolveClass(RegistrySnapshot s, String qName) {
+        if (s.pendingModels().isEmpty()) {
+            return s;
+        }
+        String id = s.pendingQNames().get(qName);
+        if (id != null) {
+            return materialize(id);
+        }
+        return s.pendingUnnamed().isEmpty() ? s : materializeUnnamed();
+    }
+
+    /**
+     * Registers the models of the given registration parameters, linking
+     * them in dependency order. Models which don't depend on each other and
+     * don't link any module in common are linked in parallel on the common
+     * fork join pool. The models are published together once all of them
+     * are registered, and none of them is published if any registration
+     * fails. Schema nodes linked before the failure keep their links and
+     * augments, see RegistrySnapshot.
+     *
+     * @param params model registration parameters
+     * @throws IllegalArgumentException when a model with provided identifier
+     *                                  is already registered or not valid
+     */
+    @Override
+    public void registerModels(Collection<ModelRegistrationParam> params)
+            throws IllegalArgumentException {
+        List<ModelRegistrationParam> pending = new ArrayList<>();
+        for (ModelRegistrationParam param : params) {
+            checkNotNull(param.getYangModel(), E_NULL);
+            pending.add(param);
+        }
+        synchronized (writeLock) {
+            RegistrySnapshot.Builder b = snapshot.builder();
+            while (lazy && !pending.isEmpty()) {
+                ModelRegistrationParam param = pending.remove(0);
+                registerModel(b, param.getYangModel(), param);
+            }
+            while (!pending.isEmpty()) {
+                List<ModelRegistrationParam> round = nextRound(pending);
+                // Schema store is only read while the round is linked.
+                Map<String, Map<String, YangSchemaNode>> schemas = b.schemas();
+                List<Set<YangNode>> nodes = round.parallelStream()
+                        .map(p -> getNodes(p.getYangModel(), schemas))
+                        .collect(toList());
+                for (int i = 0; i < round.size(); i++) {
+                    ModelRegistrationParam param = round.get(i);
+                    addModel(b, param.getYangModel(), param, nodes.get(i));
+                }
+            }
+            snapshot = b.build();
+        }
+        log.debug("{} models registered!", params.size());
+    }
+
+    /**
+     * Removes from the pending registration parameters, and returns, the
+     * ones which can be linked together: their dependencies are not pending
+     * anymore, and the modules they link are disjoint. A model whose modules
+     * are all linked already links nothing, but its own modules. When no
+     * model is ready, which happens on cyclic or missing dependencies, the
+     * first one is returned alone.
+     *
+     * @param pending pending registration parameters
+     * @return registration parameters of the next round
+     */
+    static List<ModelRegistrationParam> nextRound(
+            List<ModelRegistrationParam> pending) {
+        Set<YangModuleId> provided = new HashSet<>();
+        for (ModelRegistrationParam param : pending) {
+            for (org.onosproject.yang.model.YangModule m :
+                    param.getYangModel().getYangModules()) {
+                if (!m.isInterJar()) {
+                    provided.add(m.getYangModuleId());
+                }
+            }
+        }
+
+        List<ModelRegistrationParam> round = new ArrayList<>();
+        Set<YangModuleId> claimed = new HashSet<>();
+        Iterator<ModelRegistrationParam> it = pending.iterator();
+        while (it.hasNext()) {
+            ModelRegistrationParam param = it.next();
+            Collection<org.onosproject.yang.model.YangModule> modules =
+                    param.getYangModel().getYangModules();
+            boolean linked = true;
+            for (org.onosproject.yang.model.YangModule m : modules) {
+                linked &= ((YangModuleExtendedInfo) m).isLinked();
+            }
+            boolean ready = true;
+            Set<YangModuleId> linkedIds = new HashSet<>();
+            for (org.onosproject.yang.model.YangModule m : modules) {
+                if (!m.isInterJar()) {
+                    linkedIds.add(m.getYangModuleId());
+                } else {
+                    ready &= !provided.contains(m.getYangModuleId());
+                    if (!linked) {
+                        linkedIds.add(m.getYangModuleId());
+                    }
+                }
+            }
+            if (ready && Collections.disjoint(claimed, linkedIds)) {
+                claimed.addAll(linkedIds);
+                round.add(param);
+                it.remove();
+            }
+        }
+        if (round.isEmpty()) {
+            round.add(pending.remove(0));
+        }
+        return round;
+    }
 
+    /**
+     * Adds the model of the given registration parameter, whose nodes are
+     * linked already, to the given snapshot builder.
+     *
+     * @param b        snapshot builder
+     * @param model    YANG model
+     * @param param    model registration parameter
+     * @param curNodes YANG nodes of the model, excluding dependent jar ones
+     */
+    private void addModel(RegistrySnapshot.Builder b, YangModel model,
+                          ModelRegistrationParam param,
+                          Set<YangNode> curNodes) {
         //adding class info if added by application.
         AppModuleInfo info = null;
         for (YangModuleId id : param.getYangModel().getYangModulesId()) {
@@ -147,11 +489,11 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
             throw new IllegalArgumentException(E_NOT_VAL);
         }
 
-        if (!modelIdStore.containsKey(id)) {
-            updateRegClassStore(param);
-            modelIdStore.put(id, model);
+        if (!b.models().containsKey(id)) {
+            updateRegClassStore(b, param);
+            b.models().put(id, model);
         } else if (info != null) {
-            updateRegClassStore(param);
+            updateRegClassStore(b, param);
         } else {
             throw new IllegalArgumentException("ModelId " + id + " already exist");
         }
@@ -159,13 +501,12 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
         //Register all the YANG nodes, excluding nodes from dependent jar.
         if (curNodes != null && !curNodes.isEmpty()) {
             for (YangNode node : curNodes) {
-                registerModule(node);
+                registerModule(b, node);
             }
         }
 
         //update child context
         updateChildContext(curNodes);
-        log.debug("ModelId: {} registered!", id);
     }
 
     @Override
@@ -180,8 +521,12 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
                 YangSchemaNode cSchema = ((YangSchemaNode) conv
                         .fetchResourceId(cid).appInfo());
                 if (cSchema != null) {
-                    YangSchemaNode clonedNode = anySchema.addSchema(cSchema);
-                    updateTreeContext(clonedNode, null, false, false);
+                    synchronized (writeLock) {
+                        YangSchemaNode clonedNode = anySchema.addSchema(cSchema);
+                        updateTreeContext(clonedNode, null, false, false);
+                        // Publishes a snapshot with fresh caches.
+                        snapshot = snapshot.builder().build();
+                    }
                 } else {
                     throw new IllegalArgumentException(errorMsg(FMT_INV, cid));
                 }
@@ -206,40 +551,115 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
     /**
      * Register specific model.
      *
+     * @param b    snapshot builder
      * @param node YANG node
      */
-    private void registerModule(YangNode node) {
+    private void registerModule(RegistrySnapshot.Builder b, YangNode node) {
         String name;
         //register all the nodes present in YANG model.
         name = getInterfaceClassName(node);
-        processApplicationContext(node, name);
+        processApplicationContext(b, node, name);
+        registerCodecs(b, node);
+    }
+
+    /**
+     * Registers the model object codecs generated for the top level
+     * containers and lists of the given module, in the given snapshot
+     * builder. Codecs are loaded by the class loader of the registered class
+     * of the module; nothing is registered when there is no such class.
+     *
+     * @param b    snapshot builder
+     * @param node YANG module or sub module node
+     */
+    private void registerCodecs(RegistrySnapshot.Builder b,
+                                YangSchemaNode node) {
+        Class<?> regClass = b.regClasses().get(getServiceName(node));
+        if (regClass == null) {
+            regClass = b.regClasses().get(getInterfaceClassName(node));
+        }
+        if (regClass == null) {
+            return;
+        }
+        ClassLoader loader = regClass.getClassLoader();
+        YangNode child = ((YangNode) node).getChild();
+        while (child != null) {
+            if (child instanceof YangContainer || child instanceof YangList) {
+                String name = getQualifiedinterface(child) + CODEC;
+                try {
+                    Class<?> cls = loader.loadClass(name);
+                    if (ModelObjectCodec.class.isAssignableFrom(cls)) {
+                        ModelObjectCodec<?> codec =
+                                (ModelObjectCodec<?>) cls.newInstance();
+                        b.codecs().put(codec.modelClass().getName(), codec);
+                    }
+                } catch (ClassNotFoundException e) {
+                    // No codec is generated for the node.
+                } catch (InstantiationException | IllegalAccessException e) {
+                    log.error("Failed to register model object codec {}",
+                              name, e);
+                }
+            }
+            child = child.getNextSibling();
+        }
+    }
+
+    /**
+     * Unregisters the model object codecs of the top level containers and
+     * lists of the given module from the given snapshot builder.
+     *
+     * @param b    snapshot builder
+     * @param node YANG module or sub module node
+     */
+    private static void unregisterCodecs(RegistrySnapshot.Builder b,
+                                         YangSchemaNode node) {
+        YangNode child = ((YangNode) node).getChild();
+        while (child != null) {
+            if (child instanceof YangContainer || child instanceof YangList) {
+                b.codecs().remove(getQualifiedDefaultClass(child));
+            }
+            child = child.getNextSibling();
+        }
     }
 
     @Override
     public void unregisterModel(ModelRegistrationParam param) {
-        synchronized (DefaultYangModelRegistry.class) {
-            YangModel model = checkNotNull(param.getYangModel(), E_NULL);
-            modelIdStore.remove(model.getYangModelId());
+        YangModel model = checkNotNull(param.getYangModel(), E_NULL);
+        synchronized (writeLock) {
+            RegistrySnapshot.Builder b = snapshot.builder();
+            String id = model.getYangModelId();
+            b.models().remove(id);
+            ModelRegistrationParam pending = b.pendingModels().remove(id);
             //Unregister all yang files, excluding nodes from dependent jar.
-            Set<YangNode> curNodes = getSelfNodes(model, yangSchemaStore);
-            if (curNodes != null && !curNodes.isEmpty()) {
+            Set<YangNode> curNodes = getSelfNodes(model, b.schemas());
+            if (pending != null) {
+                removePendingIndex(b, id);
+                for (YangModuleId mid : model.getYangModulesId()) {
+                    AppModuleInfo info = pending.getAppModuleInfo(mid);
+                    if (info != null) {
+                        b.regClasses().remove(info.getModuleClass().getName());
+                    }
+                }
+            } else if (curNodes != null && !curNodes.isEmpty()) {
                 for (YangNode node : curNodes) {
-                    processUnReg(getInterfaceClassName(node));
+                    processUnReg(b, getInterfaceClassName(node));
                 }
             }
+            snapshot = b.build();
+            setterCache.clear();
         }
     }
 
-    private void processUnReg(String serviceName) {
-        YangSchemaNode curNode = regClassNameKeyStore.get(serviceName);
+    private void processUnReg(RegistrySnapshot.Builder b, String serviceName) {
+        YangSchemaNode curNode = b.regClassNames().get(serviceName);
 
         if (curNode != null) {
-            removeSchemaNode(curNode);
-            regClassNameKeyStore.remove(serviceName);
-            qNameKeyStore.remove(serviceName.toLowerCase());
-            nameSpaceSchemaStore.remove(
+            removeSchemaNode(b, curNode);
+            unregisterCodecs(b, curNode);
+            b.regClassNames().remove(serviceName);
+            b.qNames().remove(serviceName.toLowerCase());
+            b.nameSpaces().remove(
                     curNode.getNameSpace().getModuleNamespace());
-            registerClassStore.remove(serviceName);
+            b.regClasses().remove(serviceName);
             log.info(" service class {} of model is " +
                              "unregistered.", serviceName);
         } else {
@@ -249,13 +669,126 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
         }
     }
 
+    /**
+     * Registers model object codec for its generated default class.
+     *
+     * @param codec model object codec
+     */
+    void registerCodec(ModelObjectCodec<?> codec) {
+        synchronized (writeLock) {
+            RegistrySnapshot.Builder b = snapshot.builder();
+            b.codecs().put(codec.modelClass().getName(), codec);
+            snapshot = b.build();
+        }
+    }
+
+    /**
+     * Unregisters model object codec of given generated default class.
+     *
+     * @param modelClass generated default class
+     */
+    void unregisterCodec(Class<?> modelClass) {
+        synchronized (writeLock) {
+            RegistrySnapshot.Builder b = snapshot.builder();
+            b.codecs().remove(modelClass.getName());
+            snapshot = b.build();
+        }
+    }
+
+    /**
+     * Returns model object codec for given qualified name of generated
+     * default class.
+     *
+     * @param name qualified name of generated default class
+     * @return model object codec if registered; null otherwise
+     */
+    ModelObjectCodec<?> getCodec(String name) {
+        return snapshot.codecs().get(name);
+    }
+
+    /**
+     * Returns true if any model object codec is registered.
+     *
+     * @return true if any codec is registered; false otherwise
+     */
+    boolean hasCodecs() {
+        return !snapshot.codecs().isEmpty();
+    }
+
+    /**
+     * Returns index of generated default class name to child schema node of
+     * given parent schema node. Index is built by given function when it is
+     * not yet present for the parent.
+     *
+     * @param parent  parent schema node
+     * @param builder function building index for a parent
+     * @return index of class name to child schema node
+     */
+    Map<String, YangSchemaNode> getClassNameIndex(
+            YangSchemaNode parent,
+            Function<YangSchemaNode, Map<String, YangSchemaNode>> builder) {
+        return snapshot.classNameIndex().computeIfAbsent(parent, builder);
+    }
+
+    /**
+     * Returns the conversion plans of model object identifiers with respect
+     * to their shape, derived from the current registry state.
+     *
+     * @return conversion plans
+     */
+    Map<List<Object>, ModIdToRscIdConverter.Plan> moIdPlans() {
+        return snapshot.moIdPlans();
+    }
+
+    /**
+     * Returns the conversion plans of resource identifiers with respect to
+     * their shape, derived from the current registry state.
+     *
+     * @return conversion plans
+     */
+    Map<List<Object>, DefaultYobBuilder.Plan> rscIdPlans() {
+        return snapshot.rscIdPlans();
+    }
+
+    /**
+     * Adds the conversion plan of given shape to the given plans, unless
+     * one is present already. The plans are emptied once they reach their
+     * bound.
+     *
+     * @param plans conversion plans
+     * @param shape shape of identifier
+     * @param plan  conversion plan
+     * @param <T>   type of conversion plan
+     */
+    static <T> void addPlan(Map<List<Object>, T> plans, List<Object> shape,
+                            T plan) {
+        if (plans.size() >= MAX_PLANS) {
+            plans.clear();
+        }
+        plans.putIfAbsent(shape, plan);
+    }
+
+    /**
+     * Returns the currently published state of the registry.
+     *
+     * @return registry snapshot
+     */
+    RegistrySnapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Returns the cache of model object setters used by YOB.
+     *
+     * @return setter cache
+     */
+    YobSetterCache setterCache() {
+        return setterCache;
+    }
+
     @Override
     public Set<YangModel> getModels() {
-        Set<YangModel> models = new LinkedHashSet<>();
-        for (Map.Entry<String, YangModel> entry : modelIdStore.entrySet()) {
-            models.add(entry.getValue());
-        }
-        return unmodifiableSet(models);
+        return unmodifiableSet(new LinkedHashSet<>(snapshot.models().values()));
     }
 
     /**
@@ -266,19 +799,18 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
      * @return YANG schema node
      */
     public YangSchemaNode getForSchemaName(String schemaName) {
-        return getForNameWithRev(schemaName);
+        return getForNameWithRev(resolve(snapshot, schemaName), schemaName);
     }
 
     @Override
     public YangModel getModel(String id) {
-        return modelIdStore.get(id);
+        return snapshot.models().get(id);
     }
 
     @Override
     public org.onosproject.yang.model.YangModule getModule(YangModuleId id) {
-        for (Map.Entry<String, YangModel> entry : modelIdStore
-                .entrySet()) {
-            org.onosproject.yang.model.YangModule module = entry.getValue()
+        for (YangModel model : snapshot.models().values()) {
+            org.onosproject.yang.model.YangModule module = model
                     .getYangModule(id);
             if (module != null) {
                 return module;
@@ -295,7 +827,12 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
      * @return YANG schema node
      */
     YangSchemaNode getForRegClassName(String name) {
-        YangSchemaNode node = regClassNameKeyStore.get(name);
+        RegistrySnapshot s = snapshot;
+        YangSchemaNode node = s.regClassNames().get(name);
+        if (node == null && name != null) {
+            node = resolveClass(s, name.toLowerCase())
+                    .regClassNames().get(name);
+        }
         if (node == null) {
             log.error("{} not found.", name);
         }
@@ -313,7 +850,11 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
      * @return YANG schema node
      */
     YangSchemaNode getForRegClassQualifiedName(String pkg, boolean isFromDnb) {
-        YangSchemaNode node = qNameKeyStore.get(pkg);
+        RegistrySnapshot s = snapshot;
+        YangSchemaNode node = s.qNames().get(pkg);
+        if (node == null && pkg != null) {
+            node = resolveClass(s, pkg).qNames().get(pkg);
+        }
         if (node == null && !isFromDnb) {
             log.error("{} not found.", pkg);
         }
@@ -331,7 +872,11 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
     public YangSchemaNode getForNameSpace(String nameSpace,
                                           boolean isForChildContext) {
 
-        YangSchemaNode node = nameSpaceSchemaStore.get(nameSpace);
+        RegistrySnapshot s = snapshot;
+        YangSchemaNode node = s.nameSpaces().get(nameSpace);
+        if (node == null && s.pendingNameSpaces().containsKey(nameSpace)) {
+            node = resolve(s, nameSpace).nameSpaces().get(nameSpace);
+        }
         if (node == null && !isForChildContext) {
             log.error(E_NEXIST, nameSpace);
         }
@@ -349,9 +894,10 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
         if (schemaNode != null) {
             String interfaceName = getInterfaceClassName(schemaNode);
             String serviceName = getServiceName(schemaNode);
-            regClass = registerClassStore.get(serviceName);
+            Map<String, Class<?>> regClasses = snapshot.regClasses();
+            regClass = regClasses.get(serviceName);
             if (regClass == null) {
-                regClass = registerClassStore.get(interfaceName);
+                regClass = regClasses.get(interfaceName);
             }
             if (regClass == null) {
                 log.error("Nothing registered for {} or {}", serviceName, interfaceName);
@@ -367,14 +913,31 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
      * @param name    class name
      */
     void processApplicationContext(YangSchemaNode appNode, String name) {
+        synchronized (writeLock) {
+            RegistrySnapshot.Builder b = snapshot.builder();
+            processApplicationContext(b, appNode, name);
+            snapshot = b.build();
+        }
+    }
+
+    /**
+     * Process an application an updates the given snapshot builder.
+     *
+     * @param b       snapshot builder
+     * @param appNode application YANG schema nodes
+     * @param name    class name
+     */
+    private void processApplicationContext(RegistrySnapshot.Builder b,
+                                           YangSchemaNode appNode,
+                                           String name) {
 
         // Updates schema store.
-        addToSchemaStore(appNode);
+        addToSchemaStore(b, appNode);
 
         // update interface store.
-        regClassNameKeyStore.put(name, appNode);
+        b.regClassNames().put(name, appNode);
 
-        qNameKeyStore.put(getInterfaceClassName(appNode).toLowerCase(), appNode);
+        b.qNames().put(getInterfaceClassName(appNode).toLowerCase(), appNode);
 
         /*
          * The name of a module determines the namespace of all data node names
@@ -385,8 +948,8 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
          */
         if (!(appNode instanceof YangSubModule)) {
             //update namespaceSchema store.
-            nameSpaceSchemaStore.put(appNode.getNameSpace().getModuleNamespace(),
-                                     appNode);
+            b.nameSpaces().put(appNode.getNameSpace().getModuleNamespace(),
+                               appNode);
         }
 
         log.debug("successfully registered this application {}", name);
@@ -395,11 +958,13 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
     /**
      * Returns schema node based on the revision.
      *
+     * @param s    registry snapshot
      * @param name name of the schema node
      * @return schema node based on the revision
      */
-    private YangSchemaNode getForNameWithRev(String name) {
-        ConcurrentMap<String, YangSchemaNode> revMap;
+    private YangSchemaNode getForNameWithRev(RegistrySnapshot s, String name) {
+        Map<String, Map<String, YangSchemaNode>> yangSchemaStore = s.schemas();
+        Map<String, YangSchemaNode> revMap;
         YangSchemaNode schemaNode;
         if (name.contains(AT)) {
             String[] revArray = name.split(AT);
@@ -425,8 +990,7 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
         return null;
     }
 
-    private String getLatestVersion(ConcurrentMap<String,
-            YangSchemaNode> revMap) {
+    private String getLatestVersion(Map<String, YangSchemaNode> revMap) {
         List<String> keys = new ArrayList<>();
         for (Map.Entry<String, YangSchemaNode> entry : revMap.entrySet()) {
             keys.add(entry.getKey());
@@ -438,9 +1002,11 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
     /**
      * Adds schema node when different revision of node has received.
      *
+     * @param b          snapshot builder
      * @param schemaNode schema node
      */
-    private void addToSchemaStore(YangSchemaNode schemaNode) {
+    private void addToSchemaStore(RegistrySnapshot.Builder b,
+                                  YangSchemaNode schemaNode) {
 
         String date = getDateInStringFormat((YangNode) schemaNode);
         String name = schemaNode.getName();
@@ -448,36 +1014,24 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
         if (date != null) {
             revName = name + AT + date;
         }
-        //check if already present.
-        if (!yangSchemaStore.containsKey(name)) {
-            ConcurrentMap<String, YangSchemaNode> revStore =
-                    new ConcurrentHashMap<>();
-            revStore.put(revName, schemaNode);
-            yangSchemaStore.put(name, revStore);
-        } else {
-            yangSchemaStore.get(name).put(revName, schemaNode);
-        }
+        b.addSchema(name, revName, schemaNode);
     }
 
     /**
      * Removes schema node from schema map.
      *
+     * @param b             snapshot builder
      * @param removableNode schema node which needs to be removed
      */
-    private void removeSchemaNode(YangSchemaNode removableNode) {
+    private void removeSchemaNode(RegistrySnapshot.Builder b,
+                                  YangSchemaNode removableNode) {
         String name = removableNode.getName();
         String revName = name;
         String date = getDateInStringFormat((YangNode) removableNode);
         if (date != null) {
             revName = name + AT + date;
         }
-        ConcurrentMap<String, YangSchemaNode> revMap =
-                yangSchemaStore.get(name);
-        if (revMap != null && !revMap.isEmpty() && revMap.size() != 1) {
-            revMap.remove(revName);
-        } else {
-            yangSchemaStore.remove(removableNode.getName());
-        }
+        b.removeSchema(name, revName);
     }
 
     @Override
@@ -497,47 +1051,99 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
 
     @Override
     public SchemaContext getChildContext(SchemaId schemaId) {
+        return findChildContext(schemaId).orElse(null);
+    }
+
+    /**
+     * Returns the schema context of the first level child node with given
+     * schema identifier, looking in the module of the namespace and then in
+     * its sub-modules. Misses are remembered in a bounded negative cache, so
+     * that repeated lookup of an unknown node costs a single map probe.
+     *
+     * @param schemaId schema identifier of the child node
+     * @return schema context of the child node if present; empty otherwise
+     */
+    public Optional<SchemaContext> findChildContext(SchemaId schemaId) {
 
         checkNotNull(schemaId);
         String ns = schemaId.namespace();
         if (ns == null) {
             log.error("namespace should not be null for a node");
         }
-        YangSchemaNode schemaNode = null;
+        RegistrySnapshot s = resolve(snapshot, ns);
+        if (s.misses().containsKey(schemaId)) {
+            return Optional.empty();
+        }
 
-        YangSchemaNode node = getForNameSpace(ns, true);
+        YangSchemaNode node = s.nameSpaces().get(ns);
         if (node == null) {
             //If namespace is module name.
-            node = getForSchemaName(ns);
+            node = getForNameWithRev(s, ns);
+        }
+        if (node == null) {
+            log.error(E_NEXIST, ns);
+            addMiss(s, schemaId);
+            return Optional.empty();
         }
+
         YangSchemaNodeIdentifier id = getNodeIdFromSchemaId(schemaId, ns);
+        YangSchemaNode schemaNode = getChildSchemaNode(node, id);
+        if (schemaNode == null) {
+            List<YangInclude> includeList = ((YangModule) node)
+                    .getIncludeList();
+            // Checking requested node in submodule.
+            schemaNode = getSubModlueChildNode(id, includeList);
+        }
+        if (schemaNode == null) {
+            addMiss(s, schemaId);
+            return Optional.empty();
+        }
+        return Optional.of(schemaNode);
+    }
 
-        if (node != null) {
-            try {
-                schemaNode = node.getChildSchema(id).getSchemaNode();
-            } catch (DataModelException e) {
-                // if exception occurs check for submodule
-            }
-            if (schemaNode == null) {
-                List<YangInclude> includeList = ((YangModule) node)
-                        .getIncludeList();
-                // Checking requested node in submodule.
-                schemaNode = getSubModlueChildNode(id, includeList);
-            }
-            return schemaNode;
-        } else {
-            log.error(E_NEXIST, ns);
+    /**
+     * Adds the schema identifier to the negative cache. The cache is
+     * emptied once it reaches its bound.
+     *
+     * @param s        registry snapshot the lookup was made on
+     * @param schemaId schema identifier which is not found
+     */
+    private static void addMiss(RegistrySnapshot s, SchemaId schemaId) {
+        Map<SchemaId, Boolean> misses = s.misses();
+        if (misses.size() >= MAX_MISSES) {
+            misses.clear();
         }
-        return null;
+        misses.put(schemaId, TRUE);
+    }
+
+    /**
+     * Returns the child schema node of the given node for given identifier,
+     * without raising exception when child is not present.
+     *
+     * @param node parent schema node
+     * @param id   identifier of the child node
+     * @return child schema node if present; null otherwise
+     */
+    private static YangSchemaNode getChildSchemaNode(
+            YangSchemaNode node, YangSchemaNodeIdentifier id) {
+        Map<YangSchemaNodeIdentifier, YangSchemaNodeContextInfo> map =
+                node.getYsnContextInfoMap();
+        if (map == null) {
+            return null;
+        }
+        YangSchemaNodeContextInfo info = map.get(id);
+        return info == null ? null : info.getSchemaNode();
     }
 
 
     /**
      * Updates registered class store.
      *
+     * @param b     snapshot builder
      * @param param model registrations param
      */
-    void updateRegClassStore(ModelRegistrationParam param) {
+    private static void updateRegClassStore(RegistrySnapshot.Builder b,
+                                            ModelRegistrationParam param) {
         Class<?> service;
         AppModuleInfo info;
         for (YangModuleId id : param.getYangModel().getYangModulesId()) {
@@ -547,7 +1153,7 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
                 info = param.getAppModuleInfo(id);
                 if (info != null) {
                     service = info.getModuleClass();
-                    addRegClass(service.getName(), service);
+                    b.regClasses().putIfAbsent(service.getName(), service);
                 }
             }
         }
@@ -560,8 +1166,17 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
      * @param service generated class
      */
     void addRegClass(String name, Class<?> service) {
-        if (!registerClassStore.containsKey(name)) {
-            registerClassStore.put(name, service);
+        synchronized (writeLock) {
+            if (snapshot.regClasses().containsKey(name)) {
+                return;
+            }
+            RegistrySnapshot.Builder b = snapshot.builder();
+            b.regClasses().putIfAbsent(name, service);
+            YangSchemaNode node = b.regClassNames().get(name);
+            if (node != null) {
+                registerCodecs(b, node);
+            }
+            snapshot = b.build();
         }
     }
 
@@ -643,18 +1258,17 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
      *
      * @param id   child node identifier
      * @param list list of included submodule
+     * @return child schema node if present; null otherwise
      */
     private YangSchemaNode getSubModlueChildNode(YangSchemaNodeIdentifier id,
                                                  List<YangInclude> list) {
-        YangSchemaNode schemaNode = null;
+        YangSchemaNode schemaNode;
         for (YangInclude l : list) {
-            try {
-                schemaNode = l.getIncludedNode().getChildSchema(id)
-                        .getSchemaNode();
-            } catch (DataModelException e) {
-                log.error("failed to get child schema", e);
+            schemaNode = getChildSchemaNode(l.getIncludedNode(), id);
+            if (schemaNode != null) {
+                return schemaNode;
             }
         }
-        return schemaNode;
+        return null;
     }
 }
@@ -20,31 +20,56 @@ import org.onosproject.yang.compiler.datamodel.YangLeaf;
 import org.onosproject.yang.compiler.datamodel.YangLeafList;
 import org.onosproject.yang.compiler.datamodel.YangRpc;
 import org.onosproject.yang.compiler.datamodel.YangSchemaNode;
+import org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes;
 import org.onosproject.yang.model.DataNode;
 import org.onosproject.yang.model.DefaultModelObjectData;
+import org.onosproject.yang.model.InnerModelObject;
+import org.onosproject.yang.model.InnerNode;
+import org.onosproject.yang.model.KeyInfo;
+import org.onosproject.yang.model.KeyLeaf;
+import org.onosproject.yang.model.LeafIdentifier;
 import org.onosproject.yang.model.LeafListKey;
 import org.onosproject.yang.model.ListKey;
+import org.onosproject.yang.model.ModelConverterException;
 import org.onosproject.yang.model.ModelObject;
+import org.onosproject.yang.model.ModelObjectCodec;
 import org.onosproject.yang.model.ModelObjectData;
 import org.onosproject.yang.model.ModelObjectId;
+import org.onosproject.yang.model.MultiInstanceObject;
 import org.onosproject.yang.model.NodeKey;
 import org.onosproject.yang.model.ResourceData;
 import org.onosproject.yang.model.ResourceId;
 import org.onosproject.yang.model.SchemaId;
 
-import java.util.Iterator;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.onosproject.yang.compiler.datamodel.utils.DataModelUtils.nonEmpty;
+import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.getCamelCase;
 import static org.onosproject.yang.runtime.DefaultDataNodeWalker.walk;
 import static org.onosproject.yang.runtime.SerializerHelper.getChildSchemaContext;
+import static org.onosproject.yang.runtime.impl.DefaultYangModelRegistry.addPlan;
 import static org.onosproject.yang.runtime.impl.YobUtils.FORWARD_SLASH;
-import static org.onosproject.yang.runtime.impl.YobUtils.handleLeafListKey;
-import static org.onosproject.yang.runtime.impl.YobUtils.handleListKey;
-import static org.onosproject.yang.runtime.impl.YobUtils.handleNodeKey;
+import static org.onosproject.yang.runtime.impl.YobUtils.fetchDefaultClass;
+import static org.onosproject.yang.runtime.impl.YobUtils.fetchLeafIdentifier;
+import static org.onosproject.yang.runtime.impl.YobUtils.fetchLeafListIdentifier;
+import static org.onosproject.yang.runtime.impl.YobUtils.getKeyClassName;
+import static org.onosproject.yang.runtime.impl.YobUtils.getKeyLeafSchema;
+import static org.onosproject.yang.runtime.impl.YobUtils.getQualifiedDefaultClass;
+import static org.onosproject.yang.runtime.impl.YobUtils.setDataFromStringValue;
 
 /**
  * Represents implementation to build and obtain YANG objects from data node.
+ * <p>
+ * Resource identifiers are converted to model object identifiers through
+ * conversion plans, cached in the model registry with respect to the shape
+ * of the resource identifier, so that the schema search and the reflective
+ * lookups are done once per shape.
  */
 public class DefaultYobBuilder {
     private final DefaultYangModelRegistry registry;
@@ -75,19 +100,88 @@ public class DefaultYobBuilder {
         List<DataNode> dataNodes = data.dataNodes();
         if (nonEmpty(dataNodes)) {
             for (DataNode dataNode : dataNodes) {
-                YobListener listener = new YobListener(lastIndexNode, registry);
-                walk(listener, dataNode);
-                List<ModelObject> objList = listener.modelObjectList();
-                if (objList != null) {
-                    for (ModelObject obj : objList) {
-                        builder.addModelObject(obj);
+                if (registry.hasCodecs() && dataNode instanceof InnerNode &&
+                        dataNode.key().schemaId().name().equals(FORWARD_SLASH)) {
+                    /*
+                     * Root node has no object of its own, so its children
+                     * are converted one by one to let codecs handle them.
+                     */
+                    for (DataNode child : ((InnerNode) dataNode).childNodes()
+                            .values()) {
+                        addModelObjects(builder, child);
                     }
+                } else {
+                    addModelObjects(builder, dataNode);
                 }
             }
         }
         return builder.identifier(id).build();
     }
 
+    /**
+     * Adds the model objects of the given data node to the model object data
+     * builder. The registered model object codec is used when present and
+     * the data node is walked by YOB listener otherwise.
+     *
+     * @param builder  model object data builder
+     * @param dataNode data node
+     */
+    private void addModelObjects(DefaultModelObjectData.Builder builder,
+                                 DataNode dataNode) {
+        ModelObject codecObj = decodeWithCodec(dataNode);
+        if (codecObj != null) {
+            builder.addModelObject(codecObj);
+            return;
+        }
+        YobListener listener = new YobListener(lastIndexNode, registry);
+        walk(listener, dataNode);
+        List<ModelObject> objList = listener.modelObjectList();
+        if (objList != null) {
+            for (ModelObject obj : objList) {
+                builder.addModelObject(obj);
+            }
+        }
+    }
+
+    /**
+     * Returns the model object of the given top level data node, decoded by
+     * the model object codec registered for its generated class.
+     *
+     * @param dataNode top level data node
+     * @return model object if a codec is registered; null otherwise, also
+     * when the data node has no schema, leaving the error to the reflection
+     * based conversion
+     */
+    private ModelObject decodeWithCodec(DataNode dataNode) {
+        SchemaId sId = dataNode.key().schemaId();
+        if (!registry.hasCodecs() || !(dataNode instanceof InnerNode) ||
+                sId.name().equals(FORWARD_SLASH)) {
+            return null;
+        }
+
+        YangSchemaNode schemaNode;
+        if (lastIndexNode == null) {
+            schemaNode = ((YangSchemaNode) registry.getChildContext(sId));
+        } else {
+            schemaNode = ((YangSchemaNode)
+                    getChildSchemaContext(lastIndexNode, sId.name(),
+                                          sId.namespace()));
+        }
+        if (schemaNode == null || schemaNode instanceof YangRpc) {
+            return null;
+        }
+        while (schemaNode.getReferredSchema() != null) {
+            schemaNode = schemaNode.getReferredSchema();
+        }
+
+        ModelObjectCodec<?> codec = registry.getCodec(
+                getQualifiedDefaultClass(schemaNode));
+        if (codec == null) {
+            return null;
+        }
+        return codec.decode(dataNode);
+    }
+
     /**
      * Converts resource identifier to model object identifier.
      *
@@ -95,53 +189,305 @@ public class DefaultYobBuilder {
      * @return model object identifier
      */
     private ModelObjectId convertRscIdToMoId(ResourceId id) {
-        ModelObjectId.Builder midb = ModelObjectId.builder();
-
-        if (id != null) {
-            List<NodeKey> nodeKeys = id.nodeKeys();
-            NodeKey key;
-            SchemaId sId;
-            if (nonEmpty(nodeKeys)) {
-                Iterator<NodeKey> it = nodeKeys.iterator();
-                while (it.hasNext()) {
-                    key = it.next();
-                    sId = key.schemaId();
-                    if (sId.name().equals(FORWARD_SLASH)) {
-                        continue;
-                    }
+        if (id == null || !nonEmpty(id.nodeKeys())) {
+            return ModelObjectId.builder().build();
+        }
 
-                    YangSchemaNode schemaNode;
-                    if (lastIndexNode == null) {
-                        schemaNode = ((YangSchemaNode) registry.getChildContext(sId));
-                    } else {
-                        schemaNode = ((YangSchemaNode)
-                                getChildSchemaContext(lastIndexNode, sId.name(),
-                                                      sId.namespace()));
-                    }
+        List<NodeKey> nodeKeys = id.nodeKeys();
+        List<Object> shape = shape(nodeKeys);
+        Map<List<Object>, Plan> plans = registry.rscIdPlans();
+        Plan plan = plans.get(shape);
+        if (plan == null) {
+            plan = new Plan(registry, nodeKeys);
+            // Plan of unknown nodes may resolve once their model registers.
+            if (plan.resolved) {
+                addPlan(plans, shape, plan);
+            }
+        }
+        lastIndexNode = plan.lastIndexNode;
+        return plan.bind(nodeKeys);
+    }
 
-                    if (schemaNode instanceof YangRpc) {
-                        // RPC resource id need not be converted to model
-                        // object id.
-                        lastIndexNode = schemaNode;
-                        return null;
-                    }
+    /**
+     * Returns the shape of the given node keys, that is their types and
+     * schema identifiers along with the schema identifiers of list key
+     * leaves, which identifies the conversion plan of a resource
+     * identifier.
+     *
+     * @param nodeKeys node keys
+     * @return shape of node keys
+     */
+    private static List<Object> shape(List<NodeKey> nodeKeys) {
+        List<Object> shape = new ArrayList<>(nodeKeys.size() * 2);
+        for (NodeKey key : nodeKeys) {
+            shape.add(key.getClass());
+            shape.add(key.schemaId());
+            if (key instanceof ListKey) {
+                for (KeyLeaf leaf : ((ListKey) key).keyLeafs()) {
+                    shape.add(leaf.leafSchema());
+                }
+            }
+        }
+        return shape;
+    }
 
-                    if (key instanceof ListKey) {
-                        midb = handleListKey(midb, registry, schemaNode, key);
-                    } else if (key instanceof LeafListKey) {
-                        LeafListKey llKey = (LeafListKey) key;
-                        midb = handleLeafListKey(midb, registry, schemaNode,
-                                                 llKey);
-                    } else {
-                        midb = handleNodeKey(midb, registry, schemaNode, key);
-                    }
-                    if (!(schemaNode instanceof YangLeaf) && !(schemaNode
-                            instanceof YangLeafList)) {
-                        lastIndexNode = schemaNode;
+    /**
+     * Represents the conversion plan of resource identifiers of a shape,
+     * holding the resolved model object classes, leaf identifiers and key
+     * class accessors, so that only the key and leaf-list values are bound
+     * for each conversion.
+     */
+    static final class Plan {
+
+        private final Step[] steps;
+        private final YangSchemaNode lastIndexNode;
+        private final boolean isRpc;
+        private final boolean resolved;
+
+        /**
+         * Creates the conversion plan of the given node keys.
+         *
+         * @param reg      model registry
+         * @param nodeKeys node keys
+         */
+        private Plan(DefaultYangModelRegistry reg, List<NodeKey> nodeKeys) {
+            steps = new Step[nodeKeys.size()];
+            YangSchemaNode last = null;
+            boolean rpc = false;
+            boolean found = true;
+            for (int i = 0; i < steps.length; i++) {
+                NodeKey key = nodeKeys.get(i);
+                SchemaId sId = key.schemaId();
+                if (sId.name().equals(FORWARD_SLASH)) {
+                    continue;
+                }
+
+                YangSchemaNode schemaNode;
+                if (last == null) {
+                    schemaNode = ((YangSchemaNode) reg.getChildContext(sId));
+                } else {
+                    schemaNode = ((YangSchemaNode)
+                            getChildSchemaContext(last, sId.name(),
+                                                  sId.namespace()));
+                }
+
+                found &= schemaNode != null;
+                if (schemaNode instanceof YangRpc) {
+                    // RPC resource id need not be converted to model
+                    // object id.
+                    last = schemaNode;
+                    rpc = true;
+                    break;
+                }
+
+                if (key instanceof ListKey) {
+                    List<KeyLeaf> keyLeaves = ((ListKey) key).keyLeafs();
+                    if (nonEmpty(keyLeaves)) {
+                        steps[i] = new ListStep<>(reg, schemaNode, keyLeaves);
                     }
+                } else if (key instanceof LeafListKey) {
+                    steps[i] = new LeafListStep(fetchLeafListIdentifier(
+                            reg, schemaNode, sId.name()));
+                } else if (schemaNode instanceof YangLeaf) {
+                    steps[i] = new LeafStep(fetchLeafIdentifier(
+                            reg, schemaNode, sId.name()));
+                } else if (schemaNode != null) {
+                    steps[i] = new NodeStep(
+                            fetchDefaultClass(reg, schemaNode));
+                }
+                if (!(schemaNode instanceof YangLeaf) && !(schemaNode
+                        instanceof YangLeafList)) {
+                    last = schemaNode;
+                }
+            }
+            lastIndexNode = last;
+            isRpc = rpc;
+            resolved = found;
+        }
+
+        /**
+         * Returns the model object identifier of the given node keys, of
+         * the shape of this plan.
+         *
+         * @param nodeKeys node keys
+         * @return model object identifier, or null for an RPC
+         */
+        private ModelObjectId bind(List<NodeKey> nodeKeys) {
+            if (isRpc) {
+                return null;
+            }
+            ModelObjectId.Builder midb = ModelObjectId.builder();
+            for (int i = 0; i < steps.length; i++) {
+                if (steps[i] != null) {
+                    midb = steps[i].bind(midb, nodeKeys.get(i));
+                }
+            }
+            return midb.build();
+        }
+    }
+
+    /**
+     * Represents a step of conversion plan, for a node key.
+     */
+    private abstract static class Step {
+
+        /**
+         * Adds the atomic path of the given node key.
+         *
+         * @param midb model object identifier builder
+         * @param key  node key
+         * @return model object identifier builder
+         */
+        abstract ModelObjectId.Builder bind(ModelObjectId.Builder midb,
+                                            NodeKey key);
+    }
+
+    /**
+     * Adds a container or other single instance node.
+     */
+    private static final class NodeStep extends Step {
+
+        private final Class<InnerModelObject> nodeClass;
+
+        private NodeStep(Class<?> nodeClass) {
+            this.nodeClass = (Class<InnerModelObject>) nodeClass;
+        }
+
+        @Override
+        ModelObjectId.Builder bind(ModelObjectId.Builder midb, NodeKey key) {
+            return midb.addChild(nodeClass);
+        }
+    }
+
+    /**
+     * Adds a leaf.
+     */
+    private static final class LeafStep extends Step {
+
+        private final LeafIdentifier leafId;
+
+        private LeafStep(LeafIdentifier leafId) {
+            this.leafId = leafId;
+        }
+
+        @Override
+        ModelObjectId.Builder bind(ModelObjectId.Builder midb, NodeKey key) {
+            return leafId == null ? midb : midb.addChild(leafId);
+        }
+    }
+
+    /**
+     * Adds a leaf-list, with the value of its node key.
+     */
+    private static final class LeafListStep extends Step {
+
+        private final LeafIdentifier leafId;
+
+        private LeafListStep(LeafIdentifier leafId) {
+            this.leafId = leafId;
+        }
+
+        @Override
+        ModelObjectId.Builder bind(ModelObjectId.Builder midb, NodeKey key) {
+            if (leafId == null) {
+                return midb;
+            }
+            return midb.addChild(leafId, ((LeafListKey) key).value());
+        }
+    }
+
+    /**
+     * Adds a list, with the key object built from the key leaves of its
+     * node key.
+     *
+     * @param <T> list class type
+     * @param <K> key type
+     */
+    private static final class ListStep<T extends InnerModelObject &
+            MultiInstanceObject<K>, K extends KeyInfo<T>> extends Step {
+
+        private final YangSchemaNode node;
+        private final Class<T> listClass;
+        private final String keyClassName;
+        private final Constructor<K> keyConstructor;
+        private final YangLeaf[] leaves;
+        private final YangDataTypes[] types;
+        private final String[] javaNames;
+        private final Method[] setters;
+        private final YobSetterCache cache;
+
+        private ListStep(DefaultYangModelRegistry reg, YangSchemaNode node,
+                         List<KeyLeaf> keyLeaves) {
+            this.node = node;
+            cache = reg.setterCache();
+            listClass = (Class<T>) fetchDefaultClass(reg, node);
+            keyClassName = getKeyClassName(node);
+            leaves = new YangLeaf[keyLeaves.size()];
+            types = new YangDataTypes[leaves.length];
+            javaNames = new String[leaves.length];
+            setters = new Method[leaves.length];
+            String javaName = null;
+            try {
+                Class<K> keyClass = (Class<K>) listClass.getClassLoader()
+                        .loadClass(keyClassName);
+                keyConstructor = keyClass.getConstructor();
+                for (int i = 0; i < leaves.length; i++) {
+                    KeyLeaf leaf = keyLeaves.get(i);
+                    leaves[i] = getKeyLeafSchema(leaf, node);
+                    types[i] = leaves[i].getDataType().getDataType();
+                    javaName = getCamelCase(leaf.leafSchema().name(), null);
+                    javaNames[i] = javaName;
+                    Field leafName = keyClass.getDeclaredField(javaName);
+                    setters[i] = keyClass.getDeclaredMethod(
+                            javaName, leafName.getType());
+                }
+            } catch (NoSuchMethodException e) {
+                throw new ModelConverterException(
+                        "Failed to load setter method for " +
+                                javaName + " in key class"
+                                + keyClassName, e);
+            } catch (ClassNotFoundException e) {
+                throw new ModelConverterException("Failed to load key class"
+                                                          + keyClassName, e);
+            } catch (NoSuchFieldException e) {
+                throw new ModelConverterException("Field " + javaName + " not found", e);
+            }
+        }
+
+        @Override
+        ModelObjectId.Builder bind(ModelObjectId.Builder midb, NodeKey key) {
+            List<KeyLeaf> keyLeaves = ((ListKey) key).keyLeafs();
+            K keyObj;
+            try {
+                keyObj = keyConstructor.newInstance();
+            } catch (IllegalAccessException | InstantiationException |
+                    InvocationTargetException e) {
+                throw new ModelConverterException("Failed Instantiation of key class"
+                                                          + keyClassName, e);
+            }
+            for (int i = 0; i < setters.length; i++) {
+                try {
+                    setDataFromStringValue(types[i],
+                                           keyLeaves.get(i).leafValue(),
+                                           setters[i], keyObj, leaves[i],
+                                           node, cache);
+                } catch (NoSuchMethodException e) {
+                    throw new ModelConverterException(
+                            "Failed to load setter method for " +
+                                    javaNames[i] + " in key class"
+                                    + keyClassName, e);
+                } catch (InvocationTargetException e) {
+                    throw new ModelConverterException(
+                            "Failed to invoke setter method for " +
+                                    javaNames[i] + " in key class"
+                                    + keyClassName, e);
+                } catch (IllegalAccessException e) {
+                    throw new ModelConverterException("Failed Instantiation of key class"
+                                                              + keyClassName, e);
                 }
+                midb = midb.addChild(listClass, keyObj);
             }
+            return midb;
         }
-        return midb.build();
     }
 }
@@ -47,11 +47,15 @@ public final class MockYangSchemaNodeProvider {
             FS + "target" + FS + "classes" + FS;
     private static final String SER_FILE_PATH = "yang" + FS + "resources" +
             FS + "YangMetaData.ser";
+    private static final String LINKED_SER_FILE_PATH = "yang" + FS +
+            "resources" + FS + "YangLinkedMetaData.ser";
     private static final String META_PATH = PATH + SER_FILE_PATH;
+    private static final String LINKED_META_PATH = PATH + LINKED_SER_FILE_PATH;
     private static final String TEMP_FOLDER_PATH = PATH + TEMP;
     private static DefaultYangModelRegistry reg;
     private static List<YangNode> nodes = new ArrayList<>();
     private static String id;
+    private static boolean linked;
 
     /**
      * Creates an instance of mock YANG schema for unit test cases.
@@ -65,8 +69,11 @@ public final class MockYangSchemaNodeProvider {
     public static void processSchemaRegistry() {
         try {
             reg = new DefaultYangModelRegistry();
-            //Need to deserialize generated meta data file for unit tests.
-            YangModel model = deSerializeDataModel(META_PATH);
+            //Need to deserialize generated meta data file for unit tests,
+            // linked one is preferred when generated.
+            linked = new File(LINKED_META_PATH).exists();
+            YangModel model = deSerializeDataModel(
+                    linked ? LINKED_META_PATH : META_PATH);
             Set<YangNode> appNode = getYangNodes(model);
             nodes.addAll(appNode);
             id = model.getYangModelId();
@@ -80,6 +87,81 @@ public final class MockYangSchemaNodeProvider {
         }
     }
 
+    /**
+     * Returns a new lazy YANG model registry, with the unit test model
+     * registered in it.
+     *
+     * @return lazy YANG model registry
+     */
+    public static DefaultYangModelRegistry lazyRegistry() {
+        DefaultYangModelRegistry lazyReg = new DefaultYangModelRegistry(true);
+        try {
+            boolean isLinked = new File(LINKED_META_PATH).exists();
+            YangModel model = deSerializeDataModel(
+                    isLinked ? LINKED_META_PATH : META_PATH);
+            List<YangNode> modelNodes = new ArrayList<>(getYangNodes(model));
+            lazyReg.registerModel(param(modelNodes, model.getYangModelId(),
+                                        isLinked));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return lazyReg;
+    }
+
+    /**
+     * Returns a new YANG model registry, with the unit test model registered
+     * from either the linked or the unlinked meta data. Nodes of the
+     * unlinked meta data are linked and given their java info at
+     * registration.
+     *
+     * @param fromLinked true to register the linked meta data
+     * @return YANG model registry
+     */
+    public static DefaultYangModelRegistry newRegistry(boolean fromLinked) {
+        DefaultYangModelRegistry newReg = new DefaultYangModelRegistry();
+        try {
+            YangModel model = deSerializeDataModel(
+                    fromLinked ? LINKED_META_PATH : META_PATH);
+            List<YangNode> modelNodes = new ArrayList<>(getYangNodes(model));
+            newReg.registerModel(param(modelNodes, model.getYangModelId(),
+                                       fromLinked));
+            deleteDirectory(TEMP_FOLDER_PATH);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return newReg;
+    }
+
+    /**
+     * Returns a model registration parameter holding the given modules of
+     * the unit test model, deserialized afresh from the unlinked meta data.
+     * Dependent modules are taken from the registry at registration, so
+     * they must be registered by another model by then.
+     *
+     * @param modelId   model id
+     * @param modules   names of the modules of the model
+     * @param dependent names of the dependent jar modules of the model
+     * @return model registration parameter
+     */
+    public static ModelRegistrationParam moduleParam(String modelId,
+                                                     List<String> modules,
+                                                     List<String> dependent) {
+        List<YangNodeInfo> nodeInfo = new ArrayList<>();
+        try {
+            for (YangNode node : getYangNodes(deSerializeDataModel(META_PATH))) {
+                if (modules.contains(node.getName())) {
+                    nodeInfo.add(new YangNodeInfo(node, false));
+                } else if (dependent.contains(node.getName())) {
+                    nodeInfo.add(new YangNodeInfo(node, true));
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return builder().setYangModel(processYangModel(
+                META_PATH, nodeInfo, modelId, true, false)).build();
+    }
+
     /**
      * Unregister given nodes from runtime service.
      *
@@ -96,12 +178,27 @@ public final class MockYangSchemaNodeProvider {
      * @return model registration parameter
      */
     private static ModelRegistrationParam param(List<YangNode> nodes) {
+        return param(nodes, id, linked);
+    }
+
+    /**
+     * Prepares model registration parameter.
+     *
+     * @param nodes    list of nodes
+     * @param modelId  model id
+     * @param isLinked true if nodes are linked already
+     * @return model registration parameter
+     */
+    private static ModelRegistrationParam param(List<YangNode> nodes,
+                                                String modelId,
+                                                boolean isLinked) {
         //Create model registration param.
         ModelRegistrationParam.Builder b = builder();
 
         List<YangNodeInfo> nodeInfo = new ArrayList<>();
         setNodeInfo(nodes, nodeInfo);
-        YangModel model = processYangModel(META_PATH, nodeInfo, id, true);
+        YangModel model = processYangModel(META_PATH, nodeInfo, modelId, true,
+                                           isLinked);
 
         //set YANG model
         b.setYangModel(model);
@@ -35,9 +35,12 @@ import org.onosproject.yang.model.MultiInstanceLeaf;
 import org.onosproject.yang.model.MultiInstanceNode;
 import org.onosproject.yang.model.ResourceId;
 import org.onosproject.yang.model.SingleInstanceLeaf;
+import org.onosproject.yang.model.SingleInstanceNode;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.regex.Pattern;
 
@@ -48,12 +51,19 @@ import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.getCamelCa
 import static org.onosproject.yang.runtime.RuntimeHelper.DEFAULT_CAPS;
 import static org.onosproject.yang.runtime.RuntimeHelper.PERIOD;
 import static org.onosproject.yang.runtime.RuntimeHelper.getCapitalCase;
+import static org.onosproject.yang.runtime.impl.DefaultYangModelRegistry.addPlan;
 import static org.onosproject.yang.runtime.impl.ModelConverterUtil.fetchPackage;
 import static org.onosproject.yang.runtime.impl.ModelConverterUtil.getAttributeOfObject;
 import static org.onosproject.yang.runtime.impl.ModelConverterUtil.getObjFromType;
 
 /**
  * Converts model object identifier to resource identifier.
+ * <p>
+ * The first conversion of a model object identifier of a given shape, that
+ * is the sequence of its atomic path types with their classes or leaf
+ * identifiers, searches the schema and records the steps it takes into a
+ * plan. The plan is cached in the model registry, and the next conversions
+ * of the same shape replay it, binding only the key and leaf-list values.
  */
 class ModIdToRscIdConverter {
 
@@ -80,6 +90,10 @@ class ModIdToRscIdConverter {
      * Flag is true if we have found module node using input/output packages.
      */
     private boolean isInputOrOutput;
+    /**
+     * Steps of the plan being recorded.
+     */
+    private List<Step> steps;
 
     /**
      * Creates an instance of converter.
@@ -104,6 +118,68 @@ class ModIdToRscIdConverter {
             return rid;
         }
 
+        List<AtomicPath> paths = id.atomicPaths();
+        List<Object> shape = shape(paths);
+        Map<List<Object>, Plan> plans = reg.moIdPlans();
+        Plan plan = plans.get(shape);
+        if (plan != null) {
+            plan.bind(this, paths, rid);
+            return rid;
+        }
+
+        lastIndexNode = null;
+        isMoIdWithLeaf = false;
+        isRpcAdded = true;
+        isInputOrOutput = false;
+        steps = new ArrayList<>();
+        try {
+            compile(id, rid);
+            addPlan(plans, shape, new Plan(this));
+        } finally {
+            steps = null;
+        }
+        return rid;
+    }
+
+    /**
+     * Returns the shape of the given atomic paths, which identifies the
+     * conversion plan of a model object identifier.
+     *
+     * @param paths atomic paths
+     * @return shape of atomic paths
+     */
+    private static List<Object> shape(List<AtomicPath> paths) {
+        List<Object> shape = new ArrayList<>(paths.size() * 2);
+        for (AtomicPath path : paths) {
+            shape.add(path.type());
+            switch (path.type()) {
+                case SINGLE_INSTANCE_NODE:
+                    shape.add(((SingleInstanceNode) path).container());
+                    break;
+                case MULTI_INSTANCE_NODE:
+                    shape.add(((MultiInstanceNode) path).listClass());
+                    break;
+                case SINGLE_INSTANCE_LEAF_VALUE_NODE:
+                    shape.add(((SingleInstanceLeaf) path).leafIdentifier());
+                    break;
+                case MULTI_INSTANCE_LEAF_VALUE_NODE:
+                    shape.add(((MultiInstanceLeaf) path).leafIdentifier());
+                    break;
+                default:
+                    break;
+            }
+        }
+        return shape;
+    }
+
+    /**
+     * Converts model object identifier to resource identifier by searching
+     * the schema, recording the steps taken.
+     *
+     * @param id  model object identifier
+     * @param rid resource identifier builder
+     */
+    private void compile(ModelObjectId id, ResourceId.Builder rid) {
         List<AtomicPath> paths = id.atomicPaths();
         AtomicPath path = paths.get(0);
 
@@ -121,13 +197,12 @@ class ModIdToRscIdConverter {
             }
             lastIndexNode = fetchModNodeFromLeaf(identifier.getClass().getName());
             if (lastIndexNode != null) {
-                handleLeafInRid(lastIndexNode, id, rid, path);
-                return rid;
+                handleLeafInRid(lastIndexNode, id, rid, path, 0);
+                return;
             }
         }
 
-        return convertToResourceId(id, fetchModuleNode(fetchPackage(path)),
-                                   rid);
+        convertToResourceId(id, fetchModuleNode(fetchPackage(path)), rid);
     }
 
     /**
@@ -205,8 +280,8 @@ class ModIdToRscIdConverter {
      * @param builder resource id builder
      * @return resource identifier builder
      */
-    private ResourceId.Builder convertToResourceId(ModelObjectId id, YangSchemaNode
-            modNode, ResourceId.Builder builder) {
+    private void convertToResourceId(ModelObjectId id, YangSchemaNode modNode,
+                                     ResourceId.Builder builder) {
         List<AtomicPath> paths = id.atomicPaths();
         Iterator<AtomicPath> it = paths.iterator();
         AtomicPath path;
@@ -214,8 +289,10 @@ class ModIdToRscIdConverter {
         YangSchemaNode curNode = modNode;
         YangSchemaNode preNode = null;
         YangNode tempNode;
+        int index = -1;
         while (it.hasNext()) {
             path = it.next();
+            index++;
             try {
                 //Get the java package for given atomic path. this package will
                 // be java package for schema node
@@ -234,27 +311,18 @@ class ModIdToRscIdConverter {
                 }
                 //if the current node is null and atomic path list contains
                 // another node, then there is possibility that its a leaf node.
-                if (curNode == null && paths.indexOf(path) == paths.size() - 1) {
+                if (curNode == null && index == paths.size() - 1) {
                     //check leaf nodes in previous nodes.
-                    handleLeafInRid(preNode, id, builder, path);
+                    handleLeafInRid(preNode, id, builder, path, index);
                 } else if (curNode != null) {
 
-                    builder.addBranchPointSchema(curNode.getName(), curNode
-                            .getNameSpace().getModuleNamespace());
+                    addBranchPoint(curNode, builder);
                     //list node can have key leaf in it. so resource identifier
                     // should have key leaves also.
                     if (curNode instanceof YangList) {
-                        YangList list = (YangList) curNode;
-                        MultiInstanceNode mil = (MultiInstanceNode) path;
-                        Object keysObj = mil.key();
-                        if (keysObj != null) {
-                            Set<String> keys = list.getKeyLeaf();
-                            for (String key : keys) {
-                                Object obj = getKeyObject(keysObj, key, list);
-                                builder.addKeyLeaf(key, list.getNameSpace()
-                                        .getModuleNamespace(), obj);
-                            }
-                        }
+                        ListKeys keys = new ListKeys((YangList) curNode, index);
+                        steps.add(keys);
+                        keys.bind(paths, builder);
                     }
                 } else {
                     throw new ModelConverterException("invalid model object id." + id);
@@ -270,11 +338,12 @@ class ModIdToRscIdConverter {
             lastIndexNode = curNode;
         }
         builder.appInfo(curNode);
-        return builder;
+        steps.add(new AppInfo(curNode));
     }
 
     private void handleLeafInRid(YangSchemaNode preNode, ModelObjectId id,
-                                 ResourceId.Builder builder, AtomicPath path) {
+                                 ResourceId.Builder builder, AtomicPath path,
+                                 int index) {
         //check leaf nodes in previous nodes.
         String pkg = fetchPackage(path);
         YangSchemaNode curNode = fetchLeaf(preNode, pkg, false);
@@ -296,19 +365,30 @@ class ModIdToRscIdConverter {
         isMoIdWithLeaf = true;
         if (curNode instanceof YangLeaf) {
             //leaf should be added as a branch point schema
-            builder.addBranchPointSchema(curNode.getName(), curNode
-                    .getNameSpace().getModuleNamespace());
+            addBranchPoint(curNode, builder);
         } else {
             // leaf list should be added as leaf list branch point
             // schema with its value added to it.
-            YangType<?> type = ((YangLeafList) curNode).getDataType();
-            Object val = ((MultiInstanceLeaf) path).value();
-            val = getObjFromType(preNode, path, curNode, "value", val, type);
-            builder.addLeafListBranchPoint(curNode.getName(), curNode
-                    .getNameSpace().getModuleNamespace(), val);
+            LeafListValue value = new LeafListValue(
+                    preNode, (YangLeafList) curNode, index);
+            steps.add(value);
+            value.bind(id.atomicPaths(), builder);
         }
     }
 
+    /**
+     * Adds the given schema node as a branch point of resource identifier.
+     *
+     * @param node    schema node
+     * @param builder resource identifier builder
+     */
+    private void addBranchPoint(YangSchemaNode node,
+                                ResourceId.Builder builder) {
+        BranchPoint step = new BranchPoint(node);
+        steps.add(step);
+        step.bind(null, builder);
+    }
+
     private String getJavaPkg(YangNode node) {
         return node.getJavaPackage() + PERIOD + DEFAULT_CAPS +
                 getCapitalCase(node.getJavaClassNameOrBuiltInType());
@@ -343,22 +423,6 @@ class ModIdToRscIdConverter {
         return null;
     }
 
-    /**
-     * Returns key value from the key class object.
-     *
-     * @param keys    key class object
-     * @param keyName key name
-     * @return key value
-     */
-    private Object getKeyValue(Object keys, String keyName) {
-        try {
-            return getAttributeOfObject(keys, getCamelCase(keyName, null));
-        } catch (NoSuchMethodException e) {
-            throw new ModelConverterException("invalid key value in model id for list" +
-                                                      "." + keys.getClass().getName(), e);
-        }
-    }
-
     /**
      * Returns YANG fetchNode for given package.
      *
@@ -382,8 +446,7 @@ class ModIdToRscIdConverter {
                     // resource identifier
                     if (isRpcAdded) {
                         isRpcAdded = false;
-                        builder.addBranchPointSchema(node.getName(), node.getNameSpace()
-                                .getModuleNamespace());
+                        addBranchPoint(node, builder);
                     }
                     // node will become input node
                     node = node.getChild();
@@ -399,8 +462,8 @@ class ModIdToRscIdConverter {
         return null;
     }
 
-    private YangSchemaNode fetchLeaf(YangSchemaNode node, String name,
-                                     boolean isSchemaName) {
+    private static YangSchemaNode fetchLeaf(YangSchemaNode node, String name,
+                                            boolean isSchemaName) {
         YangLeavesHolder holder = (YangLeavesHolder) node;
         List<YangLeaf> leaves = holder.getListOfLeaf();
         String lName;
@@ -460,19 +523,16 @@ class ModIdToRscIdConverter {
     }
 
     /**
-     * Returns the key leaf's processed object to be present in the resource id.
+     * Returns the key leaf schema node of the given list.
      *
-     * @param keysObj list of keys object
-     * @param key     leaf key object
-     * @param list    YANG list
-     * @return processed object
+     * @param list YANG list
+     * @param key  key leaf name
+     * @return key leaf schema node, or null if not present
      */
-    private Object getKeyObject(Object keysObj, String key, YangList list) {
-        Object keyObj = getKeyValue(keysObj, key);
+    private static YangSchemaNode fetchKeyLeaf(YangList list, String key) {
         YangSchemaNode leaf = fetchLeaf(list, key, true);
-
-        if (leaf == null) {
-            List<YangAugment> augment = list.getAugmentedInfoList();
+        List<YangAugment> augment = list.getAugmentedInfoList();
+        if (leaf == null && nonEmpty(augment)) {
             for (YangAugment a : augment) {
                 leaf = fetchLeaf(a, key, true);
                 if (leaf != null) {
@@ -480,17 +540,203 @@ class ModIdToRscIdConverter {
                 }
             }
         }
-        if (leaf == null) {
-            throw new ModelConverterException(
-                    "The specified key " + key + " is not present in the " +
-                            "YANG schema node.");
+        return leaf;
+    }
+
+    /**
+     * Represents the conversion plan of model object identifiers of a
+     * shape.
+     */
+    static final class Plan {
+
+        private final Step[] steps;
+        private final YangSchemaNode lastIndexNode;
+        private final boolean isMoIdWithLeaf;
+        private final boolean isInputOrOutput;
+
+        private Plan(ModIdToRscIdConverter conv) {
+            steps = conv.steps.toArray(new Step[conv.steps.size()]);
+            lastIndexNode = conv.lastIndexNode;
+            isMoIdWithLeaf = conv.isMoIdWithLeaf;
+            isInputOrOutput = conv.isInputOrOutput;
         }
-        YangType<?> type;
-        if (leaf instanceof YangLeaf) {
-            type = ((YangLeaf) leaf).getDataType();
-        } else {
-            type = ((YangLeafList) leaf).getDataType();
+
+        /**
+         * Converts the atomic paths of a model object identifier of the
+         * shape of this plan, and sets the state of converter.
+         *
+         * @param conv    converter
+         * @param paths   atomic paths
+         * @param builder resource identifier builder
+         */
+        private void bind(ModIdToRscIdConverter conv, List<AtomicPath> paths,
+                          ResourceId.Builder builder) {
+            for (Step step : steps) {
+                step.bind(paths, builder);
+            }
+            conv.lastIndexNode = lastIndexNode;
+            conv.isMoIdWithLeaf = isMoIdWithLeaf;
+            conv.isInputOrOutput = isInputOrOutput;
+        }
+    }
+
+    /**
+     * Represents a step of conversion plan.
+     */
+    private abstract static class Step {
+
+        /**
+         * Adds the resource identifier content of this step.
+         *
+         * @param paths   atomic paths of model object identifier
+         * @param builder resource identifier builder
+         */
+        abstract void bind(List<AtomicPath> paths, ResourceId.Builder builder);
+    }
+
+    /**
+     * Adds a branch point schema.
+     */
+    private static final class BranchPoint extends Step {
+
+        private final String name;
+        private final String ns;
+
+        private BranchPoint(YangSchemaNode node) {
+            name = node.getName();
+            ns = node.getNameSpace().getModuleNamespace();
+        }
+
+        @Override
+        void bind(List<AtomicPath> paths, ResourceId.Builder builder) {
+            builder.addBranchPointSchema(name, ns);
+        }
+    }
+
+    /**
+     * Adds the key leaves of a list, taken from the key object of its
+     * atomic path.
+     */
+    private static final class ListKeys extends Step {
+
+        private final YangList list;
+        private final int index;
+        private final String ns;
+        private final String[] names;
+        private final String[] getters;
+        private final YangSchemaNode[] leaves;
+        private final YangType<?>[] types;
+
+        private ListKeys(YangList list, int index) {
+            this.list = list;
+            this.index = index;
+            ns = list.getNameSpace().getModuleNamespace();
+            Set<String> keys = list.getKeyLeaf();
+            names = keys.toArray(new String[keys.size()]);
+            getters = new String[names.length];
+            leaves = new YangSchemaNode[names.length];
+            types = new YangType<?>[names.length];
+            for (int i = 0; i < names.length; i++) {
+                getters[i] = getCamelCase(names[i], null);
+                YangSchemaNode leaf = fetchKeyLeaf(list, names[i]);
+                leaves[i] = leaf;
+                if (leaf instanceof YangLeaf) {
+                    types[i] = ((YangLeaf) leaf).getDataType();
+                } else if (leaf != null) {
+                    types[i] = ((YangLeafList) leaf).getDataType();
+                }
+            }
+        }
+
+        @Override
+        void bind(List<AtomicPath> paths, ResourceId.Builder builder) {
+            AtomicPath path = paths.get(index);
+            Object keysObj = ((MultiInstanceNode) path).key();
+            if (keysObj == null) {
+                return;
+            }
+            try {
+                for (int i = 0; i < names.length; i++) {
+                    builder.addKeyLeaf(names[i], ns, keyObject(keysObj, i));
+                }
+            } catch (Exception e) {
+                throw new ModelConverterException(
+                        "Encountered an Exception processing " + path, e);
+            }
+        }
+
+        /**
+         * Returns the key leaf's processed object to be present in the
+         * resource id.
+         *
+         * @param keysObj list of keys object
+         * @param i       index of key leaf
+         * @return processed object
+         */
+        private Object keyObject(Object keysObj, int i) {
+            Object keyObj;
+            try {
+                keyObj = getAttributeOfObject(keysObj, getters[i]);
+            } catch (NoSuchMethodException e) {
+                throw new ModelConverterException(
+                        "invalid key value in model id for list" + "." +
+                                keysObj.getClass().getName(), e);
+            }
+            if (leaves[i] == null) {
+                throw new ModelConverterException(
+                        "The specified key " + names[i] + " is not present " +
+                                "in the YANG schema node.");
+            }
+            return getObjFromType(list, keysObj, leaves[i], names[i], keyObj,
+                                  types[i]);
+        }
+    }
+
+    /**
+     * Adds a leaf-list branch point, with the value taken from its atomic
+     * path.
+     */
+    private static final class LeafListValue extends Step {
+
+        private final YangSchemaNode holder;
+        private final YangLeafList leafList;
+        private final int index;
+        private final String name;
+        private final String ns;
+
+        private LeafListValue(YangSchemaNode holder, YangLeafList leafList,
+                              int index) {
+            this.holder = holder;
+            this.leafList = leafList;
+            this.index = index;
+            name = leafList.getName();
+            ns = leafList.getNameSpace().getModuleNamespace();
+        }
+
+        @Override
+        void bind(List<AtomicPath> paths, ResourceId.Builder builder) {
+            AtomicPath path = paths.get(index);
+            Object val = ((MultiInstanceLeaf) path).value();
+            val = getObjFromType(holder, path, leafList, "value", val,
+                                 leafList.getDataType());
+            builder.addLeafListBranchPoint(name, ns, val);
+        }
+    }
+
+    /**
+     * Sets the application info of resource identifier.
+     */
+    private static final class AppInfo extends Step {
+
+        private final YangSchemaNode node;
+
+        private AppInfo(YangSchemaNode node) {
+            this.node = node;
+        }
+
+        @Override
+        void bind(List<AtomicPath> paths, ResourceId.Builder builder) {
+            builder.appInfo(node);
         }
-        return getObjFromType(list, keysObj, leaf, key, keyObj, type);
     }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.runtime.impl;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Represents the cache of accessor methods of generated model object
+ * classes used by YANG tree builder. Each generated class holds its own
+ * table of resolved methods, built on first use, so the table is released
+ * together with the class when the model's class loader is unloaded.
+ */
+final class ModelAccessorCache {
+
+    private static final ClassValue<ConcurrentMap<String, Method>> ACCESSORS =
+            new ClassValue<ConcurrentMap<String, Method>>() {
+                @Override
+                protected ConcurrentMap<String, Method> computeValue(
+                        Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private static final ClassValue<ConcurrentMap<String,
+            ConcurrentMap<String, Method>>> OWNED_ACCESSORS =
+            new ClassValue<ConcurrentMap<String,
+                    ConcurrentMap<String, Method>>>() {
+                @Override
+                protected ConcurrentMap<String, ConcurrentMap<String, Method>>
+                computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    // No instantiation.
+    private ModelAccessorCache() {
+    }
+
+    /**
+     * Resolves an accessor method. Resolvers are expected to take all their
+     * input as arguments, so that a single resolver instance serves every
+     * lookup. They are invoked on a cache miss only, so any class they load
+     * is loaded once per holder class and owner, not once per value.
+     */
+    @FunctionalInterface
+    interface AccessorResolver {
+
+        /**
+         * Returns the resolved accessor method.
+         *
+         * @param cls   class holding the table
+         * @param owner qualified name of the class declaring the method
+         * @param name  method name
+         * @param arg   argument given for the lookup
+         * @return accessor method
+         * @throws ReflectiveOperationException if the method or its class
+         *                                      is not found
+         */
+        Method resolve(Class<?> cls, String owner, String name, Object arg)
+                throws ReflectiveOperationException;
+    }
+
+    /**
+     * Returns the declared method of the given class, which takes no
+     * argument.
+     *
+     * @param cls  class declaring the method
+     * @param name method name
+     * @return declared method
+     * @throws NoSuchMethodException if the method is not found
+     */
+    static Method declaredMethod(Class<?> cls, String name)
+            throws NoSuchMethodException {
+        ConcurrentMap<String, Method> table = ACCESSORS.get(cls);
+        Method method = table.get(name);
+        if (method == null) {
+            method = cls.getDeclaredMethod(name);
+            table.putIfAbsent(name, method);
+        }
+        return method;
+    }
+
+    /**
+     * Returns the accessor method, cached in the table of the given class
+     * by its owner and name. The resolver is invoked only when the accessor
+     * is not yet cached.
+     *
+     * @param cls      class holding the table
+     * @param owner    qualified name of the class declaring the method
+     * @param name     method name
+     * @param arg      argument passed to the resolver
+     * @param resolver resolver of the method
+     * @return accessor method
+     * @throws ReflectiveOperationException if the method or its class is
+     *                                      not found
+     */
+    static Method accessor(Class<?> cls, String owner, String name, Object arg,
+                           AccessorResolver resolver)
+            throws ReflectiveOperationException {
+        ConcurrentMap<String, ConcurrentMap<String, Method>> owners =
+                OWNED_ACCESSORS.get(cls);
+        ConcurrentMap<String, Method> table = owners.get(owner);
+        if (table == null) {
+            owners.putIfAbsent(owner, new ConcurrentHashMap<>());
+            table = owners.get(owner);
+        }
+        Method method = table.get(name);
+        if (method == null) {
+            method = resolver.resolve(cls, owner, name, arg);
+            table.putIfAbsent(name, method);
+        }
+        return method;
+    }
+}
@@ -17,6 +17,7 @@
 package org.onosproject.yang.runtime.impl;
 
 
+import org.onosproject.yang.compiler.datamodel.SchemaDataNode;
 import org.onosproject.yang.compiler.datamodel.TraversalType;
 import org.onosproject.yang.compiler.datamodel.YangAugment;
 import org.onosproject.yang.compiler.datamodel.YangCase;
@@ -34,6 +35,7 @@ import org.onosproject.yang.compiler.datamodel.YangSchemaNode;
 import org.onosproject.yang.compiler.datamodel.YangType;
 import org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes;
 import org.onosproject.yang.model.AtomicPath;
+import org.onosproject.yang.model.DataNode;
 import org.onosproject.yang.model.LeafSchemaContext;
 import org.onosproject.yang.model.ModelConverterException;
 import org.onosproject.yang.model.MultiInstanceLeaf;
@@ -66,6 +68,8 @@ import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.Yang
 import static org.onosproject.yang.runtime.RuntimeHelper.PERIOD;
 import static org.onosproject.yang.runtime.RuntimeHelper.UNDER_SCORE;
 import static org.onosproject.yang.runtime.RuntimeHelper.getCapitalCase;
+import static org.onosproject.yang.runtime.impl.ModelAccessorCache.accessor;
+import static org.onosproject.yang.runtime.impl.ModelAccessorCache.declaredMethod;
 
 
 /**
@@ -127,7 +131,7 @@ final class ModelConverterUtil {
         Class<?> nodeClass = nodeObj.getClass();
         Method getterMethod;
         try {
-            getterMethod = nodeClass.getDeclaredMethod(fieldName);
+            getterMethod = declaredMethod(nodeClass, fieldName);
             return getterMethod.invoke(nodeObj);
         } catch (InvocationTargetException | IllegalAccessException e) {
             throw new ModelConverterException(e);
@@ -148,7 +152,7 @@ final class ModelConverterUtil {
         Class<?> nodeClass = nodeObj.getClass().getSuperclass();
         Method getterMethod;
         try {
-            getterMethod = nodeClass.getDeclaredMethod(fieldName);
+            getterMethod = declaredMethod(nodeClass, fieldName);
             return getterMethod.invoke(nodeObj);
         } catch (InvocationTargetException | IllegalAccessException e) {
             throw new ModelConverterException(e);
@@ -168,7 +172,7 @@ final class ModelConverterUtil {
         Class<?> parentClass = childClass.getClass().getSuperclass();
         Method getterMethod;
         try {
-            getterMethod = parentClass.getDeclaredMethod(methodName);
+            getterMethod = declaredMethod(parentClass, methodName);
             return getterMethod.invoke(childClass);
         } catch (InvocationTargetException | NoSuchMethodException |
                 IllegalAccessException e) {
@@ -240,17 +244,17 @@ final class ModelConverterUtil {
                 getCapitalCase(holder.getJavaClassNameOrBuiltInType()) +
                 ENUM_LEAF_IDENTIFIER;
 
-        ClassLoader classLoader = nodeClass.getClassLoader();
         Class leafEnum;
         try {
-            leafEnum = classLoader.loadClass(enumPackage);
-            Method getterMethod = nodeClass.getMethod(IS_VAL_SET, leafEnum);
+            Method getterMethod = accessor(
+                    nodeClass, enumPackage, IS_VAL_SET, null,
+                    ModelConverterUtil::resolveValueSetMethod);
+            leafEnum = getterMethod.getParameterTypes()[0];
             // Gets the value of the enum.
             Enum<?> value = Enum.valueOf(leafEnum, javaName.toUpperCase());
             // Invokes the method with the value of enum as param.
             return (boolean) getterMethod.invoke(nodeObj, value);
-        } catch (IllegalAccessException | InvocationTargetException |
-                ClassNotFoundException | NoSuchMethodException e) {
+        } catch (ReflectiveOperationException e) {
             throw new ModelConverterException(e);
         }
     }
@@ -337,6 +341,45 @@ final class ModelConverterUtil {
         }
     }
 
+    /**
+     * Resolves the value set flag getter of a node class, which takes the
+     * leaf identifier enum of the given owner as argument.
+     *
+     * @param cls   node class
+     * @param owner qualified name of the leaf identifier enum
+     * @param name  getter name
+     * @param arg   unused
+     * @return value set flag getter
+     * @throws ReflectiveOperationException if the method or enum is not
+     *                                      found
+     */
+    private static Method resolveValueSetMethod(Class<?> cls, String owner,
+                                                String name, Object arg)
+            throws ReflectiveOperationException {
+        return cls.getMethod(name, cls.getClassLoader().loadClass(owner));
+    }
+
+    /**
+     * Resolves a method declared by the given owner class, loaded from the
+     * class loader of the holder class. The method takes the class of the
+     * given argument as parameter, or no parameter if the argument is null.
+     *
+     * @param cls   holder class
+     * @param owner qualified name of the class declaring the method
+     * @param name  method name
+     * @param arg   method argument, null for none
+     * @return declared method
+     * @throws ReflectiveOperationException if the method or its class is
+     *                                      not found
+     */
+    private static Method resolveOwnedMethod(Class<?> cls, String owner,
+                                             String name, Object arg)
+            throws ReflectiveOperationException {
+        Class<?> ownerClass = cls.getClassLoader().loadClass(owner);
+        return arg == null ? ownerClass.getDeclaredMethod(name) :
+                ownerClass.getDeclaredMethod(name, arg.getClass());
+    }
+
     /**
      * Returns the string values for the data type bits.
      *
@@ -354,16 +397,13 @@ final class ModelConverterUtil {
         String className = interfaceName.toLowerCase() + PERIOD +
                 getCapitalCase(name);
         String pkgName = holder.getJavaPackage() + PERIOD + className;
-        ClassLoader classLoader = holderClass.getClassLoader();
 
-        Class<?> bitClass;
         try {
-            bitClass = classLoader.loadClass(pkgName);
-            Method getterMethod = bitClass.getDeclaredMethod(
-                    TO_STRING, fieldObj.getClass());
+            Method getterMethod = accessor(
+                    holderClass, pkgName, TO_STRING, fieldObj,
+                    ModelConverterUtil::resolveOwnedMethod);
             return String.valueOf(getterMethod.invoke(null, fieldObj));
-        } catch (ClassNotFoundException | NoSuchMethodException |
-                InvocationTargetException | IllegalAccessException e) {
+        } catch (ReflectiveOperationException e) {
             throw new ModelConverterException(e);
         }
     }
@@ -387,15 +427,12 @@ final class ModelConverterUtil {
         String idPkg = id.getJavaPackage() + PERIOD + getCapitalCase(idName);
         String methodName = idName + getCapitalCase(TO_STRING);
 
-        Class<?> holderClass = holderObj.getClass();
-        ClassLoader classLoader = holderClass.getClassLoader();
-        Class<?> idClass;
         try {
-            idClass = classLoader.loadClass(idPkg);
-            Method method = idClass.getDeclaredMethod(methodName);
+            Method method = accessor(
+                    holderObj.getClass(), idPkg, methodName, null,
+                    ModelConverterUtil::resolveOwnedMethod);
             return String.valueOf(method.invoke(fieldObj)).trim();
-        } catch (ClassNotFoundException | NoSuchMethodException |
-                InvocationTargetException | IllegalAccessException e) {
+        } catch (ReflectiveOperationException e) {
             throw new ModelConverterException(e);
         }
     }
@@ -457,6 +494,21 @@ final class ModelConverterUtil {
         return yangNode.getYangSchemaNodeType() == YANG_MULTI_INSTANCE_NODE;
     }
 
+    /**
+     * Sets the schema identifier handed out by the YANG node to the data
+     * node builder. Nodes whose schema identifier is not yet set, such as
+     * the ones of a schema tree which is not translated, are left with the
+     * identifier built from their name and namespace.
+     *
+     * @param builder  data node builder
+     * @param yangNode YANG node
+     */
+    static void setSchemaId(DataNode.Builder builder, YangNode yangNode) {
+        if (yangNode instanceof SchemaDataNode && yangNode.hasSchemaId()) {
+            builder.schemaId(yangNode.getSchemaId());
+        }
+    }
+
     /**
      * Returns true, if augment node; false otherwise.
      *
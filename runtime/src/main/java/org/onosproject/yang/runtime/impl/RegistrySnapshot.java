@@ -0,0 +1,547 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.runtime.impl;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.onosproject.yang.compiler.datamodel.YangSchemaNode;
+import org.onosproject.yang.model.ModelObjectCodec;
+import org.onosproject.yang.model.SchemaId;
+import org.onosproject.yang.model.YangModel;
+import org.onosproject.yang.runtime.ModelRegistrationParam;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Represents an immutable state of the YANG model registry. A registration
+ * or unregistration builds a new snapshot from the current one, and the
+ * registry publishes it with a single volatile write, so that readers
+ * always see either all or none of a model in the registry's maps.
+ * <p>
+ * The schema nodes are not part of the snapshot: they are shared by all
+ * snapshots, and registration links them, adds augments and updates child
+ * contexts in place before the new snapshot is published. These updates
+ * are not undone when a registration fails.
+ * <p>
+ * The caches derived from the schema trees belong to the snapshot they are
+ * derived from, so a new snapshot starts with empty caches and a reader
+ * still working on an older snapshot can't fill them with stale entries.
+ */
+final class RegistrySnapshot {
+
+    /*
+     * YANG schema nodes with respect to module name, and then with respect
+     * to module name with revision.
+     */
+    private final Map<String, Map<String, YangSchemaNode>> schemas;
+
+    /*
+     * YANG schema nodes with respect to root's generated file name by which
+     * registration is being done.
+     */
+    private final Map<String, YangSchemaNode> regClassNames;
+
+    /*
+     * YANG schema nodes with respect to root's generated file's qualified
+     * name, in lower case.
+     */
+    private final Map<String, YangSchemaNode> qNames;
+
+    /*
+     * Registered classes with respect to qualified name of generated class.
+     */
+    private final Map<String, Class<?>> regClasses;
+
+    /*
+     * Schema nodes with respect to namespace.
+     */
+    private final Map<String, YangSchemaNode> nameSpaces;
+
+    /*
+     * YANG models with respect to model identifier.
+     */
+    private final Map<String, YangModel> models;
+
+    /*
+     * Model object codecs with respect to qualified name of generated
+     * default class.
+     */
+    private final Map<String, ModelObjectCodec<?>> codecs;
+
+    /*
+     * Registration parameters of models registered lazily, whose schema
+     * nodes are not linked nor registered yet, with respect to model
+     * identifier.
+     */
+    private final Map<String, ModelRegistrationParam> pendingModels;
+
+    /*
+     * Identifiers of lazily registered models with respect to the names of
+     * their modules and sub-modules.
+     */
+    private final Map<String, String> pendingNames;
+
+    /*
+     * Identifiers of lazily registered models with respect to the
+     * namespaces of their modules.
+     */
+    private final Map<String, String> pendingNameSpaces;
+
+    /*
+     * Identifiers of lazily registered models with respect to the qualified
+     * interface class names of their modules, in lower case.
+     */
+    private final Map<String, String> pendingQNames;
+
+    /*
+     * Identifiers of lazily registered models holding modules whose class
+     * names are not known before linking.
+     */
+    private final Set<String> pendingUnnamed;
+
+    /*
+     * Index of generated default class name to child schema node, with
+     * respect to parent schema node.
+     */
+    private final ConcurrentMap<YangSchemaNode, Map<String, YangSchemaNode>>
+            classNameIndex = new ConcurrentHashMap<>();
+
+    /*
+     * Negative cache of first level child schema identifiers which are not
+     * present in any registered model.
+     */
+    private final ConcurrentMap<SchemaId, Boolean> misses =
+            new ConcurrentHashMap<>();
+
+    /*
+     * Conversion plans of model object identifiers with respect to their
+     * shape.
+     */
+    private final ConcurrentMap<List<Object>, ModIdToRscIdConverter.Plan>
+            moIdPlans = new ConcurrentHashMap<>();
+
+    /*
+     * Conversion plans of resource identifiers with respect to their shape.
+     */
+    private final ConcurrentMap<List<Object>, DefaultYobBuilder.Plan>
+            rscIdPlans = new ConcurrentHashMap<>();
+
+    private RegistrySnapshot(Builder b) {
+        schemas = ImmutableMap.copyOf(b.schemas);
+        regClassNames = ImmutableMap.copyOf(b.regClassNames);
+        qNames = ImmutableMap.copyOf(b.qNames);
+        regClasses = ImmutableMap.copyOf(b.regClasses);
+        nameSpaces = ImmutableMap.copyOf(b.nameSpaces);
+        models = ImmutableMap.copyOf(b.models);
+        codecs = ImmutableMap.copyOf(b.codecs);
+        pendingModels = ImmutableMap.copyOf(b.pendingModels);
+        pendingNames = ImmutableMap.copyOf(b.pendingNames);
+        pendingNameSpaces = ImmutableMap.copyOf(b.pendingNameSpaces);
+        pendingQNames = ImmutableMap.copyOf(b.pendingQNames);
+        pendingUnnamed = ImmutableSet.copyOf(b.pendingUnnamed);
+    }
+
+    /**
+     * Returns schema nodes with respect to module name, and then with
+     * respect to module name with revision.
+     *
+     * @return schema store
+     */
+    Map<String, Map<String, YangSchemaNode>> schemas() {
+        return schemas;
+    }
+
+    /**
+     * Returns schema nodes with respect to generated interface class name.
+     *
+     * @return schema nodes
+     */
+    Map<String, YangSchemaNode> regClassNames() {
+        return regClassNames;
+    }
+
+    /**
+     * Returns schema nodes with respect to generated interface class
+     * qualified name in lower case.
+     *
+     * @return schema nodes
+     */
+    Map<String, YangSchemaNode> qNames() {
+        return qNames;
+    }
+
+    /**
+     * Returns registered classes with respect to their qualified name.
+     *
+     * @return registered classes
+     */
+    Map<String, Class<?>> regClasses() {
+        return regClasses;
+    }
+
+    /**
+     * Returns schema nodes with respect to namespace.
+     *
+     * @return schema nodes
+     */
+    Map<String, YangSchemaNode> nameSpaces() {
+        return nameSpaces;
+    }
+
+    /**
+     * Returns YANG models with respect to model identifier.
+     *
+     * @return YANG models
+     */
+    Map<String, YangModel> models() {
+        return models;
+    }
+
+    /**
+     * Returns model object codecs with respect to qualified name of
+     * generated default class.
+     *
+     * @return codecs
+     */
+    Map<String, ModelObjectCodec<?>> codecs() {
+        return codecs;
+    }
+
+    /**
+     * Returns registration parameters of lazily registered models which are
+     * not materialized yet, with respect to model identifier.
+     *
+     * @return pending models
+     */
+    Map<String, ModelRegistrationParam> pendingModels() {
+        return pendingModels;
+    }
+
+    /**
+     * Returns identifiers of pending models with respect to the names of
+     * their modules and sub-modules.
+     *
+     * @return pending model identifiers
+     */
+    Map<String, String> pendingNames() {
+        return pendingNames;
+    }
+
+    /**
+     * Returns identifiers of pending models with respect to the namespaces
+     * of their modules.
+     *
+     * @return pending model identifiers
+     */
+    Map<String, String> pendingNameSpaces() {
+        return pendingNameSpaces;
+    }
+
+    /**
+     * Returns identifiers of pending models with respect to the qualified
+     * interface class names of their modules, in lower case.
+     *
+     * @return pending model identifiers
+     */
+    Map<String, String> pendingQNames() {
+        return pendingQNames;
+    }
+
+    /**
+     * Returns identifiers of pending models holding modules whose class
+     * names are not known before linking.
+     *
+     * @return pending model identifiers
+     */
+    Set<String> pendingUnnamed() {
+        return pendingUnnamed;
+    }
+
+    /**
+     * Returns the index of generated default class name to child schema
+     * node with respect to parent schema node.
+     *
+     * @return class name index
+     */
+    ConcurrentMap<YangSchemaNode, Map<String, YangSchemaNode>> classNameIndex() {
+        return classNameIndex;
+    }
+
+    /**
+     * Returns the negative cache of first level child schema identifiers.
+     *
+     * @return negative cache
+     */
+    ConcurrentMap<SchemaId, Boolean> misses() {
+        return misses;
+    }
+
+    /**
+     * Returns the conversion plans of model object identifiers with respect
+     * to their shape.
+     *
+     * @return conversion plans
+     */
+    ConcurrentMap<List<Object>, ModIdToRscIdConverter.Plan> moIdPlans() {
+        return moIdPlans;
+    }
+
+    /**
+     * Returns the conversion plans of resource identifiers with respect to
+     * their shape.
+     *
+     * @return conversion plans
+     */
+    ConcurrentMap<List<Object>, DefaultYobBuilder.Plan> rscIdPlans() {
+        return rscIdPlans;
+    }
+
+    /**
+     * Returns a builder of a new snapshot, starting with the content of
+     * this snapshot.
+     *
+     * @return snapshot builder
+     */
+    Builder builder() {
+        return new Builder(this);
+    }
+
+    /**
+     * Returns a builder of an empty snapshot.
+     *
+     * @return snapshot builder
+     */
+    static Builder emptyBuilder() {
+        return new Builder(null);
+    }
+
+    /**
+     * Represents the builder of a registry snapshot. It is used by a single
+     * writer at a time.
+     */
+    static final class Builder {
+
+        private final Map<String, Map<String, YangSchemaNode>> schemas;
+        private final Map<String, YangSchemaNode> regClassNames;
+        private final Map<String, YangSchemaNode> qNames;
+        private final Map<String, Class<?>> regClasses;
+        private final Map<String, YangSchemaNode> nameSpaces;
+        private final Map<String, YangModel> models;
+        private final Map<String, ModelObjectCodec<?>> codecs;
+        private final Map<String, ModelRegistrationParam> pendingModels;
+        private final Map<String, String> pendingNames;
+        private final Map<String, String> pendingNameSpaces;
+        private final Map<String, String> pendingQNames;
+        private final Set<String> pendingUnnamed;
+
+        private Builder(RegistrySnapshot s) {
+            if (s == null) {
+                schemas = new HashMap<>();
+                regClassNames = new HashMap<>();
+                qNames = new HashMap<>();
+                regClasses = new HashMap<>();
+                nameSpaces = new HashMap<>();
+                models = new LinkedHashMap<>();
+                codecs = new HashMap<>();
+                pendingModels = new HashMap<>();
+                pendingNames = new HashMap<>();
+                pendingNameSpaces = new HashMap<>();
+                pendingQNames = new HashMap<>();
+                pendingUnnamed = new HashSet<>();
+            } else {
+                schemas = new HashMap<>(s.schemas);
+                regClassNames = new HashMap<>(s.regClassNames);
+                qNames = new HashMap<>(s.qNames);
+                regClasses = new HashMap<>(s.regClasses);
+                nameSpaces = new HashMap<>(s.nameSpaces);
+                models = new LinkedHashMap<>(s.models);
+                codecs = new HashMap<>(s.codecs);
+                pendingModels = new HashMap<>(s.pendingModels);
+                pendingNames = new HashMap<>(s.pendingNames);
+                pendingNameSpaces = new HashMap<>(s.pendingNameSpaces);
+                pendingQNames = new HashMap<>(s.pendingQNames);
+                pendingUnnamed = new HashSet<>(s.pendingUnnamed);
+            }
+        }
+
+        /**
+         * Returns schema nodes with respect to module name, and then with
+         * respect to module name with revision. Revision maps must not be
+         * modified; use {@link #addSchema} and {@link #removeSchema}.
+         *
+         * @return schema store
+         */
+        Map<String, Map<String, YangSchemaNode>> schemas() {
+            return schemas;
+        }
+
+        /**
+         * Adds a schema node for a revision of a module.
+         *
+         * @param name    module name
+         * @param revName module name with revision
+         * @param node    schema node
+         */
+        void addSchema(String name, String revName, YangSchemaNode node) {
+            Map<String, YangSchemaNode> revs = schemas.get(name);
+            Map<String, YangSchemaNode> copy = revs == null ?
+                    new HashMap<>() : new HashMap<>(revs);
+            copy.put(revName, node);
+            schemas.put(name, ImmutableMap.copyOf(copy));
+        }
+
+        /**
+         * Removes the schema node of a revision of a module, and the module
+         * with its last revision.
+         *
+         * @param name    module name
+         * @param revName module name with revision
+         */
+        void removeSchema(String name, String revName) {
+            Map<String, YangSchemaNode> revs = schemas.get(name);
+            if (revs != null && revs.size() > 1) {
+                Map<String, YangSchemaNode> copy = new HashMap<>(revs);
+                copy.remove(revName);
+                schemas.put(name, ImmutableMap.copyOf(copy));
+            } else {
+                schemas.remove(name);
+            }
+        }
+
+        /**
+         * Returns schema nodes with respect to generated interface class name.
+         *
+         * @return schema nodes
+         */
+        Map<String, YangSchemaNode> regClassNames() {
+            return regClassNames;
+        }
+
+        /**
+         * Returns schema nodes with respect to generated interface class
+         * qualified name in lower case.
+         *
+         * @return schema nodes
+         */
+        Map<String, YangSchemaNode> qNames() {
+            return qNames;
+        }
+
+        /**
+         * Returns registered classes with respect to their qualified name.
+         *
+         * @return registered classes
+         */
+        Map<String, Class<?>> regClasses() {
+            return regClasses;
+        }
+
+        /**
+         * Returns schema nodes with respect to namespace.
+         *
+         * @return schema nodes
+         */
+        Map<String, YangSchemaNode> nameSpaces() {
+            return nameSpaces;
+        }
+
+        /**
+         * Returns YANG models with respect to model identifier.
+         *
+         * @return YANG models
+         */
+        Map<String, YangModel> models() {
+            return models;
+        }
+
+        /**
+         * Returns model object codecs with respect to qualified name of
+         * generated default class.
+         *
+         * @return codecs
+         */
+        Map<String, ModelObjectCodec<?>> codecs() {
+            return codecs;
+        }
+
+        /**
+         * Returns registration parameters of pending models with respect
+         * to model identifier.
+         *
+         * @return pending models
+         */
+        Map<String, ModelRegistrationParam> pendingModels() {
+            return pendingModels;
+        }
+
+        /**
+         * Returns identifiers of pending models with respect to the names
+         * of their modules and sub-modules.
+         *
+         * @return pending model identifiers
+         */
+        Map<String, String> pendingNames() {
+            return pendingNames;
+        }
+
+        /**
+         * Returns identifiers of pending models with respect to the
+         * namespaces of their modules.
+         *
+         * @return pending model identifiers
+         */
+        Map<String, String> pendingNameSpaces() {
+            return pendingNameSpaces;
+        }
+
+        /**
+         * Returns identifiers of pending models with respect to the
+         * qualified interface class names of their modules, in lower case.
+         *
+         * @return pending model identifiers
+         */
+        Map<String, String> pendingQNames() {
+            return pendingQNames;
+        }
+
+        /**
+         * Returns identifiers of pending models holding modules whose class
+         * names are not known before linking.
+         *
+         * @return pending model identifiers
+         */
+        Set<String> pendingUnnamed() {
+            return pendingUnnamed;
+        }
+
+        /**
+         * Builds the snapshot.
+         *
+         * @return registry snapshot
+         */
+        RegistrySnapshot build() {
+            return new RegistrySnapshot(this);
+        }
+    }
+}
@@ -19,6 +19,7 @@ package org.onosproject.yang.runtime.impl;
 public final class UtilsConstants {
 
     static final String AT = "@";
+    static final String CODEC = "Codec";
     static final String E_NEXIST = "node with {} namespace not found.";
     static final String E_NULL = "Model must not be null";
     static final String E_NOT_VAL = "Model id is invalid";
@@ -20,7 +20,6 @@ import org.onosproject.yang.compiler.datamodel.YangNode;
 import org.onosproject.yang.compiler.datamodel.YangRpc;
 import org.onosproject.yang.compiler.datamodel.YangSchemaNode;
 import org.onosproject.yang.model.DataNode;
-import org.onosproject.yang.runtime.YangModelRegistry;
 
 import static org.onosproject.yang.compiler.datamodel.YangNodeType.ANYDATA_NODE;
 import static org.onosproject.yang.runtime.impl.YobUtils.ANYDATA_SETTER;
@@ -97,7 +96,7 @@ abstract class YobHandler {
      * @param reg          YANG model registry
      */
     void buildObject(YobWorkBench curWorkbench,
-                     YangModelRegistry reg) {
+                     DefaultYangModelRegistry reg) {
         curWorkbench.buildObject(reg);
     }
 }
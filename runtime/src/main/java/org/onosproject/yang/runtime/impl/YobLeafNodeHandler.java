@@ -23,11 +23,9 @@ import org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTyp
 import org.onosproject.yang.model.DataNode;
 import org.onosproject.yang.model.LeafNode;
 import org.onosproject.yang.model.ModelConverterException;
-import org.onosproject.yang.runtime.YangModelRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
@@ -60,7 +58,7 @@ class YobLeafNodeHandler extends YobHandler {
      */
     @Override
     void buildObject(YobWorkBench curWorkbench,
-                            YangModelRegistry registry) {
+                            DefaultYangModelRegistry registry) {
         // For single instance leaf no need to build an object.
     }
 
@@ -84,12 +82,12 @@ class YobLeafNodeHandler extends YobHandler {
             YangType<?> type = ((YangLeaf) referredSchema).getDataType();
             YangDataTypes dataType = type.getDataType();
             if (((LeafNode) leafNode).value() != null || isTypeEmpty(type)) {
-                Field leafName = parentClass.getDeclaredField(setterInParent);
-                Method setterMethod = parentClass.getDeclaredMethod(
-                        setterInParent, leafName.getType());
+                Method setterMethod = registry.setterCache().setter(
+                        parentClass, setterInParent, leafNode.type());
                 setDataFromStringValue(dataType, ((LeafNode) leafNode).value(),
                                        setterMethod, parentObj, referredSchema,
-                                       curWb.schemaNode());
+                                       curWb.schemaNode(),
+                                       registry.setterCache());
             }
         } catch (NoSuchMethodException | InvocationTargetException |
                 IllegalAccessException | NoSuchFieldException e) {
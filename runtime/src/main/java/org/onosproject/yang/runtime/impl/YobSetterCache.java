@@ -0,0 +1,229 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.runtime.impl;
+
+import org.onosproject.yang.model.DataNode;
+import org.onosproject.yang.model.InnerModelObject;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.onosproject.yang.runtime.impl.YobConstants.ADD_TO;
+import static org.onosproject.yang.runtime.impl.YobUtils.ANYDATA_SETTER;
+import static org.onosproject.yang.runtime.impl.YobUtils.getCapitalCase;
+
+/**
+ * Represents the cache of resolved setter methods of generated model object
+ * classes used by YANG object builder. Setters are resolved once per
+ * generated class, setter name and data node type and reused for every
+ * later data node, so that building model objects does not repeat the
+ * reflective field and method lookups. Generated classes and the string
+ * conversion methods of generated value classes, like typedef, union,
+ * enumeration, bits and identity classes, are cached the same way, with
+ * respect to the class loader and the class name. The cache is owned by the
+ * model registry and is cleared when a model is unregistered.
+ */
+final class YobSetterCache {
+
+    private final ConcurrentMap<SetterKey, Method> setters =
+            new ConcurrentHashMap<>();
+    private final ConcurrentMap<ClassKey, Class<?>> classes =
+            new ConcurrentHashMap<>();
+    private final ConcurrentMap<ClassKey, Method> helpers =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Returns the setter method of the given class which sets the given
+     * attribute for a data node of the given type. Multi instance nodes use
+     * the "addTo" method of the attribute and anydata children use the
+     * anydata setter of the base class.
+     *
+     * @param parentClass generated class on which setter is invoked
+     * @param setter      setter name
+     * @param type        data node type
+     * @return setter method
+     * @throws NoSuchFieldException  if the attribute field is not found
+     * @throws NoSuchMethodException if the setter method is not found
+     */
+    Method setter(Class<?> parentClass, String setter, DataNode.Type type)
+            throws NoSuchFieldException, NoSuchMethodException {
+        SetterKey key = new SetterKey(parentClass, setter, type);
+        Method method = setters.get(key);
+        if (method == null) {
+            method = resolveSetter(parentClass, setter, type);
+            setters.putIfAbsent(key, method);
+        }
+        return method;
+    }
+
+    /**
+     * Returns the class of given name loaded by the given class loader.
+     *
+     * @param loader    class loader
+     * @param className qualified class name
+     * @return class
+     * @throws ClassNotFoundException if the class is not found
+     */
+    Class<?> loadClass(ClassLoader loader, String className)
+            throws ClassNotFoundException {
+        ClassKey key = new ClassKey(loader, className, null);
+        Class<?> cls = classes.get(key);
+        if (cls == null) {
+            cls = loader.loadClass(className);
+            classes.putIfAbsent(key, cls);
+        }
+        return cls;
+    }
+
+    /**
+     * Returns the static method of given name which converts a string to a
+     * value of the class of given name loaded by the given class loader,
+     * like the "fromString" method of a typedef, union, bits or identity
+     * class or the "of" method of an enumeration class.
+     *
+     * @param loader    class loader
+     * @param className qualified class name
+     * @param helper    name of the conversion method
+     * @return conversion method
+     * @throws ClassNotFoundException if the class is not found
+     * @throws NoSuchMethodException  if the conversion method is not found
+     */
+    Method helper(ClassLoader loader, String className, String helper)
+            throws ClassNotFoundException, NoSuchMethodException {
+        ClassKey key = new ClassKey(loader, className, helper);
+        Method method = helpers.get(key);
+        if (method == null) {
+            method = loadClass(loader, className)
+                    .getDeclaredMethod(helper, String.class);
+            helpers.putIfAbsent(key, method);
+        }
+        return method;
+    }
+
+    /**
+     * Removes all the cached setters, classes and conversion methods.
+     */
+    void clear() {
+        setters.clear();
+        classes.clear();
+        helpers.clear();
+    }
+
+    private static Method resolveSetter(Class<?> parentClass, String setter,
+                                        DataNode.Type type)
+            throws NoSuchFieldException, NoSuchMethodException {
+        if (setter.equals(ANYDATA_SETTER)) {
+            return parentClass.getSuperclass()
+                    .getDeclaredMethod(setter, InnerModelObject.class);
+        }
+        Field field = parentClass.getDeclaredField(setter);
+        switch (type) {
+            case MULTI_INSTANCE_NODE:
+            case MULTI_INSTANCE_LEAF_VALUE_NODE:
+                Type arg = ((ParameterizedType) field.getGenericType())
+                        .getActualTypeArguments()[0];
+                // Identity ref leaf lists are held as list of classes.
+                Class<?> argClass = arg instanceof ParameterizedType ?
+                        (Class<?>) ((ParameterizedType) arg).getRawType() :
+                        (Class<?>) arg;
+                return parentClass.getDeclaredMethod(
+                        ADD_TO + getCapitalCase(setter), argClass);
+            default:
+                return parentClass.getDeclaredMethod(setter, field.getType());
+        }
+    }
+
+    /**
+     * Represents the key of a cached setter.
+     */
+    private static final class SetterKey {
+
+        private final Class<?> parentClass;
+        private final String setter;
+        private final DataNode.Type type;
+        private final int hash;
+
+        private SetterKey(Class<?> parentClass, String setter,
+                          DataNode.Type type) {
+            this.parentClass = parentClass;
+            this.setter = setter;
+            this.type = type;
+            hash = Objects.hash(parentClass, setter, type);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof SetterKey)) {
+                return false;
+            }
+            SetterKey that = (SetterKey) obj;
+            return parentClass == that.parentClass &&
+                    type == that.type && setter.equals(that.setter);
+        }
+    }
+
+    /**
+     * Represents the key of a cached class, or of a cached member of it
+     * when the member name is set.
+     */
+    private static final class ClassKey {
+
+        private final ClassLoader loader;
+        private final String className;
+        private final String member;
+        private final int hash;
+
+        private ClassKey(ClassLoader loader, String className, String member) {
+            this.loader = loader;
+            this.className = className;
+            this.member = member;
+            hash = Objects.hash(loader, className, member);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ClassKey)) {
+                return false;
+            }
+            ClassKey that = (ClassKey) obj;
+            return loader == that.loader &&
+                    className.equals(that.className) &&
+                    Objects.equals(member, that.member);
+        }
+    }
+}
@@ -30,26 +30,17 @@ import org.onosproject.yang.compiler.datamodel.YangSchemaNodeContextInfo;
 import org.onosproject.yang.compiler.datamodel.YangType;
 import org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes;
 import org.onosproject.yang.model.DataNode;
-import org.onosproject.yang.model.InnerModelObject;
-import org.onosproject.yang.model.KeyInfo;
 import org.onosproject.yang.model.KeyLeaf;
 import org.onosproject.yang.model.LeafIdentifier;
-import org.onosproject.yang.model.LeafListKey;
 import org.onosproject.yang.model.LeafModelObject;
 import org.onosproject.yang.model.LeafNode;
-import org.onosproject.yang.model.ListKey;
 import org.onosproject.yang.model.ModelConverterException;
 import org.onosproject.yang.model.ModelObject;
-import org.onosproject.yang.model.ModelObjectId;
-import org.onosproject.yang.model.MultiInstanceObject;
-import org.onosproject.yang.model.NodeKey;
 import org.onosproject.yang.model.SchemaContext;
 import org.onosproject.yang.model.SchemaId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Base64;
@@ -57,14 +48,11 @@ import java.util.Iterator;
 import java.util.List;
 
 import static org.onosproject.yang.compiler.datamodel.YangSchemaNodeType.YANG_AUGMENT_NODE;
-import static org.onosproject.yang.compiler.datamodel.utils.DataModelUtils.nonEmpty;
-import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.getCamelCase;
 import static org.onosproject.yang.runtime.SerializerHelper.getChildSchemaContext;
 import static org.onosproject.yang.runtime.impl.YobConstants.DEFAULT;
 import static org.onosproject.yang.runtime.impl.YobConstants.E_DATA_TYPE_NOT_SUPPORT;
 import static org.onosproject.yang.runtime.impl.YobConstants.E_FAIL_TO_CREATE_OBJ;
 import static org.onosproject.yang.runtime.impl.YobConstants.E_FAIL_TO_LOAD_CLASS;
-import static org.onosproject.yang.runtime.impl.YobConstants.E_FAIL_TO_LOAD_CONSTRUCTOR;
 import static org.onosproject.yang.runtime.impl.YobConstants.E_FAIL_TO_LOAD_LEAF_IDENTIFIER_CLASS;
 import static org.onosproject.yang.runtime.impl.YobConstants.E_INVALID_IDENTITY_DATA;
 import static org.onosproject.yang.runtime.impl.YobConstants.E_REFLECTION_FAIL_TO_CREATE_OBJ;
@@ -100,6 +88,7 @@ final class YobUtils {
      * @param parentObj    the parentObject is to invoke the underlying method
      * @param schemaNode   schema information
      * @param parentSchema schema information of parent
+     * @param cache        cache of generated classes and their methods
      * @throws InvocationTargetException if failed to invoke method
      * @throws IllegalAccessException    if member cannot be accessed
      * @throws NoSuchMethodException     if method is not found
@@ -109,7 +98,8 @@ final class YobUtils {
                                        Method parentSetter,
                                        Object parentObj,
                                        YangSchemaNode schemaNode,
-                                       YangSchemaNode parentSchema)
+                                       YangSchemaNode parentSchema,
+                                       YobSetterCache cache)
             throws InvocationTargetException, IllegalAccessException,
             NoSuchMethodException {
         switch (type) {
@@ -135,32 +125,32 @@ final class YobUtils {
 
             case BITS:
                 parseBitSetTypeInfo(parentSetter, parentObj, value,
-                                    schemaNode, parentSchema);
+                                    schemaNode, parentSchema, cache);
                 break;
 
             case DERIVED:
                 parseDerivedTypeInfo(parentSetter, parentObj, value,
-                                     false, schemaNode);
+                                     false, schemaNode, cache);
                 break;
 
             case IDENTITYREF:
                 parseIdentityRefInfo(parentSetter, parentObj, value,
-                                     schemaNode);
+                                     schemaNode, cache);
                 break;
 
             case UNION:
                 parseDerivedTypeInfo(parentSetter, parentObj, value,
-                                     false, schemaNode);
+                                     false, schemaNode, cache);
                 break;
 
             case LEAFREF:
                 parseLeafRefTypeInfo(parentSetter, parentObj, value,
-                                     schemaNode);
+                                     schemaNode, cache);
                 break;
 
             case ENUMERATION:
                 parseDerivedTypeInfo(parentSetter, parentObj, value.toString(),
-                                     true, schemaNode);
+                                     true, schemaNode, cache);
                 break;
 
             case EMPTY:
@@ -183,6 +173,7 @@ final class YobUtils {
      * @param value        value to be set in method
      * @param isEnum       flag to check whether type is enum or derived
      * @param leaf         schema node
+     * @param cache        cache of generated classes and their methods
      * @throws InvocationTargetException if failed to invoke method
      * @throws IllegalAccessException    if member cannot be accessed
      * @throws NoSuchMethodException     if the required method is not found
@@ -191,7 +182,8 @@ final class YobUtils {
                                      Object parentObj,
                                      Object value,
                                      boolean isEnum,
-                                     YangSchemaNode leaf)
+                                     YangSchemaNode leaf,
+                                     YobSetterCache cache)
             throws InvocationTargetException, IllegalAccessException,
             NoSuchMethodException {
         String val;
@@ -200,11 +192,7 @@ final class YobUtils {
         } else {
             val = value.toString();
         }
-        Class<?> childSetClass = null;
-        Constructor<?> childConstructor = null;
         Object childValue = null;
-        Object childObject = null;
-        Method childMethod = null;
         while (leaf.getReferredSchema() != null) {
             leaf = leaf.getReferredSchema();
         }
@@ -212,44 +200,39 @@ final class YobUtils {
         String qualifiedClassName = leaf.getJavaPackage() + PERIOD +
                 getCapitalCase(leaf.getJavaClassNameOrBuiltInType());
 
-        ClassLoader classLoader = parentObj.getClass().getClassLoader();
-        try {
-            childSetClass = classLoader.loadClass(qualifiedClassName);
-        } catch (ClassNotFoundException e) {
-            log.error(L_FAIL_TO_LOAD_CLASS, qualifiedClassName);
-        }
-
-        if (!isEnum) {
-            if (childSetClass != null) {
-                childConstructor = childSetClass.getDeclaredConstructor();
-            }
-
-            if (childConstructor != null) {
-                childConstructor.setAccessible(true);
-            }
-
-            try {
-                if (childConstructor != null) {
-                    childObject = childConstructor.newInstance();
-                }
-            } catch (InstantiationException e) {
-                log.error(E_FAIL_TO_LOAD_CONSTRUCTOR, qualifiedClassName);
-            }
-            if (childSetClass != null) {
-                childMethod = childSetClass
-                        .getDeclaredMethod(FROM_STRING, String.class);
-            }
-        } else {
-            if (childSetClass != null) {
-                childMethod = childSetClass.getDeclaredMethod(OF, String.class);
-            }
-        }
+        // Conversion methods of generated classes are static.
+        Method childMethod = helper(parentObj, qualifiedClassName,
+                                    isEnum ? OF : FROM_STRING, cache);
         if (childMethod != null) {
-            childValue = childMethod.invoke(childObject, val);
+            childValue = childMethod.invoke(null, val);
         }
         parentSetter.invoke(parentObj, childValue);
     }
 
+    /**
+     * Returns the conversion method of given name of the generated class of
+     * given name, loaded by the class loader of the given parent object;
+     * null if the class is not found.
+     *
+     * @param parentObj parent build object
+     * @param className qualified class name
+     * @param name      name of the conversion method
+     * @param cache     cache of generated classes and their methods
+     * @return conversion method
+     * @throws NoSuchMethodException if the conversion method is not found
+     */
+    private static Method helper(Object parentObj, String className,
+                                 String name, YobSetterCache cache)
+            throws NoSuchMethodException {
+        try {
+            return cache.helper(parentObj.getClass().getClassLoader(),
+                                className, name);
+        } catch (ClassNotFoundException e) {
+            log.error(L_FAIL_TO_LOAD_CLASS, className);
+            return null;
+        }
+    }
+
     /**
      * To set data into parent setter method from string value for bits type.
      *
@@ -259,6 +242,8 @@ final class YobUtils {
      * @param leafValue          value to be set in method
      * @param leaf               schema information
      * @param parentSchema       schema information of parent
+     * @param cache              cache of generated classes and their
+     *                           methods
      * @throws InvocationTargetException if failed to invoke method
      * @throws IllegalAccessException    if member cannot be accessed
      * @throws NoSuchMethodException     if the required method is not found
@@ -267,13 +252,11 @@ final class YobUtils {
                                     Object parentObject,
                                     Object leafValue,
                                     YangSchemaNode leaf,
-                                    YangSchemaNode parentSchema)
+                                    YangSchemaNode parentSchema,
+                                    YobSetterCache cache)
             throws InvocationTargetException, IllegalAccessException,
             NoSuchMethodException {
-        Class<?> childSetClass = null;
         Object childValue = null;
-        Object childObject = null;
-        Method childMethod = null;
 
         while (leaf.getReferredSchema() != null) {
             leaf = leaf.getReferredSchema();
@@ -285,19 +268,10 @@ final class YobUtils {
         String qualifiedClassName = parentSchema.getJavaPackage() + PERIOD +
                 pName + getCapitalCase(leaf.getJavaAttributeName());
 
-        ClassLoader classLoader = parentObject.getClass().getClassLoader();
-
-        try {
-            childSetClass = classLoader.loadClass(qualifiedClassName);
-        } catch (ClassNotFoundException e) {
-            log.error(L_FAIL_TO_LOAD_CLASS, qualifiedClassName);
-        }
-
-        if (childSetClass != null) {
-            childMethod = childSetClass.getDeclaredMethod(FROM_STRING, String.class);
-        }
+        Method childMethod = helper(parentObject, qualifiedClassName,
+                                    FROM_STRING, cache);
         if (childMethod != null) {
-            childValue = childMethod.invoke(childObject, leafValue);
+            childValue = childMethod.invoke(null, leafValue);
         }
 
         parentSetterMethod.invoke(parentObject, childValue);
@@ -312,13 +286,15 @@ final class YobUtils {
      *                     the method
      * @param leafValue    leaf value to be set
      * @param schemaNode   schema information
+     * @param cache        cache of generated classes and their methods
      * @throws InvocationTargetException if method could not be invoked
      * @throws IllegalAccessException    if method could not be accessed
      * @throws NoSuchMethodException     if method does not exist
      */
     static void parseLeafRefTypeInfo(Method parentSetter, Object parentObject,
                                      Object leafValue,
-                                     YangSchemaNode schemaNode)
+                                     YangSchemaNode schemaNode,
+                                     YobSetterCache cache)
             throws InvocationTargetException, IllegalAccessException,
             NoSuchMethodException {
         while (schemaNode.getReferredSchema() != null) {
@@ -344,7 +320,7 @@ final class YobUtils {
         }
         setDataFromStringValue(type.getDataType(), leafValue, parentSetter,
                                parentObject, (YangSchemaNode) refLeaf,
-                               (YangSchemaNode) parent);
+                               (YangSchemaNode) parent, cache);
 
     }
 
@@ -446,6 +422,8 @@ final class YobUtils {
      *                           the method
      * @param leafValue          leaf value to be set
      * @param schemaNode         schema information
+     * @param cache              cache of generated classes and their
+     *                           methods
      * @throws InvocationTargetException if method could not be invoked
      * @throws IllegalAccessException    if method could not be accessed
      * @throws NoSuchMethodException     if method does not exist
@@ -453,12 +431,11 @@ final class YobUtils {
     static void parseIdentityRefInfo(Method parentSetterMethod,
                                      Object parentObject,
                                      Object leafValue,
-                                     YangSchemaNode schemaNode)
+                                     YangSchemaNode schemaNode,
+                                     YobSetterCache cache)
             throws InvocationTargetException, IllegalAccessException,
             NoSuchMethodException {
-        Class<?> childSetClass = null;
         Object childValue = null;
-        Method childMethod = null;
 
         while (schemaNode.getReferredSchema() != null) {
             schemaNode = schemaNode.getReferredSchema();
@@ -494,18 +471,8 @@ final class YobUtils {
         }
         qualifiedClassName = derivedId.getJavaPackage() + PERIOD +
                 getCapitalCase(derivedId.getJavaClassNameOrBuiltInType());
-        ClassLoader classLoader = parentObject.getClass().getClassLoader();
-        try {
-            childSetClass = classLoader.loadClass(qualifiedClassName);
-        } catch (ClassNotFoundException e) {
-            log.error(L_FAIL_TO_LOAD_CLASS, qualifiedClassName);
-        }
-
-        if (childSetClass != null) {
-            childMethod = childSetClass
-                    .getDeclaredMethod(FROM_STRING, String.class);
-        }
-
+        Method childMethod = helper(parentObject, qualifiedClassName,
+                                    FROM_STRING, cache);
         if (childMethod != null) {
             childValue = childMethod.invoke(null, leafValue);
         }
@@ -572,9 +539,9 @@ final class YobUtils {
                                             DefaultYangModelRegistry reg) {
         String qualName = getQualifiedDefaultClass(leafHolder);
         ClassLoader classLoader = getClassLoader(leafHolder, reg);
+        YobSetterCache cache = reg.setterCache();
         try {
-            Class<InnerModelObject> cls = (Class<InnerModelObject>) classLoader
-                    .loadClass(qualName);
+            Class<?> cls = cache.loadClass(classLoader, qualName);
             Class<?>[] intfs = cls.getInterfaces();
             Class<?> intf = null;
             for (Class<?> in : intfs) {
@@ -591,8 +558,8 @@ final class YobUtils {
                 throw new ModelConverterException(E_FAIL_TO_LOAD_LEAF_IDENTIFIER_CLASS);
             }
 
-            Class<Enum> leafIdentifier =
-                    (Class<Enum>) cls.getClassLoader().loadClass(leafId);
+            Class<Enum> leafIdentifier = (Class<Enum>) cache.loadClass(
+                    cls.getClassLoader(), leafId);
             Enum[] enumConst = leafIdentifier.getEnumConstants();
             for (Enum e : enumConst) {
                 if (e.name().equalsIgnoreCase(id.name())) {
@@ -694,95 +661,70 @@ final class YobUtils {
 
 
     /**
-     * Adds list node key to model object id builder.
+     * Returns the generated default class of the given schema node.
      *
-     * @param midb model object identifier
      * @param reg  model registry
      * @param node YANG node
-     * @param key  node key
-     * @return model object id builder
-     * @param <T> list class type
-     * @param <K> key type
+     * @return default class
      */
-    static <T extends InnerModelObject & MultiInstanceObject<K>,
-            K extends KeyInfo<T>> ModelObjectId.Builder handleListKey(
-            ModelObjectId.Builder midb, DefaultYangModelRegistry reg,
-            YangSchemaNode node, NodeKey key) {
-        ListKey listKey = (ListKey) key;
-        List<KeyLeaf> keyLeaves = listKey.keyLeafs();
-        String keyClassName;
-        Class<KeyInfo> keyClass;
-        Object value;
-        String javaName = null;
-        Method setter;
-        if (nonEmpty(keyLeaves)) {
-            String qualName = getQualifiedDefaultClass(node);
-            ClassLoader classLoader = getClassLoader(node, reg);
-            Class<T> listClass = ((Class<T>) fetchClassForNode(classLoader,
-                                                               qualName));
-            K keyObj;
-            if (listClass != null) {
-                keyClassName = getKeyClassName(node);
-                try {
-                    keyClass = (Class<KeyInfo>) listClass.getClassLoader()
-                            .loadClass(keyClassName);
-                    keyObj = (K) keyClass.newInstance();
-                    for (KeyLeaf leaf : keyLeaves) {
-                        YangLeaf leafSchema = getKeyLeafSchema(leaf, node);
-                        YangDataTypes datatype = leafSchema.getDataType()
-                                .getDataType();
-                        javaName = getCamelCase(leaf.leafSchema().name(), null);
-                        Field leafName = keyClass.getDeclaredField(javaName);
-                        setter = keyClass.getDeclaredMethod(javaName,
-                                                            leafName.getType());
-                        value = leaf.leafValue();
-                        setDataFromStringValue(datatype,
-                                               value, setter, keyObj,
-                                               leafSchema, node);
-                        midb = midb.addChild(listClass, keyObj);
+    static Class<?> fetchDefaultClass(DefaultYangModelRegistry reg,
+                                      YangSchemaNode node) {
+        String qualName = getQualifiedDefaultClass(node);
+        ClassLoader classLoader = getClassLoader(node, reg);
+        return fetchClassForNode(classLoader, qualName);
+    }
+
+    /**
+     * Returns the leaf identifier of the given leaf, taken from the leaf
+     * identifier enums of the interfaces of its parent's default class.
+     *
+     * @param reg        model registry
+     * @param schemaNode YANG schema node of leaf
+     * @param name       name of leaf
+     * @return leaf identifier, or null if not found
+     */
+    static LeafIdentifier fetchLeafIdentifier(DefaultYangModelRegistry reg,
+                                              YangSchemaNode schemaNode,
+                                              String name) {
+        YangSchemaNode parentSchema = ((YangSchemaNode) ((YangLeaf) schemaNode)
+                .getContainedIn());
+        Class<?> nodeClass = fetchDefaultClass(reg, parentSchema);
+        Class<?>[] interfaces = nodeClass.getInterfaces();
+        for (Class<?> intf : interfaces) {
+            String leafId = intf.getName() + ENUM_LEAF_IDENTIFIER;
+            try {
+                Class<Enum> leafIdentifier =
+                        (Class<Enum>) nodeClass.getClassLoader()
+                                .loadClass(leafId);
+                Enum[] enumConst = leafIdentifier.getEnumConstants();
+                for (Enum e : enumConst) {
+                    if (e.name().equalsIgnoreCase(name)) {
+                        return (LeafIdentifier) e;
                     }
-                } catch (NoSuchMethodException e) {
-                    throw new ModelConverterException(
-                            "Failed to load setter method for " +
-                                    javaName + " in key class"
-                                    + keyClassName, e);
-                } catch (InvocationTargetException e) {
-                    throw new ModelConverterException(
-                            "Failed to invoke setter method for " +
-                                    javaName + " in key class"
-                                    + keyClassName, e);
-                } catch (ClassNotFoundException e) {
-                    throw new ModelConverterException("Failed to load key class"
-                                                              + keyClassName, e);
-                } catch (IllegalAccessException | InstantiationException e) {
-                    throw new ModelConverterException("Failed Instantiation of key class"
-                                                              + keyClassName, e);
-                } catch (NoSuchFieldException e) {
-                    throw new ModelConverterException("Field " + javaName + " not found", e);
                 }
+            } catch (ClassNotFoundException e) {
+                throw new ModelConverterException(E_FAIL_TO_LOAD_LEAF_IDENTIFIER_CLASS, e);
             }
         }
-        return midb;
+        return null;
     }
 
     /**
-     * Adds leaf list node key to model object id builder.
+     * Returns the leaf identifier of the given leaf-list, taken from the
+     * leaf identifier enum of its parent's interface.
      *
-     * @param midb       model object identifier
      * @param reg        model registry
-     * @param schemaNode leaf schema node
-     * @param key        leaf list node key
-     * @return model object id builder
+     * @param schemaNode YANG schema node of leaf-list
+     * @param name       name of leaf-list
+     * @return leaf identifier, or null if not found
      */
-    static ModelObjectId.Builder handleLeafListKey(
-            ModelObjectId.Builder midb, DefaultYangModelRegistry reg,
-            YangSchemaNode schemaNode, LeafListKey key) {
+    static LeafIdentifier fetchLeafListIdentifier(DefaultYangModelRegistry reg,
+                                                  YangSchemaNode schemaNode,
+                                                  String name) {
         Class<?> intf = null;
         YangSchemaNode parentSchema = ((YangSchemaNode) ((YangLeafList)
                 schemaNode).getContainedIn());
-        String qualName = getQualifiedDefaultClass(parentSchema);
-        ClassLoader classLoader = getClassLoader(parentSchema, reg);
-        Class<?> parentClass = fetchClassForNode(classLoader, qualName);
+        Class<?> parentClass = fetchDefaultClass(reg, parentSchema);
         Class<?>[] interfaces = parentClass.getInterfaces();
         for (Class<?> in : interfaces) {
             if (in.getName().equals(getJavaQualifiedInterFaceName(parentSchema))) {
@@ -799,9 +741,8 @@ final class YobUtils {
                                 .loadClass(leafName);
                 Enum[] enumConst = leafId.getEnumConstants();
                 for (Enum e : enumConst) {
-                    if (e.name().equalsIgnoreCase(key.schemaId().name())) {
-                        midb = midb.addChild(((LeafIdentifier) e), key.value());
-                        return midb;
+                    if (e.name().equalsIgnoreCase(name)) {
+                        return (LeafIdentifier) e;
                     }
                 }
             } catch (ClassNotFoundException e) {
@@ -809,76 +750,7 @@ final class YobUtils {
                                                           leafName, e);
             }
         }
-        return midb;
-    }
-
-
-    /**
-     * Adds node key for container node or single instance nodes to model
-     * object id builder.
-     *
-     * @param midb model object identifier builder
-     * @param reg  model registry
-     * @param node YANG node
-     * @param key  node key
-     * @return model object builder with single instance node
-     */
-    static ModelObjectId.Builder handleNodeKey(
-            ModelObjectId.Builder midb, DefaultYangModelRegistry reg,
-            YangSchemaNode node, NodeKey key) {
-        if (node != null) {
-            if (!(node instanceof YangLeaf)) {
-                String qualName = getQualifiedDefaultClass(node);
-                ClassLoader classLoader = getClassLoader(node, reg);
-                Class<InnerModelObject> nodeClass = (Class<InnerModelObject>)
-                        fetchClassForNode(classLoader, qualName);
-                if (nodeClass != null) {
-                    midb = midb.addChild(nodeClass);
-                }
-            } else {
-                midb = handleLeafInfo(midb, reg, key, node);
-            }
-        }
-        return midb;
-    }
-
-    /**
-     * Adds node key for leaf node to model object id builder.
-     *
-     * @param midb       model object identifier builder
-     * @param reg        model registry
-     * @param key        leaf node key
-     * @param schemaNode YANG schema node
-     * @return model object builder with single instance node
-     */
-    static ModelObjectId.Builder handleLeafInfo(
-            ModelObjectId.Builder midb, DefaultYangModelRegistry reg,
-            NodeKey key, YangSchemaNode schemaNode) {
-        YangSchemaNode parentSchema = ((YangSchemaNode) ((YangLeaf) schemaNode)
-                .getContainedIn());
-        String qualName = getQualifiedDefaultClass(parentSchema);
-        ClassLoader classLoader = getClassLoader(parentSchema, reg);
-        Class<InnerModelObject> nodeClass = (Class<InnerModelObject>)
-                fetchClassForNode(classLoader, qualName);
-        Class<?>[] interfaces = nodeClass.getInterfaces();
-        for (Class<?> intf : interfaces) {
-            String leafId = intf.getName() + ENUM_LEAF_IDENTIFIER;
-            try {
-                Class<Enum> leafIdentifier =
-                        (Class<Enum>) nodeClass.getClassLoader()
-                                .loadClass(leafId);
-                Enum[] enumConst = leafIdentifier.getEnumConstants();
-                for (Enum e : enumConst) {
-                    if (e.name().equalsIgnoreCase(key.schemaId().name())) {
-                        midb = midb.addChild(((LeafIdentifier) e));
-                        return midb;
-                    }
-                }
-            } catch (ClassNotFoundException e) {
-                throw new ModelConverterException(E_FAIL_TO_LOAD_LEAF_IDENTIFIER_CLASS, e);
-            }
-        }
-        return midb;
+        return null;
     }
 
     /**
@@ -23,23 +23,18 @@ import org.onosproject.yang.compiler.datamodel.exceptions.DataModelException;
 import org.onosproject.yang.model.DataNode;
 import org.onosproject.yang.model.InnerModelObject;
 import org.onosproject.yang.model.ModelConverterException;
-import org.onosproject.yang.runtime.YangModelRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.lang.reflect.ParameterizedType;
 import java.util.HashMap;
 import java.util.Map;
 
 import static org.onosproject.yang.compiler.datamodel.YangSchemaNodeType.YANG_AUGMENT_NODE;
 import static org.onosproject.yang.compiler.datamodel.YangSchemaNodeType.YANG_CHOICE_NODE;
-import static org.onosproject.yang.model.DataNode.Type.MULTI_INSTANCE_NODE;
 import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_NODE;
 import static org.onosproject.yang.runtime.impl.YobConstants.ADD_AUGMENT_METHOD;
-import static org.onosproject.yang.runtime.impl.YobConstants.ADD_TO;
 import static org.onosproject.yang.runtime.impl.YobConstants.E_FAIL_TO_GET_FIELD;
 import static org.onosproject.yang.runtime.impl.YobConstants.E_FAIL_TO_GET_METHOD;
 import static org.onosproject.yang.runtime.impl.YobConstants.E_FAIL_TO_INVOKE_METHOD;
@@ -47,8 +42,6 @@ import static org.onosproject.yang.runtime.impl.YobConstants.E_HAS_NO_CHILD;
 import static org.onosproject.yang.runtime.impl.YobConstants.L_FAIL_TO_GET_FIELD;
 import static org.onosproject.yang.runtime.impl.YobConstants.L_FAIL_TO_GET_METHOD;
 import static org.onosproject.yang.runtime.impl.YobConstants.L_FAIL_TO_INVOKE_METHOD;
-import static org.onosproject.yang.runtime.impl.YobUtils.ANYDATA_SETTER;
-import static org.onosproject.yang.runtime.impl.YobUtils.getCapitalCase;
 import static org.onosproject.yang.runtime.impl.YobUtils.getInstanceOfClass;
 import static org.onosproject.yang.runtime.impl.YobUtils.getQualifiedDefaultClass;
 
@@ -206,7 +199,7 @@ class YobWorkBench {
                    DefaultYangModelRegistry reg) {
         Object parentObj = getParentObject(reg, curWb.schemaNode());
         setObjectInParent(parentObj, curWb.setterInParent(),
-                          curWb.getBuiltObject(), dataNode.type());
+                          curWb.getBuiltObject(), dataNode.type(), reg);
     }
 
     /**
@@ -216,37 +209,15 @@ class YobWorkBench {
      * @param setter    setter method name
      * @param curObj    current object
      * @param type      data node type
+     * @param reg       YANG model registry
      */
     private static void setObjectInParent(Object parentObj, String setter,
-                                          Object curObj, DataNode.Type type) {
+                                          Object curObj, DataNode.Type type,
+                                          DefaultYangModelRegistry reg) {
         Class<?> parentClass = parentObj.getClass();
         String parentClassName = parentClass.getName();
         try {
-            Class<?> classType = null;
-            if (setter.equals(ANYDATA_SETTER)) {
-                Method method = parentClass.getSuperclass()
-                        .getDeclaredMethod(setter, InnerModelObject.class);
-                method.invoke(parentObj, curObj);
-                return;
-            }
-            Field fieldName = parentClass.getDeclaredField(setter);
-            if (fieldName != null) {
-                classType = fieldName.getType();
-            }
-
-            Method method;
-            if (type == MULTI_INSTANCE_NODE) {
-                if (fieldName != null) {
-                    ParameterizedType genericTypes =
-                            (ParameterizedType) fieldName.getGenericType();
-                    classType = (Class<?>) genericTypes.getActualTypeArguments()[0];
-                }
-                method = parentClass
-                        .getDeclaredMethod(ADD_TO + getCapitalCase(setter), classType);
-            } else {
-                method = parentClass.getDeclaredMethod(setter, classType);
-            }
-
+            Method method = reg.setterCache().setter(parentClass, setter, type);
             method.invoke(parentObj, curObj);
         } catch (NoSuchFieldException e) {
             log.error(L_FAIL_TO_GET_FIELD, parentClassName);
@@ -397,7 +368,7 @@ class YobWorkBench {
      *
      * @param reg YANG model registry
      */
-    void buildNonSchemaAttributes(YangModelRegistry reg) {
+    void buildNonSchemaAttributes(DefaultYangModelRegistry reg) {
 
         for (Map.Entry<YangSchemaNodeIdentifier, YobWorkBench> entry :
                 attributeMap.entrySet()) {
@@ -412,7 +383,8 @@ class YobWorkBench {
             }
 
             setObjectInParent(builtObject, childWorkBench.setterInParent,
-                              childWorkBench.getBuiltObject(), SINGLE_INSTANCE_NODE);
+                              childWorkBench.getBuiltObject(), SINGLE_INSTANCE_NODE,
+                              reg);
         }
     }
 
@@ -422,7 +394,7 @@ class YobWorkBench {
      *
      * @param reg YANG model registry
      */
-    void buildObject(YangModelRegistry reg) {
+    void buildObject(DefaultYangModelRegistry reg) {
         buildNonSchemaAttributes(reg);
     }
 }
@@ -16,8 +16,13 @@
 
 package org.onosproject.yang.runtime.impl;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import org.junit.Test;
+import org.onosproject.yang.compiler.datamodel.YangAugment;
+import org.onosproject.yang.compiler.datamodel.YangLeaf;
+import org.onosproject.yang.compiler.datamodel.YangLeafList;
+import org.onosproject.yang.compiler.datamodel.YangLeavesHolder;
 import org.onosproject.yang.compiler.datamodel.YangNode;
 import org.onosproject.yang.compiler.datamodel.YangRevision;
 import org.onosproject.yang.compiler.datamodel.YangSchemaNode;
@@ -25,6 +30,9 @@ import org.onosproject.yang.model.DefaultYangModuleId;
 import org.onosproject.yang.model.YangModel;
 import org.onosproject.yang.model.YangModule;
 import org.onosproject.yang.model.YangModuleId;
+import org.onosproject.yang.runtime.DefaultAppModuleInfo;
+import org.onosproject.yang.runtime.DefaultModelRegistrationParam;
+import org.onosproject.yang.runtime.ModelRegistrationParam;
 import org.slf4j.Logger;
 
 import java.io.IOException;
@@ -33,11 +41,22 @@ import java.io.ObjectInputStream;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.onosproject.yang.compiler.datamodel.utils.DataModelUtils.getDateInStringFormat;
+import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.getCapitalCase;
+import static org.onosproject.yang.runtime.RuntimeHelper.getInterfaceClassName;
+import static org.onosproject.yang.runtime.impl.MockYangSchemaNodeProvider.lazyRegistry;
+import static org.onosproject.yang.runtime.impl.MockYangSchemaNodeProvider.moduleParam;
+import static org.onosproject.yang.runtime.impl.MockYangSchemaNodeProvider.newRegistry;
 import static org.onosproject.yang.runtime.impl.MockYangSchemaNodeProvider.processModelTest;
 import static org.onosproject.yang.runtime.impl.MockYangSchemaNodeProvider.processSchemaRegistry;
 import static org.onosproject.yang.runtime.impl.MockYangSchemaNodeProvider.registry;
@@ -77,6 +96,15 @@ public class DefaultYangModelRegistryTest {
             "urn:ietf:params:xml:ns:yang:ietf-network4:check:namespace";
     private static final String MODEL_ID = "onos-yang-runtime";
 
+    private static final String CONTAINER_MODULE = "YtbModuleWithContainer";
+    private static final String CONTAINER_MODEL_ID = "container-model";
+    private static final String LIST_MODULE = "YtbModuleWithList";
+    private static final String LIST_MODEL_ID = "list-model";
+    private static final String UNKNOWN_CLASS = "org.onosproject.Unknown";
+    private static final String TOPOLOGY_MODULE = "yms-topology";
+    private static final String OPS_MODULE = "example-ops";
+    private static final String IP_TOPOLOGY_MODULE = "yms-ip-topology";
+
 
     /**
      * Do the prior setup for each UT.
@@ -314,6 +342,343 @@ public class DefaultYangModelRegistryTest {
         assertThat(true, is(modules.size() == 0));
     }
 
+    /**
+     * Unit test case in which schema nodes of a lazily registered model are
+     * materialized by the lookups.
+     */
+    @Test
+    public void testLazyRegistry() {
+        DefaultYangModelRegistry registry = lazyRegistry();
+        YangModel model = registry.getModel(MODEL_ID);
+        assertThat(true, is(model != null));
+
+        YangSchemaNode yangNode = registry.getForSchemaName(SCHEMA_NAME_3);
+        assertThat(true, is(SCHEMA_NAME_3.equals(yangNode.getName())));
+
+        yangNode = registry.getForNameSpace(
+                yangNode.getNameSpace().getModuleNamespace(), false);
+        assertThat(true, is(SCHEMA_NAME_3.equals(yangNode.getName())));
+
+        yangNode = registry.getForRegClassName(INTERFACE_NAME_3);
+        assertThat(true, is(SCHEMA_NAME_3.equals(yangNode.getName())));
+    }
+
+    /**
+     * Unit test case in which a lazily registered model is unregistered
+     * before being materialized.
+     */
+    @Test
+    public void testLazyUnregister() {
+        DefaultYangModelRegistry registry = lazyRegistry();
+        YangModel model = registry.getModel(MODEL_ID);
+        registry.unregisterModel(
+                DefaultModelRegistrationParam.builder().setYangModel(model)
+                        .build());
+        assertThat(true, is(registry.getModels().isEmpty()));
+        assertThat(true, is(registry.getForSchemaName(SCHEMA_NAME_3) == null));
+        assertThat(true, is(registry.getForRegClassName(INTERFACE_NAME_3) == null));
+    }
+
+    /**
+     * Unit test case in which the model is registered from the unlinked
+     * meta data, so it is linked and given its java info at registration.
+     */
+    @Test
+    public void testUnlinkedRegistry() {
+        DefaultYangModelRegistry registry = newRegistry(false);
+        YangSchemaNode yangNode = registry.getForSchemaName(SCHEMA_NAME_3);
+        assertThat(true, is(SCHEMA_NAME_3.equals(yangNode.getName())));
+
+        yangNode = registry.getForRegClassName(INTERFACE_NAME_3);
+        assertThat(true, is(SCHEMA_NAME_3.equals(yangNode.getName())));
+        assertThat(yangNode.getJavaPackage() + "." +
+                           getCapitalCase(yangNode.getJavaClassNameOrBuiltInType()),
+                   is(INTERFACE_NAME_3));
+    }
+
+    /**
+     * Unit test case in which the registries built from the linked and the
+     * unlinked meta data hold equivalent schema.
+     */
+    @Test
+    public void testLinkedAndUnlinkedRegistry() {
+        Map<String, YangSchemaNode> unlinked = newRegistry(false).snapshot()
+                .regClassNames();
+        Map<String, YangSchemaNode> linked = newRegistry(true).snapshot()
+                .regClassNames();
+        assertThat(linked.keySet(), is(unlinked.keySet()));
+        for (Map.Entry<String, YangSchemaNode> e : unlinked.entrySet()) {
+            assertSameSchema((YangNode) e.getValue(),
+                             (YangNode) linked.get(e.getKey()));
+        }
+    }
+
+    private static void assertSameSchema(YangNode expected, YangNode actual) {
+        assertThat(actual.getName(), is(expected.getName()));
+        assertThat(actual.getJavaPackage(), is(expected.getJavaPackage()));
+        assertThat(actual.getJavaClassNameOrBuiltInType(),
+                   is(expected.getJavaClassNameOrBuiltInType()));
+        if (expected instanceof YangLeavesHolder) {
+            YangLeavesHolder e = (YangLeavesHolder) expected;
+            YangLeavesHolder a = (YangLeavesHolder) actual;
+            assertThat(leafNames(a.getListOfLeaf(), a.getListOfLeafList()),
+                       is(leafNames(e.getListOfLeaf(), e.getListOfLeafList())));
+        }
+        YangNode e = expected.getChild();
+        YangNode a = actual.getChild();
+        while (e != null) {
+            assertThat(a != null, is(true));
+            assertSameSchema(e, a);
+            e = e.getNextSibling();
+            a = a.getNextSibling();
+        }
+        assertThat(a == null, is(true));
+    }
+
+    private static List<String> leafNames(List<YangLeaf> leaves,
+                                          List<YangLeafList> leafLists) {
+        List<String> names = new ArrayList<>();
+        for (YangLeaf leaf : leaves) {
+            names.add(leaf.getName() + "/" + leaf.getJavaAttributeName());
+        }
+        for (YangLeafList leafList : leafLists) {
+            names.add(leafList.getName() + "/" +
+                              leafList.getJavaAttributeName());
+        }
+        return names;
+    }
+
+    /**
+     * Unit test case in which readers check that every published snapshot
+     * holds either all or none of a model, while the model is registered
+     * and unregistered concurrently.
+     *
+     * @throws InterruptedException if interrupted while waiting for readers
+     */
+    @Test
+    public void testConcurrentSnapshotReads() throws InterruptedException {
+        DefaultYangModelRegistry registry = new DefaultYangModelRegistry();
+        ModelRegistrationParam param = containerParam();
+        registry.registerModel(param);
+        YangSchemaNode node = registry.getForSchemaName(CONTAINER_MODULE);
+        String className = getInterfaceClassName(node);
+        String nameSpace = node.getNameSpace().getModuleNamespace();
+        registry.unregisterModel(param);
+
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicInteger inconsistent = new AtomicInteger();
+        Runnable reader = () -> {
+            while (!done.get()) {
+                RegistrySnapshot s = registry.snapshot();
+                boolean hasModel = s.models().containsKey(CONTAINER_MODEL_ID);
+                if (hasModel != s.regClassNames().containsKey(className) ||
+                        hasModel != s.nameSpaces().containsKey(nameSpace)) {
+                    inconsistent.incrementAndGet();
+                }
+            }
+        };
+        ExecutorService readers = Executors.newFixedThreadPool(2);
+        readers.execute(reader);
+        readers.execute(reader);
+        try {
+            for (int i = 0; i < 10; i++) {
+                param = containerParam();
+                registry.registerModel(param);
+                registry.unregisterModel(param);
+            }
+        } finally {
+            done.set(true);
+            readers.shutdown();
+        }
+        assertThat(readers.awaitTermination(10, SECONDS), is(true));
+        assertThat(inconsistent.get(), is(0));
+    }
+
+    /**
+     * Unit test case in which a failed registration leaves the published
+     * snapshot unchanged.
+     */
+    @Test
+    public void testFailedRegistrationKeepsSnapshot() {
+        DefaultYangModelRegistry registry = new DefaultYangModelRegistry();
+        registry.registerModel(containerParam());
+        RegistrySnapshot before = registry.snapshot();
+
+        boolean failed = false;
+        try {
+            // Model id is registered already.
+            registry.registerModel(moduleParam(
+                    CONTAINER_MODEL_ID, ImmutableList.of(LIST_MODULE),
+                    ImmutableList.of()));
+        } catch (IllegalArgumentException e) {
+            failed = true;
+        }
+        assertThat(failed, is(true));
+        assertThat(registry.snapshot() == before, is(true));
+        assertThat(registry.getForSchemaName(LIST_MODULE) == null, is(true));
+    }
+
+    /**
+     * Unit test case in which models which don't depend on each other are
+     * linked in the same round and registered.
+     */
+    @Test
+    public void testRegisterIndependentModels() {
+        ModelRegistrationParam container = containerParam();
+        ModelRegistrationParam list = listParam();
+        List<ModelRegistrationParam> pending = new ArrayList<>();
+        pending.add(container);
+        pending.add(list);
+        assertThat(DefaultYangModelRegistry.nextRound(pending),
+                   is(ImmutableList.of(container, list)));
+        assertThat(pending.isEmpty(), is(true));
+
+        DefaultYangModelRegistry registry = new DefaultYangModelRegistry();
+        registry.registerModels(ImmutableList.of(container, list));
+        assertThat(registry.getForSchemaName(CONTAINER_MODULE) != null,
+                   is(true));
+        assertThat(registry.getForSchemaName(LIST_MODULE) != null, is(true));
+        assertThat(registry.getModels().size(), is(2));
+    }
+
+    /**
+     * Unit test case in which a model importing and augmenting the modules
+     * of other models is linked in a round after theirs, even when it is
+     * given first.
+     */
+    @Test
+    public void testRegisterDependentModels() {
+        ModelRegistrationParam ip = moduleParam(
+                "ip-topology-model", ImmutableList.of(IP_TOPOLOGY_MODULE),
+                ImmutableList.of(TOPOLOGY_MODULE, OPS_MODULE));
+        ModelRegistrationParam topo = moduleParam(
+                "topology-model", ImmutableList.of(TOPOLOGY_MODULE),
+                ImmutableList.of());
+        ModelRegistrationParam ops = moduleParam(
+                "ops-model", ImmutableList.of(OPS_MODULE),
+                ImmutableList.of());
+        List<ModelRegistrationParam> pending = new ArrayList<>();
+        pending.add(ip);
+        pending.add(topo);
+        pending.add(ops);
+        assertThat(DefaultYangModelRegistry.nextRound(pending),
+                   is(ImmutableList.of(topo, ops)));
+        assertThat(pending, is(ImmutableList.of(ip)));
+
+        DefaultYangModelRegistry registry = new DefaultYangModelRegistry();
+        registry.registerModels(ImmutableList.of(ip, topo, ops));
+        YangSchemaNode node = registry.getForSchemaName(IP_TOPOLOGY_MODULE);
+        assertThat(node != null, is(true));
+        int augments = 0;
+        YangNode child = ((YangNode) node).getChild();
+        while (child != null) {
+            if (child instanceof YangAugment) {
+                assertThat(((YangAugment) child).getAugmentedNode() != null,
+                           is(true));
+                augments++;
+            }
+            child = child.getNextSibling();
+        }
+        assertThat(augments > 0, is(true));
+        assertThat(registry.getModels().size(), is(3));
+    }
+
+    /**
+     * Unit test case in which a failing registration of a bulk publishes
+     * none of its models.
+     */
+    @Test
+    public void testRegisterModelsFailure() {
+        DefaultYangModelRegistry registry = new DefaultYangModelRegistry();
+        RegistrySnapshot before = registry.snapshot();
+
+        boolean failed = false;
+        try {
+            registry.registerModels(ImmutableList.of(
+                    containerParam(),
+                    moduleParam("bad id!", ImmutableList.of(LIST_MODULE),
+                                ImmutableList.of())));
+        } catch (IllegalArgumentException e) {
+            failed = true;
+        }
+        assertThat(failed, is(true));
+        assertThat(registry.snapshot() == before, is(true));
+        assertThat(registry.getForSchemaName(CONTAINER_MODULE) == null,
+                   is(true));
+        assertThat(registry.getModels().isEmpty(), is(true));
+    }
+
+    /**
+     * Unit test case in which a class lookup on a lazy registry
+     * materializes only the pending model owning the class, and a lookup of
+     * an unknown class materializes only the pending models whose class
+     * names are not known before linking.
+     *
+     * @throws ClassNotFoundException if a generated class is not found
+     */
+    @Test
+    public void testLazyRegClassLookup() throws ClassNotFoundException {
+        DefaultYangModelRegistry eager = new DefaultYangModelRegistry();
+        eager.registerModels(ImmutableList.of(containerParam(), listParam()));
+        String container = getInterfaceClassName(
+                eager.getForSchemaName(CONTAINER_MODULE));
+        String list = getInterfaceClassName(
+                eager.getForSchemaName(LIST_MODULE));
+
+        DefaultYangModelRegistry registry = new DefaultYangModelRegistry(true);
+        registry.registerModel(withClass(containerParam(), container));
+        registry.registerModel(withClass(listParam(), list));
+        assertThat(registry.snapshot().pendingQNames().size(), is(2));
+        assertThat(registry.snapshot().pendingUnnamed().isEmpty(), is(true));
+
+        assertThat(registry.getForRegClassName(UNKNOWN_CLASS) == null,
+                   is(true));
+        assertThat(registry.snapshot().pendingModels().size(), is(2));
+
+        assertThat(registry.getForRegClassName(container) != null, is(true));
+        assertThat(registry.snapshot().pendingModels().keySet(),
+                   is(ImmutableSet.of(LIST_MODEL_ID)));
+        assertThat(registry.snapshot().pendingQNames().keySet(),
+                   is(ImmutableSet.of(list.toLowerCase())));
+
+        assertThat(registry.getForRegClassQualifiedName(
+                list.toLowerCase(), false) != null, is(true));
+        assertThat(registry.snapshot().pendingModels().isEmpty(), is(true));
+        assertThat(registry.snapshot().pendingQNames().isEmpty(), is(true));
+
+        registry = new DefaultYangModelRegistry(true);
+        registry.registerModel(containerParam());
+        assertThat(registry.snapshot().pendingUnnamed(),
+                   is(ImmutableSet.of(CONTAINER_MODEL_ID)));
+        assertThat(registry.getForRegClassName(UNKNOWN_CLASS) == null,
+                   is(true));
+        assertThat(registry.snapshot().pendingModels().isEmpty(), is(true));
+        assertThat(registry.snapshot().pendingUnnamed().isEmpty(), is(true));
+    }
+
+    private static ModelRegistrationParam withClass(
+            ModelRegistrationParam param, String className)
+            throws ClassNotFoundException {
+        YangModel model = param.getYangModel();
+        return DefaultModelRegistrationParam.builder()
+                .setYangModel(model)
+                .addAppModuleInfo(model.getYangModulesId().iterator().next(),
+                                  new DefaultAppModuleInfo(
+                                          Class.forName(className), null))
+                .build();
+    }
+
+    private static ModelRegistrationParam listParam() {
+        return moduleParam(LIST_MODEL_ID, ImmutableList.of(LIST_MODULE),
+                           ImmutableList.of());
+    }
+
+    private static ModelRegistrationParam containerParam() {
+        return moduleParam(CONTAINER_MODEL_ID,
+                           ImmutableList.of(CONTAINER_MODULE),
+                           ImmutableList.of());
+    }
+
     private Set<YangModule> getYangModules(YangModel model, String modelId) {
         Set<org.onosproject.yang.model.YangModule> modules =
                 new LinkedHashSet<>();
@@ -696,6 +696,46 @@ public class MoIdToRscIdTest {
         assertThat("gl57", is(leaf.leafValue()));
     }
 
+    /**
+     * Unit test case for model object identifiers of the same shape, which
+     * are converted by the cached plan with their own key values.
+     */
+    @Test
+    public void moIdPlanReuse() {
+        setUp();
+        List57Keys keys = new List57Keys();
+        keys.gl57("first");
+        mid = ModelObjectId.builder()
+                .addChild(DefaultList56.class, new List56Keys())
+                .addChild(DefaultCont56.class)
+                .addChild(DefaultCont57.class)
+                .addChild(DefaultList57.class, keys).build();
+        ResourceId first = builder.fetchResourceId(mid).build();
+        assertThat(1, is(reg.moIdPlans().size()));
+
+        keys = new List57Keys();
+        keys.gl57("second");
+        mid = ModelObjectId.builder()
+                .addChild(DefaultList56.class, new List56Keys())
+                .addChild(DefaultCont56.class)
+                .addChild(DefaultCont57.class)
+                .addChild(DefaultList57.class, keys).build();
+        ModIdToRscIdConverter conv = new ModIdToRscIdConverter(reg);
+        rscId = conv.fetchResourceId(mid).build();
+        assertThat(1, is(reg.moIdPlans().size()));
+        assertThat(builder.getLastIndexNode(), is(conv.getLastIndexNode()));
+        assertThat(false, is(conv.isMoIdWithLeaf()));
+
+        nodeKeys = rscId.nodeKeys();
+        assertThat(5, is(nodeKeys.size()));
+        assertThat(first.nodeKeys().subList(0, 4), is(nodeKeys.subList(0, 4)));
+        KeyLeaf leaf = ((ListKey) nodeKeys.get(4)).keyLeafs().get(0);
+        assertThat("gl57", is(leaf.leafSchema().name()));
+        assertThat("second", is(leaf.leafValue()));
+        leaf = ((ListKey) first.nodeKeys().get(4)).keyLeafs().get(0);
+        assertThat("first", is(leaf.leafValue()));
+    }
+
 
     /**
      * Returns mock node tree with module, rpc, input and output.
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.runtime.impl;
+
+import org.junit.Test;
+import org.onosproject.yang.gen.v1.simpledatatypes.rev20131112.simpledatatypes.Cont;
+import org.onosproject.yang.gen.v1.simpledatatypes.rev20131112.simpledatatypes.DefaultCont;
+import org.onosproject.yang.gen.v1.simpledatatypes.rev20131112.simpledatatypes.Iden;
+import org.onosproject.yang.gen.v1.simpledatatypes.rev20131112.simpledatatypes.cont.Lfbits;
+import org.onosproject.yang.model.DefaultModelObjectData;
+import org.onosproject.yang.runtime.impl.ModelAccessorCache.AccessorResolver;
+
+import java.lang.reflect.Method;
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.onosproject.yang.runtime.impl.MockYangSchemaNodeProvider.processSchemaRegistry;
+import static org.onosproject.yang.runtime.impl.MockYangSchemaNodeProvider.registry;
+import static org.onosproject.yang.runtime.impl.ModelAccessorCache.accessor;
+import static org.onosproject.yang.runtime.impl.ModelAccessorCache.declaredMethod;
+
+/**
+ * Unit test cases for the accessors resolved by the model converter
+ * utilities and cached per generated class.
+ */
+public class ModelConverterUtilTest {
+
+    private static final String TO_STRING = "toString";
+    private static final String IDEN_TO_STRING = "idenToString";
+    private static final String IS_VAL_SET = "isLeafValueSet";
+    private static final String LEAF_IDENTIFIER = "$LeafIdentifier";
+
+    /*
+     * Resolver failing the test, to check that an accessor is served from
+     * the cache.
+     */
+    private static final AccessorResolver UNEXPECTED = (c, o, n, a) -> {
+        throw new AssertionError(o + "." + n + " resolved again");
+    };
+
+    /**
+     * Classes holding their own accessor tables, not used by other tests.
+     */
+    private static final class First {
+        private String leaf() {
+            return null;
+        }
+    }
+
+    private static final class Second {
+        private String leaf() {
+            return null;
+        }
+    }
+
+    /**
+     * Unit test case in which an accessor is resolved once for each class
+     * holding it, whichever argument it is looked up with.
+     *
+     * @throws Exception if accessor is not resolved
+     */
+    @Test
+    public void testAccessorResolvedOncePerClass() throws Exception {
+        AtomicInteger count = new AtomicInteger();
+        AccessorResolver resolver = (c, o, n, a) -> {
+            count.incrementAndGet();
+            return c.getDeclaredMethod(n);
+        };
+        String owner = First.class.getName();
+        Method first = accessor(First.class, owner, "leaf", "a", resolver);
+        assertThat(accessor(First.class, owner, "leaf", "b", resolver),
+                   is(first));
+        assertThat(count.get(), is(1));
+
+        accessor(Second.class, owner, "leaf", "a", resolver);
+        accessor(Second.class, owner, "leaf", "b", resolver);
+        assertThat(count.get(), is(2));
+
+        Method getter = declaredMethod(First.class, "leaf");
+        assertThat(declaredMethod(First.class, "leaf") == getter, is(true));
+    }
+
+    /**
+     * Unit test case in which the bits and identity ref string conversion
+     * methods, and the value set flag getter, are resolved, loading their
+     * classes, by the first conversion only.
+     *
+     * @throws Exception if accessor is not resolved
+     */
+    @Test
+    public void testValueHelpersNotReloaded() throws Exception {
+        processSchemaRegistry();
+        DefaultDataTreeBuilder treeBuilder =
+                new DefaultDataTreeBuilder(registry());
+        for (int i = 0; i < 2; i++) {
+            DefaultCont cont = new DefaultCont();
+            BitSet bits = new BitSet();
+            bits.set(i, true);
+            cont.lfbits(bits);
+            cont.identityref1(Iden.class);
+            DefaultModelObjectData.Builder data =
+                    new DefaultModelObjectData.Builder();
+            data.addModelObject(cont);
+            treeBuilder.getResourceData(data.build());
+        }
+
+        Method bitsToString = accessor(DefaultCont.class, Lfbits.class.getName(),
+                                       TO_STRING, new BitSet(), UNEXPECTED);
+        assertThat(bitsToString.getDeclaringClass() == Lfbits.class, is(true));
+
+        Method idenToString = accessor(DefaultCont.class, Iden.class.getName(),
+                                       IDEN_TO_STRING, null, UNEXPECTED);
+        assertThat(idenToString.getDeclaringClass() == Iden.class, is(true));
+
+        Method isValSet = accessor(DefaultCont.class,
+                                   Cont.class.getName() + LEAF_IDENTIFIER,
+                                   IS_VAL_SET, null, UNEXPECTED);
+        assertThat(isValSet.getName(), is(IS_VAL_SET));
+    }
+}
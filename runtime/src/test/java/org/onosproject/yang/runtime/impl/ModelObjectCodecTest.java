@@ -0,0 +1,384 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.runtime.impl;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.onosproject.yang.gen.v1.codecmodel.rev20170601.CodecModel;
+import org.onosproject.yang.gen.v1.codecmodel.rev20170601.codecmodel.DefaultNested;
+import org.onosproject.yang.gen.v1.codecmodel.rev20170601.codecmodel.DefaultPeer;
+import org.onosproject.yang.gen.v1.codecmodel.rev20170601.codecmodel.DefaultSettings;
+import org.onosproject.yang.gen.v1.codecmodel.rev20170601.codecmodel.PeerCodec;
+import org.onosproject.yang.gen.v1.codecmodel.rev20170601.codecmodel.SettingsCodec;
+import org.onosproject.yang.gen.v1.simpledatatypes.rev20131112.simpledatatypes.DefaultCont;
+import org.onosproject.yang.model.DataNode;
+import org.onosproject.yang.model.DefaultModelObjectData;
+import org.onosproject.yang.model.DefaultResourceData;
+import org.onosproject.yang.model.InnerNode;
+import org.onosproject.yang.model.LeafNode;
+import org.onosproject.yang.model.ModelObject;
+import org.onosproject.yang.model.ModelObjectCodec;
+import org.onosproject.yang.model.NodeKey;
+import org.onosproject.yang.model.ResourceData;
+import org.onosproject.yang.model.SchemaId;
+import org.onosproject.yang.runtime.ModelRegistrationParam;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_LEAF_VALUE_NODE;
+import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_NODE;
+import static org.onosproject.yang.runtime.impl.MockYangSchemaNodeProvider.moduleParam;
+import static org.onosproject.yang.runtime.impl.MockYangSchemaNodeProvider.processSchemaRegistry;
+import static org.onosproject.yang.runtime.impl.MockYangSchemaNodeProvider.registry;
+import static org.onosproject.yang.runtime.impl.YobSimpleDataTypeTest.DT_NS;
+
+/**
+ * Unit test cases for model object codecs used by YOB and YTB.
+ */
+public class ModelObjectCodecTest {
+
+    private static final String CONT = "cont";
+    private static final String LFSTR = "lfstr";
+    private static final String CODEC_NS = "yms:test:codec:model";
+
+    private static DefaultYangModelRegistry reg;
+    private ContCodec codec;
+
+    /**
+     * Prior setup for the test class.
+     */
+    @BeforeClass
+    public static void setUpClass() {
+        processSchemaRegistry();
+        reg = registry();
+    }
+
+    /**
+     * Prior setup for each UT.
+     */
+    @Before
+    public void setUp() {
+        codec = new ContCodec();
+        reg.registerCodec(codec);
+    }
+
+    /**
+     * Removes the codec after each UT.
+     */
+    @After
+    public void tearDown() {
+        reg.unregisterCodec(DefaultCont.class);
+    }
+
+    /**
+     * Checks that YTB encodes a model object with its registered codec.
+     */
+    @Test
+    public void encodeWithCodecTest() {
+        DefaultCont cont = new DefaultCont();
+        cont.lfstr("codec");
+        DefaultModelObjectData.Builder data = DefaultModelObjectData.builder();
+        data.addModelObject(cont);
+
+        DefaultDataTreeBuilder treeBuilder = new DefaultDataTreeBuilder(reg);
+        ResourceData rscData = treeBuilder.getResourceData(data.build());
+
+        assertThat(codec.encoded, is(1));
+        DataNode node = rscData.dataNodes().get(0);
+        assertThat(node.key().schemaId().name(), is(CONT));
+        DataNode leaf = ((InnerNode) node).childNodes().get(
+                NodeKey.builder().schemaId(LFSTR, DT_NS).build());
+        assertThat(((LeafNode) leaf).value(), is("codec"));
+    }
+
+    /**
+     * Checks that YOB decodes a data node with its registered codec, also
+     * when the data node is a child of the root node.
+     */
+    @Test
+    public void decodeWithCodecTest() {
+        DataNode cont = InnerNode.builder(CONT, DT_NS)
+                .type(SINGLE_INSTANCE_NODE)
+                .createChildBuilder(LFSTR, DT_NS, "codec")
+                .type(SINGLE_INSTANCE_LEAF_VALUE_NODE)
+                .exitNode().build();
+        DataNode root = InnerNode.builder("/", null)
+                .type(SINGLE_INSTANCE_NODE)
+                .addNode(cont).build();
+
+        DefaultYobBuilder builder = new DefaultYobBuilder(reg);
+        List<ModelObject> objects = builder.getYangObject(
+                DefaultResourceData.builder().addDataNode(root).build())
+                .modelObjects();
+
+        assertThat(codec.decoded, is(1));
+        assertThat(objects.size(), is(1));
+        assertThat(((DefaultCont) objects.get(0)).lfstr(), is("codec"));
+    }
+
+    /**
+     * Checks that a data node without schema is left to the reflection
+     * based conversion, which fails the same way whether or not a codec is
+     * registered.
+     */
+    @Test
+    public void decodeUnknownNodeWithCodecTest() {
+        DataNode unknown = InnerNode.builder("unknown", DT_NS)
+                .type(SINGLE_INSTANCE_NODE).build();
+        ResourceData data = DefaultResourceData.builder()
+                .addDataNode(unknown).build();
+
+        Class<?> withCodec = decodeFailure(data);
+        reg.unregisterCodec(DefaultCont.class);
+        Class<?> withoutCodec = decodeFailure(data);
+
+        assertThat(codec.decoded, is(0));
+        assertThat(withCodec, is((Object) withoutCodec));
+    }
+
+    private static Class<?> decodeFailure(ResourceData data) {
+        try {
+            new DefaultYobBuilder(reg).getYangObject(data);
+        } catch (RuntimeException e) {
+            return e.getClass();
+        }
+        return null;
+    }
+
+    /**
+     * Checks that reflection based conversion is used once the codec is
+     * unregistered.
+     */
+    @Test
+    public void unregisterCodecTest() {
+        reg.unregisterCodec(DefaultCont.class);
+        DefaultCont cont = new DefaultCont();
+        cont.lfstr("reflection");
+        DefaultModelObjectData.Builder data = DefaultModelObjectData.builder();
+        data.addModelObject(cont);
+
+        new DefaultDataTreeBuilder(reg).getResourceData(data.build());
+        assertThat(codec.encoded, is(0));
+    }
+
+    /**
+     * Checks that the codecs generated for the top level containers and
+     * lists holding simple leaves are registered along with their model,
+     * and that no codec is generated for a container holding a container.
+     */
+    @Test
+    public void generatedCodecRegisteredTest() {
+        assertThat(reg.getCodec(DefaultSettings.class.getName()),
+                   instanceOf(SettingsCodec.class));
+        assertThat(reg.getCodec(DefaultPeer.class.getName()),
+                   instanceOf(PeerCodec.class));
+        assertThat(reg.getCodec(DefaultNested.class.getName()), nullValue());
+    }
+
+    /**
+     * Checks that the generated codecs encode model objects into the same
+     * data nodes as the reflection based conversion.
+     */
+    @Test
+    public void generatedCodecEncodeTest() {
+        DefaultSettings settings = settings();
+        DataNode withCodec = encode(settings);
+        reg.unregisterCodec(DefaultSettings.class);
+        try {
+            assertSameNode(withCodec, encode(settings));
+        } finally {
+            reg.registerCodec(new SettingsCodec());
+        }
+
+        DefaultPeer peer = peer();
+        withCodec = encode(peer);
+        reg.unregisterCodec(DefaultPeer.class);
+        try {
+            assertSameNode(withCodec, encode(peer));
+        } finally {
+            reg.registerCodec(new PeerCodec());
+        }
+    }
+
+    /**
+     * Checks that the generated codecs decode the data nodes built by the
+     * reflection based conversion back into the same model objects.
+     */
+    @Test
+    public void generatedCodecDecodeTest() {
+        DefaultSettings settings = settings();
+        DefaultPeer peer = peer();
+        reg.unregisterCodec(DefaultSettings.class);
+        reg.unregisterCodec(DefaultPeer.class);
+        DataNode settingsNode;
+        DataNode peerNode;
+        try {
+            settingsNode = encode(settings);
+            peerNode = encode(peer);
+        } finally {
+            reg.registerCodec(new SettingsCodec());
+            reg.registerCodec(new PeerCodec());
+        }
+
+        assertThat(decode(settingsNode), is((ModelObject) settings));
+        assertThat(decode(peerNode), is((ModelObject) peer));
+        assertThat(new SettingsCodec().decode(settingsNode), is(settings));
+    }
+
+    /**
+     * Checks that a generated codec does not decode a data node holding a
+     * child it does not know, leaving it to the reflection based conversion.
+     */
+    @Test
+    public void generatedCodecUnknownChildTest() {
+        DataNode node = InnerNode.builder("settings", CODEC_NS)
+                .type(SINGLE_INSTANCE_NODE)
+                .createChildBuilder("unknown", CODEC_NS)
+                .type(SINGLE_INSTANCE_NODE)
+                .exitNode().build();
+        assertThat(new SettingsCodec().decode(node), nullValue());
+    }
+
+    /**
+     * Checks that the generated codecs of a model are unregistered along
+     * with the model.
+     */
+    @Test
+    public void generatedCodecUnregisterTest() {
+        DefaultYangModelRegistry registry = new DefaultYangModelRegistry();
+        ModelRegistrationParam param = moduleParam(
+                "codec-model", ImmutableList.of("codec-model"),
+                ImmutableList.of());
+        registry.registerModel(param);
+        assertThat(registry.getCodec(DefaultSettings.class.getName()),
+                   nullValue());
+
+        registry.addRegClass(CodecModel.class.getName(), CodecModel.class);
+        assertThat(registry.getCodec(DefaultSettings.class.getName()),
+                   instanceOf(SettingsCodec.class));
+
+        registry.unregisterModel(param);
+        assertThat(registry.getCodec(DefaultSettings.class.getName()),
+                   nullValue());
+        assertThat(registry.getCodec(DefaultPeer.class.getName()),
+                   nullValue());
+    }
+
+    private static DefaultSettings settings() {
+        DefaultSettings settings = new DefaultSettings();
+        settings.name("codec");
+        settings.enabled(false);
+        settings.mtu(1500);
+        settings.offset((byte) -3);
+        settings.counter(new BigInteger("18446744073709551615"));
+        settings.ratio(new BigDecimal("2.50"));
+        settings.addToTag("a");
+        settings.addToTag("b");
+        settings.addToLevel((byte) 7);
+        return settings;
+    }
+
+    private static DefaultPeer peer() {
+        DefaultPeer peer = new DefaultPeer();
+        peer.address("10.0.0.1");
+        peer.port(179);
+        peer.weight(4294967295L);
+        return peer;
+    }
+
+    private static DataNode encode(ModelObject object) {
+        DefaultModelObjectData.Builder data = DefaultModelObjectData.builder();
+        data.addModelObject(object);
+        ResourceData rscData = new DefaultDataTreeBuilder(reg)
+                .getResourceData(data.build());
+        assertThat(rscData.dataNodes().size(), is(1));
+        return rscData.dataNodes().get(0);
+    }
+
+    private static ModelObject decode(DataNode node) {
+        List<ModelObject> objects = new DefaultYobBuilder(reg).getYangObject(
+                DefaultResourceData.builder().addDataNode(node).build())
+                .modelObjects();
+        assertThat(objects.size(), is(1));
+        return objects.get(0);
+    }
+
+    private static void assertSameNode(DataNode actual, DataNode expected) {
+        assertThat(actual.key(), is(expected.key()));
+        assertThat(actual.type(), is(expected.type()));
+        List<DataNode> children = ImmutableList.copyOf(
+                ((InnerNode) actual).childNodes().values());
+        List<DataNode> expChildren = ImmutableList.copyOf(
+                ((InnerNode) expected).childNodes().values());
+        assertThat(children.size(), is(expChildren.size()));
+        Iterator<DataNode> it = expChildren.iterator();
+        for (DataNode child : children) {
+            LeafNode leaf = (LeafNode) child;
+            LeafNode expLeaf = (LeafNode) it.next();
+            assertThat(leaf.key(), is(expLeaf.key()));
+            assertThat(leaf.type(), is(expLeaf.type()));
+            assertThat(leaf.leafType(), is(expLeaf.leafType()));
+            assertThat(leaf.value(), is(expLeaf.value()));
+        }
+    }
+
+    /**
+     * Represents a hand written codec of the container "cont" which handles
+     * only the string leaf.
+     */
+    private static class ContCodec implements ModelObjectCodec<DefaultCont> {
+
+        private int encoded;
+        private int decoded;
+
+        @Override
+        public Class<DefaultCont> modelClass() {
+            return DefaultCont.class;
+        }
+
+        @Override
+        public DataNode encode(DefaultCont object) {
+            encoded++;
+            return InnerNode.builder(CONT, DT_NS)
+                    .type(SINGLE_INSTANCE_NODE)
+                    .createChildBuilder(LFSTR, DT_NS, object.lfstr())
+                    .type(SINGLE_INSTANCE_LEAF_VALUE_NODE)
+                    .exitNode().build();
+        }
+
+        @Override
+        public DefaultCont decode(DataNode node) {
+            decoded++;
+            SchemaId id = new SchemaId(LFSTR, DT_NS);
+            DataNode leaf = ((InnerNode) node).childNodes().get(
+                    NodeKey.builder().schemaId(id).build());
+            DefaultCont cont = new DefaultCont();
+            cont.lfstr((String) ((LeafNode) leaf).value());
+            return cont;
+        }
+    }
+}
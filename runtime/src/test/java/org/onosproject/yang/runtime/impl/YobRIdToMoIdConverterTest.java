@@ -16,6 +16,7 @@
 
 package org.onosproject.yang.runtime.impl;
 
+import com.google.common.collect.ImmutableList;
 import org.junit.Test;
 import org.onosproject.yang.gen.v1.sample.Sample;
 import org.onosproject.yang.gen.v1.sample.sample.DefaultL2;
@@ -40,13 +41,17 @@ import org.onosproject.yang.model.ResourceId;
 import org.onosproject.yang.model.SingleInstanceLeaf;
 import org.onosproject.yang.model.SingleInstanceNode;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertEquals;
 import static org.onosproject.yang.runtime.SerializerHelper.addToResourceId;
 import static org.onosproject.yang.runtime.SerializerHelper.initializeResourceId;
+import static org.onosproject.yang.runtime.impl.DefaultYangModelRegistry.MAX_PLANS;
+import static org.onosproject.yang.runtime.impl.DefaultYangModelRegistry.addPlan;
 
 /**
  * Tests resource id to model object id convertion.
@@ -83,10 +88,14 @@ public class YobRIdToMoIdConverterTest {
     }
 
     private ResourceId.Builder buildRIdForTopLevelList() {
+        return buildRIdForTopLevelList("abc");
+    }
+
+    private ResourceId.Builder buildRIdForTopLevelList(String key) {
         rIdBlr = initializeResourceId(context);
         value = null;
         rIdBlr = addToResourceId(rIdBlr, "l2", NAME_SPACE, value);
-        value = "abc";
+        value = key;
         rIdBlr = addToResourceId(rIdBlr, "k1", NAME_SPACE, value);
         return rIdBlr;
     }
@@ -202,6 +211,55 @@ public class YobRIdToMoIdConverterTest {
         assertThat(((L2Keys) l2.key()).k1(), is("abc"));
     }
 
+    @Test
+    public void testPlanReuse() {
+        DefaultYangModelRegistry reg =
+                (DefaultYangModelRegistry) context.getContext();
+        ResourceData data = DefaultResourceData.builder()
+                .resourceId(buildRIdForTopLevelList("abc").build()).build();
+        ModelObjectId first = new DefaultYobBuilder(reg).getYangObject(data)
+                .identifier();
+        int plans = reg.rscIdPlans().size();
+
+        data = DefaultResourceData.builder()
+                .resourceId(buildRIdForTopLevelList("xyz").build()).build();
+        ModelObjectId second = new DefaultYobBuilder(reg).getYangObject(data)
+                .identifier();
+        assertThat(reg.rscIdPlans().size(), is(plans));
+
+        MultiInstanceNode l2 = (MultiInstanceNode) first.atomicPaths().get(0);
+        assertThat(((L2Keys) l2.key()).k1(), is("abc"));
+        l2 = (MultiInstanceNode) second.atomicPaths().get(0);
+        assertEquals(l2.listClass(), DefaultL2.class);
+        assertThat(((L2Keys) l2.key()).k1(), is("xyz"));
+    }
+
+    @Test
+    public void testUnresolvedPlanNotCached() {
+        DefaultYangModelRegistry reg =
+                (DefaultYangModelRegistry) context.getContext();
+        int plans = reg.rscIdPlans().size();
+        // Built without schema check, as the node is not in any model.
+        ResourceId id = ResourceId.builder()
+                .addBranchPointSchema("/", null)
+                .addBranchPointSchema("unknown", NAME_SPACE).build();
+        ResourceData data = DefaultResourceData.builder()
+                .resourceId(id).build();
+        new DefaultYobBuilder(reg).getYangObject(data);
+        assertThat(reg.rscIdPlans().size(), is(plans));
+    }
+
+    @Test
+    public void testPlansBound() {
+        Map<List<Object>, Integer> plans = new HashMap<>();
+        for (int i = 0; i < MAX_PLANS * 2; i++) {
+            addPlan(plans, ImmutableList.of(i), i);
+            assertThat(plans.size() <= MAX_PLANS, is(true));
+        }
+        assertThat(plans.get(ImmutableList.of(MAX_PLANS * 2 - 1)),
+                   is(MAX_PLANS * 2 - 1));
+    }
+
     @Test
     public void testMoIdForListInsideList() {
         ResourceId id = buildRIdForTopListInsideList().build();
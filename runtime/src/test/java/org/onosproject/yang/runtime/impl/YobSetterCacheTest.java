@@ -0,0 +1,114 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.runtime.impl;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.onosproject.yang.gen.v1.identitytest.rev20130715.identitytest.Typed;
+import org.onosproject.yang.gen.v1.sample.sample.DefaultTop;
+import org.onosproject.yang.runtime.ModelRegistrationParam;
+
+import java.lang.reflect.Method;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.onosproject.yang.model.DataNode.Type.MULTI_INSTANCE_LEAF_VALUE_NODE;
+import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_LEAF_VALUE_NODE;
+import static org.onosproject.yang.runtime.impl.MockYangSchemaNodeProvider.moduleParam;
+import static org.onosproject.yang.runtime.impl.YobConstants.FROM_STRING;
+
+/**
+ * Unit test cases for the cache of resolved YOB setters and conversion
+ * methods.
+ */
+public class YobSetterCacheTest {
+
+    private static final String MTU = "mtu";
+    private static final String COLOR = "color";
+
+    /**
+     * Unit test case in which a setter is resolved once for a class, setter
+     * name and data node type. Reflection hands out a new method object for
+     * each lookup, so the same object is only returned from the cache.
+     *
+     * @throws Exception if setter is not found
+     */
+    @Test
+    public void testSetterResolvedOnce() throws Exception {
+        YobSetterCache cache = new YobSetterCache();
+        Method mtu = cache.setter(DefaultTop.class, MTU,
+                                  SINGLE_INSTANCE_LEAF_VALUE_NODE);
+        assertThat(mtu.getName(), is(MTU));
+        assertThat(cache.setter(DefaultTop.class, MTU,
+                                SINGLE_INSTANCE_LEAF_VALUE_NODE) == mtu,
+                   is(true));
+
+        Method addToColor = cache.setter(DefaultTop.class, COLOR,
+                                         MULTI_INSTANCE_LEAF_VALUE_NODE);
+        assertThat(addToColor.getName(), is("addToColor"));
+        assertThat(cache.setter(DefaultTop.class, COLOR,
+                                MULTI_INSTANCE_LEAF_VALUE_NODE) == addToColor,
+                   is(true));
+    }
+
+    /**
+     * Unit test case in which a generated class and its conversion method
+     * are loaded once for a class loader, class name and method name.
+     *
+     * @throws Exception if class or method is not found
+     */
+    @Test
+    public void testHelperResolvedOnce() throws Exception {
+        YobSetterCache cache = new YobSetterCache();
+        ClassLoader loader = getClass().getClassLoader();
+        String name = Typed.class.getName();
+        assertThat(cache.loadClass(loader, name) == Typed.class, is(true));
+
+        Method fromString = cache.helper(loader, name, FROM_STRING);
+        assertThat(fromString.getDeclaringClass() == Typed.class, is(true));
+        assertThat(cache.helper(loader, name, FROM_STRING) == fromString,
+                   is(true));
+    }
+
+    /**
+     * Unit test case in which unregistering a model drops the cached
+     * setters and conversion methods of the registry.
+     *
+     * @throws Exception if setter or method is not found
+     */
+    @Test
+    public void testClearedOnUnregister() throws Exception {
+        DefaultYangModelRegistry registry = new DefaultYangModelRegistry();
+        ModelRegistrationParam param = moduleParam(
+                "container-model", ImmutableList.of("YtbModuleWithContainer"),
+                ImmutableList.of());
+        registry.registerModel(param);
+        YobSetterCache cache = registry.setterCache();
+        ClassLoader loader = getClass().getClassLoader();
+        String name = Typed.class.getName();
+        Method mtu = cache.setter(DefaultTop.class, MTU,
+                                  SINGLE_INSTANCE_LEAF_VALUE_NODE);
+        Method fromString = cache.helper(loader, name, FROM_STRING);
+
+        registry.unregisterModel(param);
+        assertThat(cache.setter(DefaultTop.class, MTU,
+                                SINGLE_INSTANCE_LEAF_VALUE_NODE) == mtu,
+                   is(false));
+        assertThat(cache.helper(loader, name, FROM_STRING) == fromString,
+                   is(false));
+    }
+}
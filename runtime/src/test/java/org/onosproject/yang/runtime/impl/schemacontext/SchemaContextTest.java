@@ -28,6 +28,9 @@ import org.onosproject.yang.runtime.impl.DefaultYangModelRegistry;
 
 import java.util.List;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
 import static org.onosproject.yang.runtime.impl.TestUtils.IETFNS;
 import static org.onosproject.yang.runtime.impl.TestUtils.TOPONS;
 import static org.onosproject.yang.runtime.impl.TestUtils.checkLeafSchemaContext;
@@ -101,5 +104,13 @@ public class SchemaContextTest {
         leafs = ((YangLeavesHolder) child).getListOfLeaf();
         checkLeafSchemaContext("network-ref", IETFNS, "network", IETFNS,
                                leafs.get(1));
+
+        // Validating lookup of unknown node, which is answered from the
+        // negative cache when repeated.
+        id = new SchemaId("unknown", IETFNS);
+        assertThat(registry.findChildContext(id).isPresent(), is(false));
+        assertThat(registry.getChildContext(id), nullValue());
+        id = new SchemaId("networks", IETFNS);
+        assertThat(registry.findChildContext(id).isPresent(), is(true));
     }
 }
@@ -0,0 +1,201 @@
+/*
+ *  Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.serializers.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.onosproject.yang.model.DataNode;
+import org.onosproject.yang.model.LeafNode;
+import org.onosproject.yang.model.LeafType;
+import org.onosproject.yang.runtime.YangSerializerContext;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static org.onosproject.yang.runtime.SerializerHelper.getModuleNameFromNameSpace;
+import static org.onosproject.yang.serializers.json.DataNodeSiblingPositionType.FIRST_INSTANCE;
+import static org.onosproject.yang.serializers.json.DataNodeSiblingPositionType.LAST_INSTANCE;
+import static org.onosproject.yang.serializers.json.DataNodeSiblingPositionType.SINGLE_INSTANCE_IN_MULTI_NODE;
+
+/**
+ * Represents implementation of data node visitor, which emits the visited
+ * data nodes as JSON tokens directly to a JSON generator, without building
+ * any intermediate JSON text or tree.
+ */
+public class DataNodeJsonStreamVisitor implements DataNodeVisitor {
+    private static final String COLON = ":";
+    private static final String ROOT_MODULE_NAME = "ROOT";
+    private static final String E_WRITE = "Failed to write JSON for data node ";
+
+    private final JsonGenerator generator;
+
+    private final YangSerializerContext jsonSerializerContext;
+
+    private final Deque<String> moduleNameStack = new ArrayDeque<>();
+
+    /**
+     * Creates an instance of data node JSON stream visitor.
+     *
+     * @param generator JSON generator the tokens are written to
+     * @param context   yang serializer context
+     */
+    public DataNodeJsonStreamVisitor(JsonGenerator generator,
+                                     YangSerializerContext context) {
+        this.generator = generator;
+        jsonSerializerContext = context;
+        moduleNameStack.push(ROOT_MODULE_NAME);
+    }
+
+    @Override
+    public void enterDataNode(DataNode dataNode,
+                              DataNodeSiblingPositionType siblingType) {
+        String moduleName = getModuleNameFromDataNode(dataNode);
+        String nodeName = getNodeName(dataNode, moduleName);
+        try {
+            switch (dataNode.type()) {
+                case SINGLE_INSTANCE_NODE:
+                    generator.writeObjectFieldStart(nodeName);
+                    break;
+                case MULTI_INSTANCE_NODE:
+                    if (siblingType == FIRST_INSTANCE ||
+                            siblingType == SINGLE_INSTANCE_IN_MULTI_NODE) {
+                        generator.writeArrayFieldStart(nodeName);
+                    }
+                    generator.writeStartObject();
+                    break;
+                case SINGLE_INSTANCE_LEAF_VALUE_NODE:
+                    generator.writeFieldName(nodeName);
+                    LeafNode sLeafNode = (LeafNode) dataNode;
+                    writeLeafValue(sLeafNode, sLeafNode.asString());
+                    break;
+                case MULTI_INSTANCE_LEAF_VALUE_NODE:
+                    if (siblingType == FIRST_INSTANCE ||
+                            siblingType == SINGLE_INSTANCE_IN_MULTI_NODE) {
+                        generator.writeArrayFieldStart(nodeName);
+                    }
+                    // Empty leaf-list values are skipped, as the tree
+                    // based encoder does.
+                    LeafNode mLeafNode = (LeafNode) dataNode;
+                    String value = mLeafNode.asString();
+                    if (!value.isEmpty()) {
+                        writeLeafValue(mLeafNode, value);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        } catch (IOException e) {
+            throw new SerializerException(E_WRITE + nodeName, e);
+        }
+        moduleNameStack.push(moduleName == null ? ROOT_MODULE_NAME : moduleName);
+    }
+
+    @Override
+    public void exitDataNode(DataNode dataNode,
+                             DataNodeSiblingPositionType siblingType) {
+        try {
+            switch (dataNode.type()) {
+                case SINGLE_INSTANCE_NODE:
+                    generator.writeEndObject();
+                    break;
+                case MULTI_INSTANCE_NODE:
+                    generator.writeEndObject();
+                    if (siblingType == LAST_INSTANCE ||
+                            siblingType == SINGLE_INSTANCE_IN_MULTI_NODE) {
+                        generator.writeEndArray();
+                    }
+                    break;
+                case MULTI_INSTANCE_LEAF_VALUE_NODE:
+                    if (siblingType == LAST_INSTANCE ||
+                            siblingType == SINGLE_INSTANCE_IN_MULTI_NODE) {
+                        generator.writeEndArray();
+                    }
+                    break;
+                default:
+                    break;
+            }
+        } catch (IOException e) {
+            throw new SerializerException(
+                    E_WRITE + dataNode.key().schemaId().name(), e);
+        }
+        moduleNameStack.pop();
+    }
+
+    /**
+     * Writes the value of the leaf node. Numeric and boolean values are
+     * written without quotes, identity values are prefixed with the module
+     * name of their namespace. As with the tree based encoder, a null
+     * numeric or boolean value is written as JSON null and any other null
+     * value as the string "null".
+     *
+     * @param leafNode leaf node
+     * @param value    value of leaf node as string
+     * @throws IOException if the value could not be written
+     */
+    private void writeLeafValue(LeafNode leafNode, String value)
+            throws IOException {
+        if (leafNode.valueNamespace() != null) {
+            String valNamespace = getModuleNameFromNameSpace(
+                    jsonSerializerContext, leafNode.valueNamespace());
+            if (valNamespace != null) {
+                generator.writeString(valNamespace + COLON + value);
+                return;
+            }
+        }
+        LeafType type = leafNode.leafType();
+        if (type == null) {
+            generator.writeString(value);
+            return;
+        }
+        switch (type) {
+            case INT8:
+            case INT16:
+            case UINT8:
+            case INT32:
+            case UINT16:
+            case UINT32:
+                if (!leafNode.hasValue()) {
+                    generator.writeNull();
+                } else {
+                    generator.writeNumber(value);
+                }
+                break;
+            case BOOLEAN:
+                if (!leafNode.hasValue()) {
+                    generator.writeNull();
+                } else {
+                    generator.writeBoolean(Boolean.parseBoolean(value));
+                }
+                break;
+            default:
+                generator.writeString(value);
+        }
+    }
+
+    private String getModuleNameFromDataNode(DataNode dataNode) {
+        String nameSpace = dataNode.key().schemaId().namespace();
+        return getModuleNameFromNameSpace(jsonSerializerContext, nameSpace);
+    }
+
+    private String getNodeName(DataNode dataNode, String moduleName) {
+        String nodeName = dataNode.key().schemaId().name();
+        if (moduleName != null && !moduleName.equals(moduleNameStack.peek())) {
+            return moduleName + COLON + nodeName;
+        }
+        return nodeName;
+    }
+}
@@ -16,18 +16,25 @@
 
 package org.onosproject.yang.serializers.json;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.onosproject.yang.model.DataNode;
 import org.onosproject.yang.model.ResourceId;
 import org.onosproject.yang.runtime.SerializerHelper;
 import org.onosproject.yang.runtime.YangSerializerContext;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Utilities for parsing URI and JSON strings.
  */
 public final class DecoderUtils {
 
+    private static final String E_NOT_OBJECT = "JSON data must be an object";
+
     // no instantiation
     private DecoderUtils() {
     }
@@ -85,4 +92,74 @@ public final class DecoderUtils {
         // returning the updated data node builder
         return jsonWalker.rootBuilder().build();
     }
+
+    /**
+     * Converts JSON data read from the given parser to a data node. The
+     * data node is built while the JSON tokens are read, without building
+     * a JSON tree. This method should be used when the URI corresponding
+     * to the JSON body is null.
+     *
+     * @param parser  JSON parser over the given JSON data
+     * @param context YANG serializer context corresponding
+     *                to the target data node
+     * @return data node, or null if the JSON data is empty
+     * @throws IOException if the JSON data could not be read
+     */
+    public static DataNode convertJsonToDataNode(JsonParser parser,
+                                                 YangSerializerContext context)
+            throws IOException {
+        if (parser == null || context == null || !startJson(parser)) {
+            return null;
+        }
+        return walkJsonParser(parser, SerializerHelper.
+                initializeDataNode(context));
+    }
+
+    /**
+     * Converts JSON data read from the given parser to data nodes. The
+     * data nodes are built while the JSON tokens are read, without building
+     * a JSON tree. This method should be used when the JSON body has a
+     * valid URI associated with it; each root level node of the JSON data
+     * is returned as a separate data node.
+     *
+     * @param parser     JSON parser over the given JSON data
+     * @param ridBuilder resource ID builder corresponding
+     *                   to the target data node
+     * @return list of data nodes, empty if the JSON data is empty
+     * @throws IOException if the JSON data could not be read
+     */
+    public static List<DataNode> convertJsonToDataNodes(
+            JsonParser parser, ResourceId.Builder ridBuilder)
+            throws IOException {
+        if (parser == null || ridBuilder == null || !startJson(parser)) {
+            return new ArrayList<>();
+        }
+        DefaultJsonWalker jsonWalker = new DefaultJsonWalker(ridBuilder);
+        jsonWalker.walkJsonParser(parser);
+        List<DataNode> dataNodes = jsonWalker.rootNodes();
+        if (dataNodes.isEmpty()) {
+            dataNodes.add(jsonWalker.rootBuilder().build());
+        }
+        return dataNodes;
+    }
+
+    private static boolean startJson(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            return false;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new SerializerException(E_NOT_OBJECT);
+        }
+        return true;
+    }
+
+    private static DataNode walkJsonParser(JsonParser parser,
+                                           DataNode.Builder dataNodeBuilder)
+            throws IOException {
+        DefaultJsonWalker jsonWalker = new DefaultJsonWalker(dataNodeBuilder);
+        jsonWalker.walkJsonParser(parser);
+        // returning the updated data node builder
+        return jsonWalker.rootBuilder().build();
+    }
 }
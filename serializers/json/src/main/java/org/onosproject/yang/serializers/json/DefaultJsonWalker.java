@@ -16,15 +16,24 @@
 
 package org.onosproject.yang.serializers.json;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
 import org.onosproject.yang.model.DataNode;
+import org.onosproject.yang.model.ResourceId;
 import org.onosproject.yang.runtime.SerializerHelper;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
+import static com.fasterxml.jackson.core.JsonToken.END_ARRAY;
+import static com.fasterxml.jackson.core.JsonToken.FIELD_NAME;
+import static com.fasterxml.jackson.core.JsonToken.START_OBJECT;
 import static org.onosproject.yang.model.DataNode.Type.MULTI_INSTANCE_LEAF_VALUE_NODE;
 import static org.onosproject.yang.model.DataNode.Type.MULTI_INSTANCE_NODE;
 import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_LEAF_VALUE_NODE;
@@ -37,8 +46,12 @@ import static org.onosproject.yang.serializers.utils.SerializersUtil.getPreSegme
  */
 public class DefaultJsonWalker implements JsonWalker {
     private static final String COLON = ":";
+    private static final String E_EOF = "Unexpected end of JSON input";
+    private static final String E_ARRAY = "Unsupported element in JSON array ";
 
     private DataNode.Builder dataNodeBuilder;
+    private final ResourceId.Builder ridBuilder;
+    private final List<DataNode> rootNodes = new ArrayList<>();
 
     /**
      * Creates an instance of JSON object node walker.
@@ -47,6 +60,30 @@ public class DefaultJsonWalker implements JsonWalker {
      */
     public DefaultJsonWalker(DataNode.Builder db) {
         dataNodeBuilder = db;
+        ridBuilder = null;
+    }
+
+    /**
+     * Creates an instance of JSON object node walker for JSON data whose
+     * root level nodes are children of the node identified by the given
+     * resource ID. Each root level node walked is collected as a separate
+     * data node.
+     *
+     * @param rb resource ID builder of the parent of the root level nodes
+     */
+    public DefaultJsonWalker(ResourceId.Builder rb) {
+        dataNodeBuilder = SerializerHelper.initializeDataNode(rb);
+        ridBuilder = rb;
+    }
+
+    /**
+     * Returns the root level data nodes collected while walking JSON data
+     * under a resource ID.
+     *
+     * @return list of root level data nodes
+     */
+    public List<DataNode> rootNodes() {
+        return rootNodes;
     }
 
     /**
@@ -138,6 +175,99 @@ public class DefaultJsonWalker implements JsonWalker {
         }
     }
 
+    @Override
+    public void walkJsonParser(JsonParser parser) throws IOException {
+        walkJsonObjectFields(parser);
+    }
+
+    /**
+     * Walks the fields of the JSON object whose start token was the last
+     * token read from the parser, up to and including its end token.
+     *
+     * @param parser JSON parser
+     * @throws IOException if the JSON data could not be read
+     */
+    private void walkJsonObjectFields(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        while (token == FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            walkJsonToken(fieldName, nextToken(parser), parser);
+            token = parser.nextToken();
+        }
+    }
+
+    private void walkJsonToken(String fieldName, JsonToken token,
+                               JsonParser parser) throws IOException {
+        switch (token) {
+            case START_OBJECT:
+                addSingleInstanceNodeToDataTree(fieldName);
+                walkJsonObjectFields(parser);
+                break;
+            case START_ARRAY:
+                walkJsonArray(fieldName, parser);
+                // Don't move up, as we are already at the parent node.
+                return;
+            default:
+                //the node has no children, so add it as leaf node to the data tree.
+                addLeafDataNode(fieldName, parser.getText(),
+                                SINGLE_INSTANCE_LEAF_VALUE_NODE);
+        }
+        exitStreamedNode();
+    }
+
+    /**
+     * Moves up from the node whose walk is complete. A node without a
+     * parent is a root level node; when walking under a resource ID it is
+     * collected and walking restarts from the resource ID for the next
+     * root level node.
+     */
+    private void exitStreamedNode() {
+        if (dataNodeBuilder.parent() != null) {
+            dataNodeBuilder = SerializerHelper.exitDataNode(dataNodeBuilder);
+        } else if (ridBuilder != null) {
+            rootNodes.add(dataNodeBuilder.build());
+            dataNodeBuilder = SerializerHelper.initializeDataNode(ridBuilder);
+        }
+    }
+
+    /**
+     * Walks the elements of a JSON array. Whether the array is a leaf-list
+     * or a multi-instance node is decided by its first element, so the
+     * array never needs to be buffered.
+     *
+     * @param fieldName field name of the array
+     * @param parser    JSON parser
+     * @throws IOException if the JSON data could not be read
+     */
+    private void walkJsonArray(String fieldName, JsonParser parser)
+            throws IOException {
+        JsonToken token = nextToken(parser);
+        boolean isLeafList = token.isScalarValue();
+        while (token != END_ARRAY) {
+            if (isLeafList && token.isScalarValue()) {
+                addLeafDataNode(fieldName, parser.getText(),
+                                MULTI_INSTANCE_LEAF_VALUE_NODE);
+                exitStreamedNode();
+            } else if (!isLeafList && token == START_OBJECT) {
+                // Each element is an instance of multi-instance node.
+                addMultiInstanceNodeToDataTree(fieldName);
+                walkJsonObjectFields(parser);
+                exitStreamedNode();
+            } else {
+                throw new SerializerException(E_ARRAY + fieldName);
+            }
+            token = nextToken(parser);
+        }
+    }
+
+    private static JsonToken nextToken(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            throw new SerializerException(E_EOF);
+        }
+        return token;
+    }
+
     private void addDataNode(String fieldName, String value, String valNamespace,
                              DataNode.Type nodeType) {
         String nodeName = getLatterSegment(fieldName, COLON);
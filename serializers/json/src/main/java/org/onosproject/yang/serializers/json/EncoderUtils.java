@@ -16,12 +16,14 @@
 
 package org.onosproject.yang.serializers.json;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.onosproject.yang.model.DataNode;
 import org.onosproject.yang.model.InnerNode;
 import org.onosproject.yang.model.NodeKey;
 import org.onosproject.yang.runtime.YangSerializerContext;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -73,6 +75,39 @@ public final class EncoderUtils {
         return jsonBuilder.getTreeNode();
     }
 
+    /**
+     * Writes a data node as JSON data to the given JSON generator. Unlike
+     * {@link #convertDataNodeToJson(DataNode, YangSerializerContext)} no
+     * intermediate JSON text or tree is built; the tokens are emitted as
+     * the data node tree is walked.
+     *
+     * @param dataNode  given data node
+     * @param context   jsonserializer context
+     * @param generator JSON generator the data is written to
+     * @throws IOException if the JSON data could not be written
+     */
+    public static void writeDataNodeToJson(DataNode dataNode,
+                                           YangSerializerContext context,
+                                           JsonGenerator generator)
+            throws IOException {
+        checkNotNull(dataNode, "data node cannot be null");
+        checkNotNull(generator, "generator cannot be null");
+
+        DataNodeVisitor treeNodeListener =
+                new DataNodeJsonStreamVisitor(generator, context);
+
+        DataNodeSiblingPositionType siblingType = (dataNode.type() == MULTI_INSTANCE_NODE) ?
+                FIRST_INSTANCE : NOT_MULTI_INSTANCE_NODE;
+        generator.writeStartObject();
+        walkDataNodeTree(treeNodeListener, dataNode, siblingType);
+        if (dataNode.type() == MULTI_INSTANCE_NODE) {
+            // The walker leaves the array of a multi-instance root open.
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+        generator.flush();
+    }
+
     private static void walkDataNodeTree(DataNodeVisitor dataNodeVisitor,
                                          DataNode dataNode,
                                          DataNodeSiblingPositionType siblingType) {
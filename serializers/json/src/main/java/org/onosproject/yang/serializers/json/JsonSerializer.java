@@ -16,10 +16,10 @@
 
 package org.onosproject.yang.serializers.json;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import org.apache.commons.io.IOUtils;
 import org.onosproject.yang.model.DataNode;
 import org.onosproject.yang.model.DefaultResourceData;
 import org.onosproject.yang.model.ResourceData;
@@ -32,12 +32,18 @@ import org.onosproject.yang.runtime.YangSerializer;
 import org.onosproject.yang.runtime.YangSerializerContext;
 import org.slf4j.Logger;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static org.onosproject.yang.serializers.json.DecoderUtils.convertJsonToDataNode;
-import static org.onosproject.yang.serializers.json.EncoderUtils.convertDataNodeToJson;
+import static org.onosproject.yang.serializers.json.DecoderUtils.convertJsonToDataNodes;
+import static org.onosproject.yang.serializers.json.EncoderUtils.writeDataNodeToJson;
 import static org.onosproject.yang.serializers.utils.SerializersUtil.convertRidToUri;
 import static org.onosproject.yang.serializers.utils.SerializersUtil.convertUriToRid;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -48,6 +54,7 @@ import static org.slf4j.LoggerFactory.getLogger;
 public class JsonSerializer implements YangSerializer {
     private static final String JSON_FORMAT = "JSON";
     private static final String ERROR_INFO = "JSON serializer decode failure";
+    private static final String ENCODE_ERROR_INFO = "JSON serializer encode failure";
 
     private final Logger log = getLogger(getClass());
     private final ObjectMapper mapper = new ObjectMapper();
@@ -68,33 +75,37 @@ public class JsonSerializer implements YangSerializer {
             ResourceId.Builder rIdBuilder = convertUriToRid(
                     compositeStream.resourceId(), yangSerializerContext);
 
-            ObjectNode rootNode = null;
-
+            List<DataNode> dataNodes = new ArrayList<>();
             if (compositeStream.resourceData() != null) {
-                rootNode = (ObjectNode) mapper().
-                        readTree(compositeStream.resourceData());
+                try (JsonParser parser = mapper().getFactory()
+                        .createParser(compositeStream.resourceData())) {
+                    /*
+                     * initializeDataNode by passing yangSerializerContext is
+                     * intended to be used in a scenario wherein URL is NULL.
+                     * initializeDataNode by passing resourceIdBuilder is
+                     * intended to be used in a scenario when URL is not NULL
+                     * and in this case the resourceId builder which was
+                     * constructed for a URL, needs to be given as an Input
+                     * parameter.
+                     */
+                    if (rIdBuilder != null) {
+                        dataNodes = convertJsonToDataNodes(parser, rIdBuilder);
+                    } else {
+                        dataNodes.add(convertJsonToDataNode(
+                                parser, yangSerializerContext));
+                    }
+                }
             }
 
-            DataNode dataNode;
-            /*
-             * initializeDataNode by passing yangSerializerContext is
-             * intended to be used in a scenario wherein URL is NULL.
-             * initializeDataNode by passing resourceIdBuilder is
-             * intended to be used in a scenario when URL is not NULL
-             * and in this case the resourceId builder which was constructed
-             * for a URL, needs to be given as an Input parameter.
-             */
-            if (rIdBuilder != null) {
-                dataNode = convertJsonToDataNode(rootNode,
-                                                 rIdBuilder);
-
-            } else {
-                dataNode = convertJsonToDataNode(rootNode,
-                                                 yangSerializerContext);
+            DefaultResourceData.Builder resourceDataBuilder =
+                    DefaultResourceData.builder();
+            if (dataNodes.isEmpty()) {
+                resourceDataBuilder.addDataNode(null);
             }
-
-            ResourceData resourceData = DefaultResourceData.builder()
-                    .addDataNode(dataNode)
+            for (DataNode dataNode : dataNodes) {
+                resourceDataBuilder.addDataNode(dataNode);
+            }
+            ResourceData resourceData = resourceDataBuilder
                     .resourceId(rIdBuilder == null ? null : rIdBuilder.build())
                     .build();
             return DefaultCompositeData.builder().resourceData(resourceData).build();
@@ -115,20 +126,50 @@ public class JsonSerializer implements YangSerializer {
                                   YangSerializerContext yangSerializerContext) {
         checkNotNull(compositeData, "compositeData cannot be null");
 
-        String uriString = convertRidToUri(compositeData.resourceData().
-                resourceId(), yangSerializerContext);
         InputStream inputStream = null;
-        ObjectNode rootNode = null;
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        String uriString = encode(compositeData, yangSerializerContext,
+                                  outputStream);
 
-        if (compositeData.resourceData().dataNodes() != null) {
-            rootNode = convertDataNodeToJson(compositeData.
-                    resourceData().dataNodes().get(0), yangSerializerContext);
-        }
-
-        if (rootNode != null) {
-            inputStream = IOUtils.toInputStream(rootNode.toString());
+        if (outputStream.size() > 0) {
+            inputStream = new ByteArrayInputStream(outputStream.toByteArray());
         }
         // return a CompositeStream
         return new DefaultCompositeStream(uriString, inputStream);
     }
+
+    /**
+     * Encodes the resource data of the given composite data as JSON
+     * directly to the given output stream. The JSON tokens are emitted
+     * while the data node tree is walked, so the encoded text is never
+     * held in memory as a whole. The output stream is not closed.
+     *
+     * @param compositeData         composite data to be encoded
+     * @param yangSerializerContext yang serializer context
+     * @param outputStream          output stream the JSON data is written to
+     * @return URI corresponding to the resource identifier of the
+     * composite data
+     */
+    public String encode(CompositeData compositeData,
+                         YangSerializerContext yangSerializerContext,
+                         OutputStream outputStream) {
+        checkNotNull(compositeData, "compositeData cannot be null");
+        checkNotNull(outputStream, "outputStream cannot be null");
+
+        String uriString = convertRidToUri(compositeData.resourceData().
+                resourceId(), yangSerializerContext);
+
+        if (compositeData.resourceData().dataNodes() != null) {
+            DataNode dataNode = compositeData.resourceData().dataNodes().get(0);
+            try (JsonGenerator generator = mapper().getFactory()
+                    .createGenerator(outputStream)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+                writeDataNodeToJson(dataNode, yangSerializerContext, generator);
+            } catch (IOException e) {
+                log.error("ERROR: encode ", e);
+                throw new SerializerException(ENCODE_ERROR_INFO, e);
+            }
+        }
+        return uriString;
+    }
 }
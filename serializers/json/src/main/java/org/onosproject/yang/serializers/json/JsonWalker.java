@@ -16,8 +16,11 @@
 
 package org.onosproject.yang.serializers.json;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 
+import java.io.IOException;
+
 /**
  * Abstraction of an entity which provides interfaces for Json walk. This interface serve as common tools
  * for anyone who needs to parse the json node with depth-first algorithm.
@@ -35,4 +38,16 @@ public interface JsonWalker {
      * @param jsonNode  the json node which needs to be walk
      */
     void walkJsonNode(String fieldName, JsonNode jsonNode);
+
+    /**
+     * Walks the JSON data as a stream of tokens read from the given parser.
+     * Unlike {@link #walkJsonNode(String, JsonNode)} no JSON tree is built;
+     * the call backs are invoked as the tokens are read. The parser must be
+     * positioned at the start of the root JSON object, which is consumed
+     * up to and including its end.
+     *
+     * @param parser JSON parser positioned at the start of the root object
+     * @throws IOException if the JSON data could not be read
+     */
+    void walkJsonParser(JsonParser parser) throws IOException;
 }
@@ -16,6 +16,9 @@
 
 package org.onosproject.yang.serializers.json;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.commons.io.IOUtils;
@@ -25,6 +28,7 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.onosproject.yang.model.DataNode;
 import org.onosproject.yang.model.DefaultResourceData;
+import org.onosproject.yang.model.InnerNode;
 import org.onosproject.yang.model.NodeKey;
 import org.onosproject.yang.model.ResourceData;
 import org.onosproject.yang.model.ResourceId;
@@ -40,6 +44,8 @@ import org.onosproject.yang.runtime.YangSerializerContext;
 import org.slf4j.Logger;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStream;
@@ -54,6 +60,12 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.onosproject.yang.model.DataNode.Type.MULTI_INSTANCE_LEAF_VALUE_NODE;
+import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_LEAF_VALUE_NODE;
+import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_NODE;
+import static org.onosproject.yang.model.LeafType.BOOLEAN;
+import static org.onosproject.yang.model.LeafType.INT32;
+import static org.onosproject.yang.model.LeafType.STRING;
 import static org.onosproject.yang.serializers.utils.SerializersUtil.convertRidToUri;
 import static org.slf4j.LoggerFactory.getLogger;
 
@@ -180,6 +192,84 @@ public class JsonSerializerTest {
         assertEquals(rootNodeOutput.toString(), outputIdTestJson1);
     }
 
+    @Test
+    public void jsonListStreamTest() throws IOException {
+        String path = "src/test/resources/testinput1.json";
+        // decode
+        DefaultCompositeStream external =
+                new DefaultCompositeStream("jsonlist:top1", parseInput(path));
+        CompositeData compositeData = jsonSerializer.decode(external, context);
+
+        // encode straight to the output stream
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        String uri = ((JsonSerializer) jsonSerializer).encode(
+                compositeData, context, outputStream);
+        assertThat(uri, is("jsonlist:top1"));
+        assertEquals(outputStream.toString("UTF-8"), outputIdTestJson1);
+    }
+
+    /**
+     * Checks that the streaming decoder returns every node at the root
+     * level of a JSON body given under a URI as a separate data node.
+     */
+    @Test
+    public void multipleRootNodesTest() {
+        String json = "{\"jsonlist:c2\":{\"leaf1\":1}," +
+                "\"jsonlist:l1\":[{\"k1\":\"a\",\"k2\":\"b\"," +
+                "\"k3\":\"c\"}]}";
+        DefaultCompositeStream external = new DefaultCompositeStream(
+                "jsonlist:top1", new ByteArrayInputStream(json.getBytes()));
+        CompositeData compositeData = jsonSerializer.decode(external, context);
+        List<DataNode> dataNodes = compositeData.resourceData().dataNodes();
+        assertThat(dataNodes.size(), is(2));
+        assertThat(dataNodes.get(0).key().schemaId().name(), is("c2"));
+        assertThat(dataNodes.get(1).key().schemaId().name(), is("l1"));
+        assertThat(((InnerNode) dataNodes.get(1)).childNodes().size(), is(3));
+    }
+
+    /**
+     * Checks that the streaming encoder writes null leaf values and skips
+     * empty leaf-list values as the tree based encoder does.
+     *
+     * @throws IOException if encoding fails
+     */
+    @Test
+    public void nullAndEmptyValueStreamTest() throws IOException {
+        String ns = "unknown:ns";
+        DataNode node = InnerNode.builder("c", ns)
+                .type(SINGLE_INSTANCE_NODE)
+                .createChildBuilder("str", ns, null)
+                .type(SINGLE_INSTANCE_LEAF_VALUE_NODE).leafType(STRING)
+                .exitNode()
+                .createChildBuilder("num", ns, null)
+                .type(SINGLE_INSTANCE_LEAF_VALUE_NODE).leafType(INT32)
+                .exitNode()
+                .createChildBuilder("bool", ns, null)
+                .type(SINGLE_INSTANCE_LEAF_VALUE_NODE).leafType(BOOLEAN)
+                .exitNode()
+                .createChildBuilder("ll", ns, "a")
+                .type(MULTI_INSTANCE_LEAF_VALUE_NODE).leafType(STRING)
+                .addLeafListValue("a").exitNode()
+                .createChildBuilder("ll", ns, "")
+                .type(MULTI_INSTANCE_LEAF_VALUE_NODE).leafType(STRING)
+                .addLeafListValue("").exitNode()
+                .build();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        JsonGenerator generator = new JsonFactory()
+                .createGenerator(outputStream);
+        EncoderUtils.writeDataNodeToJson(node, context, generator);
+
+        JsonNode c = new ObjectMapper().readTree(
+                outputStream.toString("UTF-8")).get("c");
+        assertThat(c.get("str").isTextual(), is(true));
+        assertThat(c.get("str").asText(), is("null"));
+        assertThat(c.get("num").isNull(), is(true));
+        assertThat(c.get("bool").isNull(), is(true));
+        assertThat(c.get("ll").size(), is(1));
+        assertThat(c.get("ll").get(0).asText(), is("a"));
+    }
+
     @Test
     public void identityValueNsTest() throws IOException {
         String path = "src/test/resources/id-test1.json";
@@ -222,6 +312,16 @@ public class JsonSerializerTest {
         jsonSerializer.decode(external, context);
     }
 
+    @Test
+    public void mixedArrayErrorTest() {
+        thrown.expect(SerializerException.class);
+        thrown.expectMessage("Unsupported element in JSON array leaflist1");
+        String json = "{\"jsonlist:c2\":{\"leaflist1\":[\"a\",{\"b\":1}]}}";
+        DefaultCompositeStream external = new DefaultCompositeStream(
+                "jsonlist:top1", IOUtils.toInputStream(json));
+        jsonSerializer.decode(external, context);
+    }
+
     @Test
     public void testContainerInResourceIdToUri() {
         ResourceId rid = ResourceId.builder().addBranchPointSchema("/", null)
@@ -34,13 +34,17 @@ import org.onosproject.yang.runtime.SerializerHelper;
 import org.onosproject.yang.runtime.YangSerializerContext;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
@@ -57,6 +61,8 @@ public final class SerializersUtil {
     private static final String QUOTES = "\"";
     private static final String ROOT_ELEMENT_START = "<root ";
     private static final String ROOT_ELEMENT_END = "</root>";
+    private static final String ROOT_ELEMENT_CLOSE = ">";
+    private static final String SPACE = " ";
     private static final String URI_ENCODING_CHAR_SET = "ISO-8859-1";
     private static final String UTF8_ENCODING = "utf-8";
     private static final String ERROR_LIST_MSG = "List/Leaf-list node should be " +
@@ -78,7 +84,10 @@ public final class SerializersUtil {
      * @param element XML element
      * @param id      resource id of an element
      * @return annotated node info
+     * @deprecated XML is decoded from a stream reader, which reads the
+     * attributes of an element as it is entered
      */
+    @Deprecated
     public static AnnotatedNodeInfo convertXmlAttributesToAnnotations(Element element,
                                                                       ResourceId id) {
         Iterator iter = element.attributeIterator();
@@ -106,7 +115,10 @@ public final class SerializersUtil {
      * @return XML with root element
      * @throws DocumentException if root element cannot be created
      * @throws IOException       if input data cannot be read
+     * @deprecated use {@link #wrapWithRootElement(InputStream, List)}, which
+     * does not copy the XML data
      */
+    @Deprecated
     public static String addRootElementWithAnnotation(InputStream inputStream,
                                                       List<Annotation>
                                                               protocolAnnotation)
@@ -131,6 +143,45 @@ public final class SerializersUtil {
         return rootElement.toString();
     }
 
+    /**
+     * Wraps the XML data with a root element carrying the given protocol
+     * annotations as attributes. The XML data is neither read nor copied;
+     * the root element is emitted around the given stream as it is
+     * consumed, which also preserves line breaks in the XML data.
+     *
+     * @param inputStream        XML data
+     * @param protocolAnnotation list of annotations for root element
+     * @return XML data stream with root element
+     */
+    public static InputStream wrapWithRootElement(InputStream inputStream,
+                                                  List<Annotation>
+                                                          protocolAnnotation) {
+        StringBuilder rootElement = new StringBuilder(ROOT_ELEMENT_START);
+        if (protocolAnnotation != null) {
+            for (Annotation annotation : protocolAnnotation) {
+                rootElement.append(annotation.name()).append(EQUAL)
+                        .append(QUOTES).append(escapeXmlAttribute(
+                        annotation.value())).append(QUOTES).append(SPACE);
+            }
+        }
+        rootElement.append(ROOT_ELEMENT_CLOSE);
+        return new SequenceInputStream(Collections.enumeration(Arrays.asList(
+                toUtf8Stream(rootElement.toString()), inputStream,
+                toUtf8Stream(ROOT_ELEMENT_END))));
+    }
+
+    private static InputStream toUtf8Stream(String data) {
+        return new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String escapeXmlAttribute(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replace("&", "&amp;").replace("<", "&lt;")
+                .replace(QUOTES, "&quot;");
+    }
+
     /**
      * Converts a URI string to resource identifier.
      *
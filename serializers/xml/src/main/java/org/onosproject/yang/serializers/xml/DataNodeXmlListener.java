@@ -16,9 +16,10 @@
 
 package org.onosproject.yang.serializers.xml;
 
-import org.dom4j.Element;
 import org.onosproject.yang.model.DataNode;
+import org.onosproject.yang.model.InnerNode;
 import org.onosproject.yang.model.KeyLeaf;
+import org.onosproject.yang.model.LeafListKey;
 import org.onosproject.yang.model.LeafNode;
 import org.onosproject.yang.model.ListKey;
 import org.onosproject.yang.model.NodeKey;
@@ -27,36 +28,38 @@ import org.onosproject.yang.model.SchemaId;
 import org.onosproject.yang.runtime.Annotation;
 import org.onosproject.yang.runtime.DataNodeListener;
 
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
-import java.util.Stack;
+
+import static org.onosproject.yang.serializers.xml.XmlSerializerListener.COLON;
 
 /**
- * Represents implementation of data node listener.
+ * Represents implementation of data node listener, which writes the XML
+ * of the visited data nodes directly to a XML stream writer.
  */
 class DataNodeXmlListener implements DataNodeListener {
 
     /**
-     * Stack for element is maintained for hierarchical references, this is
-     * used during data node walker and preparation of XML.
-     */
-    private final Stack<Element> elementStack = new Stack<>();
-
-    /**
-     * Root element of XML.
+     * Stack of the default namespaces of the open elements, this is used to
+     * declare the namespace of an element only when it differs from the
+     * namespace of its parent.
      */
-    private Element rootElement;
+    private final Deque<String> namespaceStack = new ArrayDeque<>();
 
     /**
-     * XML string for data node.
+     * XML stream writer to which the XML is written.
      */
-    private String xmlData = EMPTY_STRING;
+    private final XMLStreamWriter writer;
 
     /**
      * Annotation map used to search list of annotations associated with
      * resource id.
      */
-    private Map<ResourceId, List<Annotation>> annotationMap;
+    private final Map<ResourceId, List<Annotation>> annotationMap;
 
     /**
      * Resource id builder.
@@ -65,90 +68,121 @@ class DataNodeXmlListener implements DataNodeListener {
 
     private static final String FORWARD_SLASH = "/";
     private static final String EMPTY_STRING = "";
+    private static final String XML_PREFIX = "yangid";
 
     /**
      * Creates a new data node XML serializer listener.
      *
      * @param annotations annotation map with resource id as key
      * @param ridBuilder  resource id builder
+     * @param writer      XML stream writer
      */
     DataNodeXmlListener(Map<ResourceId, List<Annotation>> annotations,
-                        ResourceId.Builder ridBuilder) {
+                        ResourceId.Builder ridBuilder,
+                        XMLStreamWriter writer) {
         annotationMap = annotations;
         rIdBuilder = ridBuilder;
-    }
-
-    /**
-     * Sets the root XML element.
-     *
-     * @param rootElement root element
-     */
-    public void rootElement(Element rootElement) {
-        this.rootElement = rootElement;
-    }
-
-    /**
-     * Returns XML string.
-     *
-     * @return XML string
-     */
-    public String xmlData() {
-        return xmlData;
+        this.writer = writer;
     }
 
     @Override
     public void enterDataNode(DataNode node) {
-        if (!isRootDataNode(node)) {
-            SerializerHandlerFactory factory = SerializerHandlerFactory.instance();
-            XmlSerializerHandler handler =
-                    factory.getSerializerHandlerForContext(node);
-            try {
-                if (handler != null) {
-                    Element element = handler.processXmlContext(node,
-                                                                elementStack);
-                    if (elementStack.isEmpty()) {
-                        rootElement(element);
-                    }
-                    elementStack.push(element);
-
-                    // search in map whether there is entry for this resource id
-                    ResourceId id = getResourceId(node);
-                    List<Annotation> annotations = annotationMap.get(id);
-
-                    /**
-                     * If there is annotations for given resource id then get
-                     * list of annotations and add as attribute
-                     */
-                    if (annotations != null) {
-                        for (Annotation annotation : annotations) {
-                            element.addAttribute(annotation.name(),
-                                                 annotation.value());
-                        }
+        if (isRootDataNode(node)) {
+            return;
+        }
+        try {
+            SchemaId schemaId = node.key().schemaId();
+            boolean isTopElement = namespaceStack.isEmpty();
+            String nameSpace = schemaId.namespace();
+            String parentNs = isTopElement ? null : namespaceStack.peek();
+
+            /*
+             * Top level elements always carry their namespace declaration
+             * and are written with start and end tags.
+             */
+            if (isEmptyElement(node) && !(isTopElement && nameSpace != null)) {
+                writer.writeEmptyElement(schemaId.name());
+            } else {
+                writer.writeStartElement(schemaId.name());
+            }
+            if (nameSpace != null && !nameSpace.equals(parentNs)) {
+                writer.writeDefaultNamespace(nameSpace);
+            }
+            namespaceStack.push(nameSpace != null ? nameSpace :
+                                        parentNs != null ? parentNs :
+                                                EMPTY_STRING);
+
+            String valueNs = null;
+            if (node instanceof LeafNode) {
+                valueNs = ((LeafNode) node).valueNamespace();
+                if (valueNs != null) {
+                    writer.writeNamespace(XML_PREFIX, valueNs);
+                }
+            }
+
+            // search in map whether there is entry for this resource id
+            if (!annotationMap.isEmpty()) {
+                List<Annotation> annotations =
+                        annotationMap.get(getResourceId(node));
+                /*
+                 * If there is annotations for given resource id then get
+                 * list of annotations and add as attribute
+                 */
+                if (annotations != null) {
+                    for (Annotation annotation : annotations) {
+                        writer.writeAttribute(annotation.name(),
+                                              annotation.value());
                     }
                 }
-            } catch (Exception e) {
-                throw new XmlSerializerException(e.getMessage());
             }
 
-            if (handler != null) {
-                handler.setXmlValue(node, elementStack);
+            if (node instanceof LeafNode && ((LeafNode) node).hasValue()) {
+                String value = ((LeafNode) node).asString();
+                writer.writeCharacters(valueNs != null ?
+                                               XML_PREFIX + COLON + value :
+                                               value);
             }
+        } catch (Exception e) {
+            throw new XmlSerializerException(e.getMessage());
         }
     }
 
     @Override
     public void exitDataNode(DataNode dataNode) {
-        if (!elementStack.isEmpty() &&
-                elementStack.peek().equals(rootElement)) {
-            xmlData = xmlData + rootElement.asXML();
+        if (isRootDataNode(dataNode)) {
+            return;
         }
-
-        if (!isRootDataNode(dataNode)) {
-            elementStack.pop();
+        namespaceStack.pop();
+        boolean isTopElement = namespaceStack.isEmpty();
+        try {
+            if (!isEmptyElement(dataNode) ||
+                    (isTopElement &&
+                            dataNode.key().schemaId().namespace() != null)) {
+                writer.writeEndElement();
+            }
+        } catch (XMLStreamException e) {
+            throw new XmlSerializerException(e.getMessage());
+        }
+        if (!annotationMap.isEmpty()) {
             rIdBuilder.removeLastKey();
         }
     }
 
+    /**
+     * Returns true if the data node is written as an element without
+     * content.
+     *
+     * @param node data node
+     * @return true if the data node has neither children nor value
+     */
+    private static boolean isEmptyElement(DataNode node) {
+        if (node instanceof InnerNode) {
+            Map<NodeKey, DataNode> children = ((InnerNode) node).childNodes();
+            return children == null || children.isEmpty();
+        }
+        return node instanceof LeafNode && !((LeafNode) node).hasValue();
+    }
+
     /**
      * Returns resource id for the data node.
      *
@@ -159,7 +193,11 @@ class DataNodeXmlListener implements DataNodeListener {
         SchemaId schemaId = dataNode.key().schemaId();
         switch (dataNode.type()) {
             case MULTI_INSTANCE_LEAF_VALUE_NODE:
-                Object valObject = ((LeafNode) dataNode).value();
+                // leaf list key holds the value already boxed
+                NodeKey llKey = dataNode.key();
+                Object valObject = llKey instanceof LeafListKey ?
+                        ((LeafListKey) llKey).value() :
+                        ((LeafNode) dataNode).value();
                 rIdBuilder = rIdBuilder.addLeafListBranchPoint(schemaId.name(),
                                                                schemaId.namespace(),
                                                                valObject);
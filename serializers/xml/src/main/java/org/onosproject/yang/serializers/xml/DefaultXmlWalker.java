@@ -25,7 +25,11 @@ import static org.onosproject.yang.serializers.xml.XmlNodeType.TEXT_NODE;
 
 /**
  * Represents implementation of xml walker.
+ *
+ * @deprecated XML is decoded by the stream walker, which does not build an
+ * element tree
  */
+@Deprecated
 public class DefaultXmlWalker implements XmlWalker {
 
     @Override
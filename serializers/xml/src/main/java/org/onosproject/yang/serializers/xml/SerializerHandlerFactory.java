@@ -30,7 +30,11 @@ import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_NODE;
 /**
  * Represents an xml serializer handle factory to create different types of
  * data node.
+ *
+ * @deprecated XML is encoded by writing data nodes straight to a stream
+ * writer, without building an element tree
  */
+@Deprecated
 public final class SerializerHandlerFactory {
 
     /**
@@ -23,7 +23,11 @@ import org.dom4j.Element;
  * by xml walker while walking the xml data tree. This interface needs to be
  * implemented by protocol implementing listener's based call backs while
  * xml walk.
+ *
+ * @deprecated XML is decoded by the stream walker, which does not build an
+ * element tree
  */
+@Deprecated
 interface XmlListener {
 
     /**
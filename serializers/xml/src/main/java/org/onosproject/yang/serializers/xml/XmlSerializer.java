@@ -16,11 +16,6 @@
 
 package org.onosproject.yang.serializers.xml;
 
-import org.apache.commons.io.IOUtils;
-import org.dom4j.Document;
-import org.dom4j.DocumentException;
-import org.dom4j.DocumentHelper;
-import org.dom4j.Element;
 import org.onosproject.yang.model.DataNode;
 import org.onosproject.yang.model.DefaultResourceData;
 import org.onosproject.yang.model.ResourceData;
@@ -34,24 +29,45 @@ import org.onosproject.yang.runtime.DefaultCompositeStream;
 import org.onosproject.yang.runtime.YangSerializer;
 import org.onosproject.yang.runtime.YangSerializerContext;
 
-import java.io.IOException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
 import static org.onosproject.yang.runtime.DefaultDataNodeWalker.walk;
 import static org.onosproject.yang.runtime.SerializerHelper.initializeDataNode;
-import static org.onosproject.yang.serializers.utils.SerializersUtil.addRootElementWithAnnotation;
 import static org.onosproject.yang.serializers.utils.SerializersUtil.convertRidToUri;
 import static org.onosproject.yang.serializers.utils.SerializersUtil.convertUriToRid;
+import static org.onosproject.yang.serializers.utils.SerializersUtil.wrapWithRootElement;
 
 /**
  * Represents an implementation of XML serializer.
  */
 public class XmlSerializer implements YangSerializer {
     private static final String XML = "xml";
+    private static final String UTF_8 = "UTF-8";
+    private static final XMLInputFactory XML_INPUT_FACTORY =
+            createXmlInputFactory();
+    private static final XMLOutputFactory XML_OUTPUT_FACTORY =
+            XMLOutputFactory.newInstance();
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(
+                XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
 
     @Override
     public String supportsFormat() {
@@ -62,24 +78,28 @@ public class XmlSerializer implements YangSerializer {
     public CompositeData decode(CompositeStream external,
                                 YangSerializerContext context) {
 
+        XMLStreamReader reader = null;
         try {
-            //parse XML input
-            String xmlInput = addRootElementWithAnnotation(
+            //parse XML input, wrapped with the virtual root element
+            InputStream xmlInput = wrapWithRootElement(
                     external.resourceData(), context.getProtocolAnnotations());
-            Document document = DocumentHelper.parseText(xmlInput);
+            reader = XML_INPUT_FACTORY.createXMLStreamReader(xmlInput);
+            // move to the root element
+            reader.nextTag();
 
             // initialize all the required builders
             CompositeData.Builder cBuilder = DefaultCompositeData.builder();
             ResourceData.Builder rdBuilder = DefaultResourceData.builder();
-            XmlWalker walker = new DefaultXmlWalker();
+            XmlStreamWalker walker = new XmlStreamWalker();
             XmlSerializerListener listener = new XmlSerializerListener();
             listener.cBuilder(cBuilder);
 
             String uri = external.resourceId();
             if (uri == null) {
                 listener.dnBuilder(initializeDataNode(context));
-                walker.walk(listener, document.getRootElement(),
-                            document.getRootElement());
+                while (walker.nextChildElement(reader)) {
+                    walker.walk(listener, reader);
+                }
                 rdBuilder = rdBuilder.addDataNode(listener.dnBuilder().build());
             } else {
                 /*
@@ -88,30 +108,58 @@ public class XmlSerializer implements YangSerializer {
                  * resource data
                  */
                 ResourceId.Builder rIdBuilder = convertUriToRid(uri, context);
-                Element rootElement = document.getRootElement();
-                if (rootElement.hasContent() && !rootElement.isTextOnly()) {
-                    Iterator i = rootElement.elementIterator();
-                    while (i.hasNext()) {
-                        Element childElement = (Element) i.next();
-                        listener.dnBuilder(initializeDataNode(rIdBuilder));
-                        walker.walk(listener, childElement, rootElement);
-                        rdBuilder = rdBuilder.addDataNode(listener.dnBuilder()
-                                                                  .build());
-                    }
+                while (walker.nextChildElement(reader)) {
+                    listener.dnBuilder(initializeDataNode(rIdBuilder));
+                    walker.walk(listener, reader);
+                    rdBuilder = rdBuilder.addDataNode(listener.dnBuilder()
+                                                              .build());
                 }
                 rdBuilder.resourceId(rIdBuilder.build());
             }
             return cBuilder.resourceData(rdBuilder.build()).build();
-        } catch (DocumentException e) {
-            throw new XmlSerializerException(e.getMessage());
-        } catch (IOException e) {
+        } catch (XMLStreamException e) {
             throw new XmlSerializerException(e.getMessage());
+        } finally {
+            closeReader(reader);
+        }
+    }
+
+    private static void closeReader(XMLStreamReader reader) {
+        if (reader != null) {
+            try {
+                reader.close();
+            } catch (XMLStreamException e) {
+                // nothing to do, the data has been consumed already
+            }
         }
     }
 
     @Override
     public CompositeStream encode(CompositeData internal,
                                   YangSerializerContext context) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        String uriString = encode(internal, context, outputStream);
+
+        // build composite stream over the encoded XML
+        InputStream inputStream = new ByteArrayInputStream(
+                outputStream.toByteArray());
+        return new DefaultCompositeStream(uriString, inputStream);
+    }
+
+    /**
+     * Encodes the resource data of the given composite data as XML directly
+     * to the given output stream. The XML elements are written while the
+     * data nodes are walked, so the encoded text is never held in memory as
+     * a whole. The output stream is not closed.
+     *
+     * @param internal     composite data to be encoded
+     * @param context      yang serializer context
+     * @param outputStream output stream the XML data is written to
+     * @return URI corresponding to the resource identifier of the
+     * composite data
+     */
+    public String encode(CompositeData internal, YangSerializerContext context,
+                         OutputStream outputStream) {
         String uriString = null;
         ResourceId.Builder builder;
 
@@ -144,18 +192,32 @@ public class XmlSerializer implements YangSerializer {
             }
         }
 
-        // Walk through data node and build the XML
-        List<DataNode> dataNodes = internal.resourceData().dataNodes();
-        StringBuilder sb = new StringBuilder();
-        for (DataNode dataNode : dataNodes) {
-            DataNodeXmlListener listener = new DataNodeXmlListener(annotations,
-                                                                   builder);
-            walk(listener, dataNode);
-            sb.append(listener.xmlData());
+        // Walk through data node and write the XML
+        XMLStreamWriter writer = null;
+        try {
+            writer = XML_OUTPUT_FACTORY.createXMLStreamWriter(outputStream,
+                                                              UTF_8);
+            for (DataNode dataNode : internal.resourceData().dataNodes()) {
+                DataNodeXmlListener listener = new DataNodeXmlListener(
+                        annotations, builder, writer);
+                walk(listener, dataNode);
+            }
+            writer.flush();
+        } catch (XMLStreamException e) {
+            throw new XmlSerializerException(e.getMessage());
+        } finally {
+            closeWriter(writer);
         }
+        return uriString;
+    }
 
-        // convert XML to input stream and build composite stream
-        InputStream inputStream = IOUtils.toInputStream(sb.toString());
-        return new DefaultCompositeStream(uriString, inputStream);
+    private static void closeWriter(XMLStreamWriter writer) {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (XMLStreamException e) {
+                // nothing to do, the data has been flushed already
+            }
+        }
     }
 }
@@ -29,7 +29,11 @@ import static org.onosproject.yang.serializers.xml.XmlSerializerLeafHandler.XML_
 /**
  * Represents an serializer handler to process the XML content and add
  * element to the stack.
+ *
+ * @deprecated XML is encoded by writing data nodes straight to a stream
+ * writer, without building an element tree
  */
+@Deprecated
 public abstract class XmlSerializerHandler {
 
     /**
@@ -26,7 +26,11 @@ import static org.onosproject.yang.serializers.xml.XmlSerializerListener.COLON;
 
 /**
  * Represents a leaf node handler in XML serializer.
+ *
+ * @deprecated XML is encoded by writing data nodes straight to a stream
+ * writer, without building an element tree
  */
+@Deprecated
 public class XmlSerializerLeafHandler extends XmlSerializerHandler {
 
     protected static final String XML_PREFIX = "yangid";
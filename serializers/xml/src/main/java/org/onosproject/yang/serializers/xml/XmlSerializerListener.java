@@ -16,29 +16,30 @@
 
 package org.onosproject.yang.serializers.xml;
 
-import org.dom4j.Element;
-import org.dom4j.Namespace;
 import org.onosproject.yang.model.DataNode;
-import org.onosproject.yang.model.ResourceId;
+import org.onosproject.yang.model.SchemaContext;
 import org.onosproject.yang.runtime.AnnotatedNodeInfo;
+import org.onosproject.yang.runtime.Annotation;
 import org.onosproject.yang.runtime.CompositeData;
+import org.onosproject.yang.runtime.DefaultAnnotatedNodeInfo;
+import org.onosproject.yang.runtime.ExtResourceIdBldr;
 import org.onosproject.yang.runtime.HelperContext;
 
 import java.util.List;
 
+import static org.onosproject.yang.model.DataNode.Type.MULTI_INSTANCE_LEAF_VALUE_NODE;
+import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_LEAF_VALUE_NODE;
 import static org.onosproject.yang.runtime.SerializerHelper.addDataNode;
 import static org.onosproject.yang.runtime.SerializerHelper.exitDataNode;
+import static org.onosproject.yang.runtime.SerializerHelper.getChildSchemaContext;
 import static org.onosproject.yang.runtime.SerializerHelper.getResourceId;
-import static org.onosproject.yang.serializers.utils.SerializersUtil.convertXmlAttributesToAnnotations;
-import static org.onosproject.yang.serializers.utils.SerializersUtil.getLatterSegment;
-import static org.onosproject.yang.serializers.utils.SerializersUtil.getPreSegment;
-import static org.onosproject.yang.serializers.xml.XmlNodeType.OBJECT_NODE;
 import static org.onosproject.yang.serializers.xml.XmlNodeType.TEXT_NODE;
 
 /**
- * Default implementation of XML listener.
+ * Listener building data nodes from the elements walked by the XML stream
+ * walker.
  */
-class XmlSerializerListener implements XmlListener {
+class XmlSerializerListener {
 
     protected static final String COLON = ":";
 
@@ -89,71 +90,73 @@ class XmlSerializerListener implements XmlListener {
     }
 
 
-    @Override
-    public void enterXmlElement(Element element, XmlNodeType nodeType,
-                                Element rootElement) {
-
-        // root element should not be added to data node
-        if (element.equals(rootElement)) {
+    /**
+     * Callback invoked by the XML stream walker during a node entry. The
+     * element is described by its already resolved parts, as there is no
+     * element tree to inspect.
+     *
+     * @param name      name of the element
+     * @param namespace namespace of the element
+     * @param value     text value of the element; for object node, the
+     *                  blank content of the element or null if it has none
+     * @param valueNs   namespace of the value, null if the value is not
+     *                  prefixed with a namespace declared on the element
+     * @param nodeType  xml node type
+     */
+    void enterXmlElement(String name, String namespace, String value,
+                         String valueNs, XmlNodeType nodeType) {
+        if (dnBuilder == null) {
             return;
         }
-
-        if (dnBuilder != null) {
-            if (nodeType == OBJECT_NODE) {
-                List cont = element.content();
-                if (cont != null && cont.size() == 2 &&
-                        isValueNsForLeaf(cont, element)) {
-                    return;
-                }
-                dnBuilder = addDataNode(dnBuilder, element.getName(),
-                                        element.getNamespace().getURI(),
-                                        null, null);
-            } else if (nodeType == TEXT_NODE) {
-                dnBuilder = addDataNode(dnBuilder, element.getName(),
-                                        element.getNamespace().getURI(),
-                                        element.getText(), null, null);
-            }
+        if (nodeType == TEXT_NODE ||
+                (value != null && isLeafElement(name, namespace))) {
+            dnBuilder = addDataNode(dnBuilder, name, namespace, value,
+                                    valueNs, null);
+        } else {
+            dnBuilder = addDataNode(dnBuilder, name, namespace, null, null);
         }
-
     }
 
-    private boolean isValueNsForLeaf(List cont, Element element) {
-        for (Object c : cont) {
-            if (c instanceof Namespace) {
-                String value = element.getText();
-                String valueNs = ((Namespace) c).getURI();
-                if (value != null) {
-                    String actVal = getLatterSegment(value, COLON);
-                    String valPrefix = getPreSegment(value, COLON);
-                    if (valPrefix != null && actVal != null &&
-                            valPrefix.equals(((Namespace) c).getPrefix())) {
-                        dnBuilder = addDataNode(dnBuilder, element.getName(),
-                                                element.getNamespace().getURI(),
-                                                actVal, valueNs, null);
-                        return true;
-                    }
-                }
-            }
+    /**
+     * Returns true if the schema of the given child element of the current
+     * data node is a leaf or leaf-list.
+     *
+     * @param name      name of the element
+     * @param namespace namespace of the element
+     * @return true if the element is a leaf or leaf-list
+     */
+    private boolean isLeafElement(String name, String namespace) {
+        HelperContext info = (HelperContext) dnBuilder.appInfo();
+        ExtResourceIdBldr rIdBldr = info.getResourceIdBuilder();
+        if (rIdBldr == null) {
+            rIdBldr = info.getParentResourceIdBldr();
         }
-        return false;
+        DataNode.Type type = getChildSchemaContext(
+                (SchemaContext) rIdBldr.appInfo(), name, namespace).getType();
+        return type == SINGLE_INSTANCE_LEAF_VALUE_NODE ||
+                type == MULTI_INSTANCE_LEAF_VALUE_NODE;
     }
 
-    @Override
-    public void exitXmlElement(Element element, XmlNodeType nodeType,
-                               Element rootElement) {
-        // Ignore the root element as it is not added to data node
-        if (element.equals(rootElement)) {
-            return;
-        }
-
-        // Build resource Id for annotations
-        ResourceId id = getResourceId(dnBuilder);
-        AnnotatedNodeInfo annotatedNodeInfo =
-                convertXmlAttributesToAnnotations(element, id);
-        if (annotatedNodeInfo != null) {
-            cBuilder.addAnnotatedNodeInfo(annotatedNodeInfo);
+    /**
+     * Callback invoked by the XML stream walker during a node exit.
+     *
+     * @param annotations annotations converted from the XML attributes of
+     *                    the element, empty if it has no attributes
+     */
+    void exitXmlElement(List<Annotation> annotations) {
+        if (!annotations.isEmpty()) {
+            // Build resource Id for annotations
+            AnnotatedNodeInfo.Builder builder = DefaultAnnotatedNodeInfo
+                    .builder().resourceId(getResourceId(dnBuilder));
+            for (Annotation annotation : annotations) {
+                builder = builder.addAnnotation(annotation);
+            }
+            cBuilder.addAnnotatedNodeInfo(builder.build());
         }
+        exitCurrentNode();
+    }
 
+    private void exitCurrentNode() {
         /*
          * Since we need to build data node from top node, we should not
          * traverse back to parent for top node.
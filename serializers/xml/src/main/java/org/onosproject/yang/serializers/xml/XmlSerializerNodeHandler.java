@@ -18,6 +18,10 @@ package org.onosproject.yang.serializers.xml;
 
 /**
  * Represents a single instance node and multi instance node handler.
+ *
+ * @deprecated XML is encoded by writing data nodes straight to a stream
+ * writer, without building an element tree
  */
+@Deprecated
 public class XmlSerializerNodeHandler extends XmlSerializerHandler {
 }
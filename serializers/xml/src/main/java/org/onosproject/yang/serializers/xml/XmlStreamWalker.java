@@ -0,0 +1,220 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.serializers.xml;
+
+import org.onosproject.yang.runtime.Annotation;
+import org.onosproject.yang.runtime.DefaultAnnotation;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static javax.xml.stream.XMLStreamConstants.CDATA;
+import static javax.xml.stream.XMLStreamConstants.CHARACTERS;
+import static javax.xml.stream.XMLStreamConstants.END_DOCUMENT;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.SPACE;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+import static org.onosproject.yang.serializers.utils.SerializersUtil.getLatterSegment;
+import static org.onosproject.yang.serializers.utils.SerializersUtil.getPreSegment;
+import static org.onosproject.yang.serializers.xml.XmlNodeType.OBJECT_NODE;
+import static org.onosproject.yang.serializers.xml.XmlNodeType.TEXT_NODE;
+
+/**
+ * Represents implementation of xml walker, which walks the XML data as a
+ * stream of events read from a XML stream reader. Listener call backs are
+ * invoked as the events are read, so no XML document tree is built.
+ */
+class XmlStreamWalker {
+
+    private static final String COLON = ":";
+    private static final String EMPTY = "";
+
+    /**
+     * Moves the reader to the next child element of the element whose
+     * start was the last event read, skipping character data, comments
+     * and processing instructions.
+     *
+     * @param reader XML stream reader
+     * @return true if the reader is positioned at the start of a child
+     * element, false if it is positioned at the end of the element
+     * @throws XMLStreamException if the XML data could not be read
+     */
+    boolean nextChildElement(XMLStreamReader reader)
+            throws XMLStreamException {
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == START_ELEMENT) {
+                return true;
+            }
+            if (event == END_ELEMENT || event == END_DOCUMENT) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Walks the XML element at which the reader is positioned, including
+     * all of its descendants, and leaves the reader positioned at the end
+     * of the element.
+     *
+     * @param listener XML serializer listener
+     * @param reader   XML stream reader positioned at the start of the
+     *                 element
+     */
+    void walk(XmlSerializerListener listener, XMLStreamReader reader) {
+        try {
+            walkElement(listener, reader);
+        } catch (Exception e) {
+            throw new XmlSerializerException(e.getMessage());
+        }
+    }
+
+    private void walkElement(XmlSerializerListener listener,
+                             XMLStreamReader reader)
+            throws XMLStreamException {
+        String name = reader.getLocalName();
+        String namespace = reader.getNamespaceURI();
+        if (namespace == null) {
+            namespace = EMPTY;
+        }
+        List<Annotation> annotations = getAnnotations(reader);
+        // Prefixes declared on the element itself, for identity values.
+        String[][] declaredNs = getDeclaredNamespaces(reader);
+
+        /*
+         * Whether the element is an object node is known only after its
+         * first child element, or its end, has been read.
+         */
+        boolean entered = false;
+        String text = null;
+        StringBuilder texts = null;
+        while (true) {
+            int event = reader.next();
+            switch (event) {
+                case START_ELEMENT:
+                    if (!entered) {
+                        listener.enterXmlElement(name, namespace, null, null,
+                                                 OBJECT_NODE);
+                        entered = true;
+                    }
+                    walkElement(listener, reader);
+                    break;
+                case CHARACTERS:
+                case CDATA:
+                case SPACE:
+                    if (entered) {
+                        break;
+                    }
+                    if (text == null) {
+                        text = reader.getText();
+                    } else {
+                        if (texts == null) {
+                            texts = new StringBuilder(text);
+                        }
+                        texts.append(reader.getText());
+                    }
+                    break;
+                case END_ELEMENT:
+                    if (!entered) {
+                        enterLeafElement(listener, name, namespace,
+                                         texts == null ? text :
+                                                 texts.toString(),
+                                         declaredNs);
+                    }
+                    listener.exitXmlElement(annotations);
+                    return;
+                case END_DOCUMENT:
+                    throw new XMLStreamException("Unexpected end of XML " +
+                                                         "data in " + name);
+                default:
+                    // Comments and processing instructions are ignored.
+                    break;
+            }
+        }
+    }
+
+    private void enterLeafElement(XmlSerializerListener listener, String name,
+                                  String namespace, String text,
+                                  String[][] declaredNs) {
+        if (isBlank(text)) {
+            /*
+             * Blank content is either the indentation of an empty object
+             * node or the value of a leaf; the listener decides by the
+             * schema of the element.
+             */
+            listener.enterXmlElement(name, namespace, text, null,
+                                     OBJECT_NODE);
+            return;
+        }
+        String valPrefix = getPreSegment(text, COLON);
+        if (valPrefix != null) {
+            for (String[] ns : declaredNs) {
+                if (valPrefix.equals(ns[0])) {
+                    listener.enterXmlElement(
+                            name, namespace, getLatterSegment(text, COLON),
+                            ns[1], TEXT_NODE);
+                    return;
+                }
+            }
+        }
+        listener.enterXmlElement(name, namespace, text, null, TEXT_NODE);
+    }
+
+    private static boolean isBlank(String text) {
+        if (text == null) {
+            return true;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (!Character.isWhitespace(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<Annotation> getAnnotations(XMLStreamReader reader) {
+        int count = reader.getAttributeCount();
+        if (count == 0) {
+            return Collections.emptyList();
+        }
+        List<Annotation> annotations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String prefix = reader.getAttributePrefix(i);
+            String attrName = reader.getAttributeLocalName(i);
+            if (prefix != null && !prefix.isEmpty()) {
+                attrName = prefix + COLON + attrName;
+            }
+            annotations.add(new DefaultAnnotation(
+                    attrName, reader.getAttributeValue(i)));
+        }
+        return annotations;
+    }
+
+    private static String[][] getDeclaredNamespaces(XMLStreamReader reader) {
+        int count = reader.getNamespaceCount();
+        String[][] declared = new String[count][];
+        for (int i = 0; i < count; i++) {
+            declared[i] = new String[]{reader.getNamespacePrefix(i),
+                    reader.getNamespaceURI(i)};
+        }
+        return declared;
+    }
+}
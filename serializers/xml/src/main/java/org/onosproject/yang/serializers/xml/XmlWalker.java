@@ -22,7 +22,11 @@ import org.dom4j.Element;
  * Abstraction of an entity which provides interfaces for XML walk.
  * This interface serve as common tools for anyone who needs to parse the XML
  * node with depth-first algorithm.
+ *
+ * @deprecated XML is decoded by the stream walker, which does not build an
+ * element tree
  */
+@Deprecated
 interface XmlWalker {
 
     /**
@@ -43,6 +43,8 @@ import org.onosproject.yang.runtime.YangSerializerContext;
 import org.slf4j.Logger;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStream;
@@ -53,6 +55,7 @@ import java.util.Map;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
@@ -477,6 +480,22 @@ public class XmlSerializerTest {
         assertThat(convertInputStreamToString(inputStream), is(idXml));
     }
 
+    /**
+     * Validates XML encode straight to an output stream.
+     */
+    @Test
+    public void encodeToOutputStreamTest() throws IOException {
+        String path = "src/test/resources/id-test.xml";
+        DefaultCompositeStream external =
+                new DefaultCompositeStream(null, parseInput(path));
+        CompositeData compositeData = xmlSerializer.decode(external, context);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        String uri = ((XmlSerializer) xmlSerializer).encode(
+                compositeData, context, outputStream);
+        assertThat(uri, is(nullValue()));
+        assertThat(outputStream.toString("UTF-8"), is(idXml));
+    }
+
     /**
      * Validates the error message for identity-ref without proper namespace.
      */
@@ -527,6 +546,51 @@ public class XmlSerializerTest {
         assertThat(convertInputStreamToString(inputStream), is(parseXml(path)));
     }
 
+    /**
+     * Validates that XML data read as is, including line breaks and
+     * indentation, is decoded the same way as single line XML data.
+     */
+    @Test
+    public void testPrettyPrintedInput() throws IOException {
+        String path = "src/test/resources/testXmlAttributes.xml";
+        String namespace = "http://example.com/schema/1.2/config";
+
+        DefaultCompositeStream external = new DefaultCompositeStream(
+                null, new FileInputStream(path));
+        CompositeData compositeData = xmlSerializer.decode(external, context);
+        DataNode rootNode = validateRootDataNode(compositeData.resourceData());
+        DataNode top = validateContainerDataNode(rootNode, "top", namespace);
+        DataNode interfaceDn = validateContainerDataNode(top, "interface",
+                                                         namespace);
+        validateLeafDataNode(interfaceDn, "name", namespace, "Ethernet0/0");
+        DataNode address = validateContainerDataNode(interfaceDn, "address",
+                                                     namespace);
+        validateLeafDataNode(address, "prefix-length", namespace, "24");
+        assertThat(compositeData.annotatedNodesInfo().size(), is(1));
+    }
+
+    /**
+     * Validates that blank XML element content is decoded by the schema of
+     * the element, as the value of a leaf and as the indentation of an
+     * empty container.
+     */
+    @Test
+    public void testBlankElementContent() {
+        String xml = "<c2 xmlns=\"yrt:food\"><p3>  </p3></c2>" +
+                "<c4 xmlns=\"yrt:animal\">\n  </c4>";
+
+        DefaultCompositeStream external = new DefaultCompositeStream(
+                null, IOUtils.toInputStream(xml));
+        CompositeData compositeData = xmlSerializer.decode(external, context);
+        DataNode rootNode = validateRootDataNode(compositeData.resourceData());
+        DataNode c2 = validateContainerDataNode(rootNode, "c2", "yrt:food");
+        NodeKey p3 = NodeKey.builder().schemaId("p3", "yrt:food").build();
+        LeafNode leaf = (LeafNode) ((InnerNode) c2).childNodes().get(p3);
+        assertThat(leaf.value(), is("  "));
+        DataNode c4 = validateContainerDataNode(rootNode, "c4", "yrt:animal");
+        assertThat(((InnerNode) c4).childNodes().isEmpty(), is(true));
+    }
+
     private CompositeData getNewCompositeData(CompositeData data) {
         List<AnnotatedNodeInfo> annotatedNodeInfos = data
                 .annotatedNodesInfo();